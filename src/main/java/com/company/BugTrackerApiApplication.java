@@ -3,6 +3,7 @@ package com.company;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -16,6 +17,7 @@ import static com.company.constant.FileConstant.USER_FOLDER;
 import static com.company.constant.SecurityConstant.*;
 
 @SpringBootApplication
+@EnableScheduling
 public class BugTrackerApiApplication
 {
 	public static void main(String[] args)
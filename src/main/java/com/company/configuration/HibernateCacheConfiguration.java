@@ -0,0 +1,81 @@
+package com.company.configuration;
+
+import com.company.entity.Authority;
+import com.company.entity.Project;
+import com.company.entity.Role;
+import com.company.entity.User;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.company.constant.CacheConstant.*;
+
+@Configuration
+public class HibernateCacheConfiguration
+{
+    @Bean
+    public CacheManager hibernateCacheManager()
+    {
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder.newConfigurationBuilder()
+                .withCache(Role.class.getName(), getCacheConfiguration(REFERENCE_CACHE_SIZE, REFERENCE_CACHE_TTL_MINUTES))
+                .withCache(Role.class.getName() + ".authorities", getCacheConfiguration(REFERENCE_CACHE_SIZE, REFERENCE_CACHE_TTL_MINUTES))
+                .withCache(Authority.class.getName(), getCacheConfiguration(REFERENCE_CACHE_SIZE, REFERENCE_CACHE_TTL_MINUTES))
+                .withCache(User.class.getName(), getCacheConfiguration(USER_CACHE_SIZE, ENTITY_CACHE_TTL_MINUTES))
+                .withCache(Project.class.getName(), getCacheConfiguration(PROJECT_CACHE_SIZE, ENTITY_CACHE_TTL_MINUTES))
+                .withCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                        getCacheConfiguration(QUERY_CACHE_SIZE, REFERENCE_CACHE_TTL_MINUTES))
+                .withCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                        getCacheConfiguration(UPDATE_TIMESTAMPS_CACHE_SIZE, ExpiryPolicyBuilder.noExpiration()))
+                .build();
+
+        // -the provider hands out one shared manager per URI, a unique one keeps each application context's caches apart
+        EhcacheCachingProvider cachingProvider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        return cachingProvider.getCacheManager(URI.create(HIBERNATE_CACHE_MANAGER_URI + UUID.randomUUID()), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager)
+    {
+        return properties ->
+        {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MISSING_CACHE_STRATEGY_FAIL);
+
+            // -hit and miss counters per region for CacheStatisticsService, without logging metrics for every session
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private static CacheConfiguration<Object, Object> getCacheConfiguration(long size, long ttlMinutes)
+    {
+        return getCacheConfiguration(size, ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofMinutes(ttlMinutes)));
+    }
+
+    private static CacheConfiguration<Object, Object> getCacheConfiguration(long size, ExpiryPolicy<Object, Object> expiryPolicy)
+    {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(size))
+                .withExpiry(expiryPolicy)
+                .build();
+    }
+}
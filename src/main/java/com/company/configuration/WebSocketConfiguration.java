@@ -0,0 +1,46 @@
+package com.company.configuration;
+
+import com.company.jwt.filter.JwtChannelInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import static com.company.constant.SecurityConstant.ALLOWED_ORIGIN;
+import static com.company.constant.WebSocketConstant.*;
+
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
+{
+    private final JwtChannelInterceptor jwtChannelInterceptor;
+
+    @Autowired
+    public WebSocketConfiguration(JwtChannelInterceptor jwtChannelInterceptor)
+    {
+        this.jwtChannelInterceptor = jwtChannelInterceptor;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry)
+    {
+        registry.addEndpoint(WEBSOCKET_ENDPOINT).setAllowedOrigins(ALLOWED_ORIGIN);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry)
+    {
+        registry.enableSimpleBroker(QUEUE_PREFIX);
+        registry.setUserDestinationPrefix(USER_DESTINATION_PREFIX);
+    }
+
+    // -browsers cannot set headers on the websocket handshake, so the token is checked on the STOMP CONNECT frame instead
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration)
+    {
+        registration.interceptors(this.jwtChannelInterceptor);
+    }
+}
@@ -10,6 +10,8 @@ public class BugConstant
 
 
     public static final String STATUS_SUCCESSFULLY_SET = "Status successfully set!";
+    public static final String STATUS_CANNOT_BE_CHANGED_FROM = "Status cannot be changed from: ";
+    public static final String TO = " to: ";
 
     public static final String PROJECT_DOES_NOT_EXIST = "Project does not exist! Please specify a different project.";
     public static final String COULD_NOT_FIND_THE_USER = "Could not find the user!";
@@ -47,4 +49,25 @@ public class BugConstant
 
 
     public static final String NO_PERMISSION_TO_DELETE_BUG = "You have no permission to delete this bug!";
+
+
+    public static final String NO_BUGS_SELECTED = "No bugs selected!";
+    public static final String BUGS_SUCCESSFULLY_UPDATED = " bug(s) successfully updated!";
+    public static final String AND = " and ";
+    public static final String MORE = " more";
+    public static final String BUG_NAME_SEPARATOR = ", ";
+    public static final int MAXIMUM_BULK_OPERATION_SIZE = 500;
+    public static final String NO_BULK_OPERATION_SELECTED = "No bulk operation selected!";
+    public static final String TOO_MANY_BUGS_SELECTED = "No more than " + MAXIMUM_BULK_OPERATION_SIZE + " bugs can be updated at once!";
+    public static final String NO_STATUS_SELECTED = "No status selected!";
+    public static final int MAXIMUM_NOTIFICATION_DESCRIPTION_LENGTH = 255;
+
+
+    public static final String INVALID_CURSOR = "Invalid cursor!";
+    public static final String INVALID_PAGE_SIZE = "Page size must be greater than zero!";
+    public static final String INVALID_NUMBER_OF_DAYS = "Number of days cannot be negative!";
+    public static final String UNSUPPORTED_SORT_ORDER = "Unsupported sort order: ";
+    public static final String INVALID_DATE_RANGE = "Start date must be before end date!";
+    public static final int SEARCH_INDEX_REBUILD_BATCH_SIZE = 1000;
+    public static final int POSSIBLE_DUPLICATES_LIMIT = 5;
 }
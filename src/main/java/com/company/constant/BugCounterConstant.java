@@ -0,0 +1,15 @@
+package com.company.constant;
+
+public class BugCounterConstant
+{
+    // -the ALL scope keeps one counter per status, stored under this scope id
+    public static final long GLOBAL_SCOPE_ID = 0L;
+
+    public static final long RECONCILIATION_INITIAL_DELAY = 300_000;
+    public static final long RECONCILIATION_INTERVAL = 3_600_000;
+
+    // -rollup rows older than this are compacted nightly into one row per month, dated on its first day
+    public static final int ROLLUP_DAILY_RETENTION_DAYS = 90;
+    public static final String ROLLUP_COMPACTION_CRON = "0 30 3 * * *";
+    public static final String NO_ROLLUP_PER_ASSIGNEE = "Creation counts are not kept per assignee!";
+}
@@ -0,0 +1,20 @@
+package com.company.constant;
+
+public class CacheConstant
+{
+    // roles and authorities are effectively static, users and projects change through the services
+    public static final long REFERENCE_CACHE_SIZE = 100;
+    public static final long REFERENCE_CACHE_TTL_MINUTES = 60;
+
+    public static final long USER_CACHE_SIZE = 10_000;
+    public static final long PROJECT_CACHE_SIZE = 5_000;
+    public static final long ENTITY_CACHE_TTL_MINUTES = 10;
+
+    public static final long QUERY_CACHE_SIZE = 100;
+
+    // one entry per table, must never be evicted before the query results that depend on it
+    public static final long UPDATE_TIMESTAMPS_CACHE_SIZE = 1_000;
+
+    public static final String HIBERNATE_CACHE_MANAGER_URI = "urn:bug-tracker:hibernate-cache:";
+    public static final String MISSING_CACHE_STRATEGY_FAIL = "fail";
+}
@@ -0,0 +1,20 @@
+package com.company.constant;
+
+public class DataSourceConstant
+{
+    public static final String REPLICA_PROPERTIES_PREFIX = "spring.datasource.replica";
+    public static final String REPLICA_URL_PROPERTY = REPLICA_PROPERTIES_PREFIX + ".jdbc-url";
+
+    public static final String PRIMARY_POOL_NAME = "primary";
+    public static final String REPLICA_POOL_NAME = "replica";
+
+    // a user's own reads go to the primary for this long after each of their writes
+    public static final int READ_YOUR_WRITES_WINDOW_SECONDS = 5;
+    public static final int MAXIMUM_RECENT_WRITERS = 10_000;
+
+    public static final long REPLICA_LAG_CHECK_INTERVAL = 1_000;
+    public static final long MAXIMUM_REPLICA_LAG_MILLIS = 3_000;
+
+    public static final String SELECT_HEARTBEAT = "SELECT beat FROM replication_heartbeat WHERE id = 1";
+    public static final String UPDATE_HEARTBEAT = "UPDATE replication_heartbeat SET beat = ? WHERE id = 1";
+}
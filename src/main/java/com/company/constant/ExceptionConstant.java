@@ -13,5 +13,6 @@ public class ExceptionConstant
     public static final String PAGE_NOT_FOUND = "The page was not found!";
     public static final String ACCOUNT_HAS_EXPIRED = "Account has expired or is not confirmed!";
     public static final String ILLEGAL_ARGUMENT = "Invalid argument! Please enter a valid value.";
+    public static final String VERSION_CONFLICT = "This item has been changed by someone else in the meantime! Please reload it and try again.";
 
 }
@@ -0,0 +1,18 @@
+package com.company.constant;
+
+public class ExportConstant
+{
+    public static final String HEADER_KEY = "Content-Disposition";
+    public static final String ATTACHMENT_FILENAME = "attachment; filename=bugs_project_";
+
+    // rows pulled from the database cursor per round trip, the driver never holds more than that in memory
+    public static final String EXPORT_FETCH_SIZE = "1000";
+    public static final int EXPORT_FLUSH_INTERVAL = 1000;
+
+    public static final String LINE_SEPARATOR = "\n";
+    public static final String CSV_SEPARATOR = ",";
+    public static final String CSV_QUOTE = "\"";
+    public static final String CSV_ESCAPED_QUOTE = "\"\"";
+    public static final String CSV_HEADER = "id,name,description,classification,status,severity,creationDate," +
+                                            "creatorId,creatorEmail,assigneeId,assigneeEmail,projectId,projectName";
+}
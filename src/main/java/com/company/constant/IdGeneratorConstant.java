@@ -0,0 +1,11 @@
+package com.company.constant;
+
+public class IdGeneratorConstant
+{
+    public static final String ID_GENERATOR_TABLE = "id_generator";
+    public static final String SEQUENCE_NAME_COLUMN = "sequence_name";
+    public static final String NEXT_VAL_COLUMN = "next_val";
+
+    // number of ids reserved per round trip to the id_generator table, keep in line with hibernate.jdbc.batch_size
+    public static final int ID_ALLOCATION_SIZE = 50;
+}
@@ -6,4 +6,15 @@ public class NotificationConstant
     public static final String NOTIFICATION_CANNOT_BE_SENT = "Notification could not be sent, ";
     public static final String SENDER_NOT_FOUND = "because sender was not found!";
     public static final String RECEIVER_NOT_FOUND = "because receiver was not found!";
+
+    public static final int OUTBOX_INSERT_CHUNK_SIZE = 500;
+    public static final int OUTBOX_DISPATCH_BATCH_SIZE = 500;
+    public static final long OUTBOX_DISPATCH_INITIAL_DELAY = 10_000;
+    public static final long OUTBOX_DISPATCH_INTERVAL = 1_000;
+
+    public static final int UNSEEN_COUNTER_MAXIMUM_SIZE = 10_000;
+    public static final int UNSEEN_COUNTER_LOCK_STRIPES = 64;
+    public static final int UNSEEN_COUNTER_RECONCILIATION_CHUNK_SIZE = 500;
+    public static final long UNSEEN_COUNTER_RECONCILIATION_INITIAL_DELAY = 60_000;
+    public static final long UNSEEN_COUNTER_RECONCILIATION_INTERVAL = 300_000;
 }
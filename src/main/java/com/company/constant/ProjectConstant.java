@@ -20,5 +20,5 @@ public class ProjectConstant
     public static final String USER_IS_NOT_ASSIGNED_TO_PROJECT = "User is not assigned to project!";
     public static final String PARTICIPANTS_ADDED_SUCCESSFULLY = "Participants added successfully!";
     public static final String NO_PARTICIPANTS_SELECTED = "No participants have been selected!";
-    public static final String CONTAINS_NO_PARTICIPANTS = "Project does not contain participants!";
+    public static final int PARTICIPANT_INSERT_CHUNK_SIZE = 500;
 }
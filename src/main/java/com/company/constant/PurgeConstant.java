@@ -0,0 +1,11 @@
+package com.company.constant;
+
+public class PurgeConstant
+{
+    public static final long PURGE_INITIAL_DELAY = 60_000;
+    public static final long PURGE_INTERVAL = 5_000;
+
+    // rows removed per run, small enough to keep each purge transaction and its locks short
+    public static final int PURGE_BUG_CHUNK_SIZE = 500;
+    public static final int PURGE_PROJECT_CHUNK_SIZE = 20;
+}
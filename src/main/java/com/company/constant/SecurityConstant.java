@@ -12,7 +12,8 @@ public class SecurityConstant
     public static final String FORBIDDEN_MESSAGE = "You need to log in to access this page!";
     public static final String ACCESS_DENIED_MESSAGE = "You don't have permission to access this page!";
     public static final String OPTIONS_HTTP_METHOD = "OPTIONS";
-    public static final String [] PUBLIC_URLS = {"/authentication/login", "/authentication/register", "/user/image/**", "/user/account/**"};
+    public static final String [] PUBLIC_URLS = {"/authentication/login", "/authentication/register", "/user/image/**", "/user/account/**",
+                                                 "/notification/ws"};
 
     public static final String ALLOWED_ORIGIN = "http://localhost:4200";
     public static final String [] ALLOWED_HEADERS = {"Origin", "Access-Control-Allow-Origin", "Content-Type",
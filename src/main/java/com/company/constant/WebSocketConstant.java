@@ -0,0 +1,12 @@
+package com.company.constant;
+
+public class WebSocketConstant
+{
+    public static final String WEBSOCKET_ENDPOINT = "/notification/ws";
+    public static final String QUEUE_PREFIX = "/queue";
+    public static final String USER_DESTINATION_PREFIX = "/user/";
+    public static final String NOTIFICATIONS_QUEUE = "/queue/notifications";
+    public static final String UNSEEN_COUNT_QUEUE = "/queue/notifications/unseen";
+    public static final String ONLY_OWN_QUEUES_CAN_BE_SUBSCRIBED = "Only your own queues can be subscribed!";
+    public static final String ONLY_SUBSCRIPTIONS_ARE_ALLOWED = "Only subscriptions to your own queues are allowed!";
+}
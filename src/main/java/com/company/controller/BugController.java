@@ -1,24 +1,39 @@
 package com.company.controller;
 
+import com.company.domain.BugBulkRequest;
+import com.company.domain.BugFilter;
+import com.company.domain.CursorPage;
 import com.company.domain.HttpResponse;
 import com.company.dto.BugDTO;
+import com.company.dto.BugReportDTO;
+import com.company.dto.BugStatisticsDTO;
+import com.company.dto.BugTrendPointDTO;
 import com.company.entity.Bug;
 import com.company.enumeration.BugClassification;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugScope;
 import com.company.enumeration.BugSeverity;
 import com.company.enumeration.BugStatus;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.*;
 import com.company.exception.ExceptionHandler;
 import com.company.service.BugService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import static com.company.constant.BugConstant.*;
+import static com.company.utils.VersionUtils.parseIfMatch;
+import static com.company.utils.VersionUtils.toETag;
 
 @RestController
 @CrossOrigin("http://localhost:4200")
@@ -38,18 +53,19 @@ public class BugController extends ExceptionHandler
 
     @PostMapping(path = "{creatorId}/{projectId}")
     @PreAuthorize("hasAnyAuthority('user:create', 'project_leader:create')")
-    public ResponseEntity<BugDTO> addBug(@PathVariable(value = "creatorId") Long creatorId,
-                                         @PathVariable(value = "projectId") Long projectId,
-                                         @RequestBody Bug bug) throws UserNotFoundException, ProjectDoesNotExistException, BugDoesNotExistException, BugAlreadyExistException
+    public ResponseEntity<BugReportDTO> addBug(@PathVariable(value = "creatorId") Long creatorId,
+                                               @PathVariable(value = "projectId") Long projectId,
+                                               @RequestBody Bug bug) throws UserNotFoundException, ProjectDoesNotExistException, BugDoesNotExistException, BugAlreadyExistException
     {
 
-        BugDTO newBug = this.bugService.addOrUpdate(
+        BugReportDTO newBug = this.bugService.addOrUpdate(
                 creatorId, null, projectId, null,
                 bug.getName(),
                 bug.getDescription(),
                 bug.getClassification(),
                 BugStatus.NEW,
-                bug.getSeverity());
+                bug.getSeverity(),
+                null);
 
         return new ResponseEntity<>(newBug, HttpStatus.OK);
     }
@@ -58,24 +74,28 @@ public class BugController extends ExceptionHandler
 
     @PutMapping(path = "{currentBugId}/{editorId}/{projectId}")
     @PreAuthorize("hasAnyAuthority('user:update', 'project_leader:update')")
-    public ResponseEntity<BugDTO> updateBug(@PathVariable(value = "editorId") Long editorId,
+    public ResponseEntity<BugReportDTO> updateBug(@PathVariable(value = "editorId") Long editorId,
                                                   @PathVariable(value = "currentBugId") Long currentBugId,
                                                   @PathVariable(value = "projectId") Long projectId,
                                                   @RequestParam(value = "name") String newName,
                                                   @RequestParam(value = "classification") String classification,
                                                   @RequestParam(value = "status") String status,
                                                   @RequestParam(value = "severity") String severity,
-                                                  @RequestParam(value = "description") String description) throws UserNotFoundException, BugDoesNotExistException, ProjectDoesNotExistException, BugAlreadyExistException
+                                                  @RequestParam(value = "description") String description,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws UserNotFoundException, BugDoesNotExistException, ProjectDoesNotExistException, BugAlreadyExistException
     {
-        BugDTO updatedBug = bugService.addOrUpdate(
+        BugReportDTO updatedBug = bugService.addOrUpdate(
                 null, editorId, projectId, currentBugId,
                 newName,
                 description,
                 BugClassification.valueOf(classification),
                 BugStatus.valueOf(status),
-                BugSeverity.valueOf(severity));
+                BugSeverity.valueOf(severity),
+                parseIfMatch(ifMatch));
 
-        return new ResponseEntity<>(updatedBug, HttpStatus.OK);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(toETag(updatedBug.bug().version()));
+        return new ResponseEntity<>(updatedBug, headers, HttpStatus.OK);
     }
 
 
@@ -94,9 +114,10 @@ public class BugController extends ExceptionHandler
     @PutMapping(path = "{bugId}/{assigneeId}/assignee")
     @PreAuthorize("hasAuthority('project_leader:update')")
     public ResponseEntity<HttpResponse> assignUserToBug(@PathVariable(value = "bugId") Long bugId,
-                                                        @PathVariable(value = "assigneeId") Long assigneeId) throws UserNotFoundException, BugDoesNotExistException, UserAlreadyAssignedException
+                                                        @PathVariable(value = "assigneeId") Long assigneeId,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws UserNotFoundException, BugDoesNotExistException, UserAlreadyAssignedException
     {
-        this.bugService.setAssignee(bugId, assigneeId);
+        this.bugService.setAssignee(bugId, assigneeId, parseIfMatch(ifMatch));
         return HttpResponse.createResponse(HttpStatus.OK, WORKER_SUCCESSFULLY_ASSIGNED + NOTIFICATION_WAS_SENT);
     }
 
@@ -115,77 +136,198 @@ public class BugController extends ExceptionHandler
     @PutMapping("{bugId}/status")
     @PreAuthorize("hasAnyAuthority('user:update', 'project_leader:update')")
     public ResponseEntity<HttpResponse> setStatus(@PathVariable(value = "bugId") Long bugId,
-                                                  @RequestBody String status) throws BugDoesNotExistException
+                                                  @RequestBody String status,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws BugDoesNotExistException, InvalidStatusTransitionException
     {
-        this.bugService.setStatus(bugId, BugStatus.valueOf(status));
+        this.bugService.setStatus(bugId, BugStatus.valueOf(status), parseIfMatch(ifMatch));
         return HttpResponse.createResponse(HttpStatus.OK, STATUS_SUCCESSFULLY_SET);
     }
 
 
 
+    @PutMapping(path = "bulk")
+    @PreAuthorize("hasAuthority('project_leader:update')")
+    public ResponseEntity<HttpResponse> applyBulkOperation(@RequestBody BugBulkRequest bugBulkRequest) throws UserNotFoundException, BugDoesNotExistException
+    {
+        int updatedBugs = this.bugService.applyBulkOperation(
+                bugBulkRequest.bugIds(),
+                bugBulkRequest.operation(),
+                bugBulkRequest.status(),
+                bugBulkRequest.assigneeId());
+
+        return HttpResponse.createResponse(HttpStatus.OK, updatedBugs + BUGS_SUCCESSFULLY_UPDATED);
+    }
+
+
+
     @GetMapping(path = "{id}")
     @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
     public ResponseEntity<BugDTO> getBugById(@PathVariable(value = "id") Long bugId)
     {
         BugDTO bugById = this.bugService.getBugById(bugId);
-        return new ResponseEntity<>(bugById, HttpStatus.OK);
+
+        HttpHeaders headers = new HttpHeaders();
+        if(bugById != null)
+        {
+            headers.setETag(toETag(bugById.version()));
+        }
+
+        return new ResponseEntity<>(bugById, headers, HttpStatus.OK);
     }
 
 
 
     @GetMapping(path = "bugs/project")
     @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
-    public ResponseEntity<Page<BugDTO>> getBugsByProjectId(@RequestParam(value = "projectId") Long projectId,
+    public ResponseEntity<Slice<BugDTO>> getBugsByProjectId(@RequestParam(value = "projectId") Long projectId,
+                                                            @RequestParam(value = "page") int page,
+                                                            @RequestParam(value = "size") int size,
+                                                            @RequestParam(value = "sortOrder") String sortOrder,
+                                                            @RequestParam(value = "ascending") String ascending,
+                                                            @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
+    {
+        Slice<BugDTO> bugsPaginate = this.bugService.getBugsByProjectId(projectId, page, size, sortOrder, Boolean.parseBoolean(ascending), mode);
+        return new ResponseEntity<>(bugsPaginate, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "bugs/creator")
+    @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
+    public ResponseEntity<Slice<BugDTO>> getBugsByCreatorId(@RequestParam(value = "creatorId") Long creatorId,
+                                                          @RequestParam(value = "page") int page,
+                                                          @RequestParam(value = "size") int size,
+                                                          @RequestParam(value = "sortOrder") String sortOrder,
+                                                          @RequestParam(value = "ascending") String ascending,
+                                                          @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
+    {
+        Slice<BugDTO> bugsPaginate = this.bugService.getBugsByCreatorId(creatorId, page, size, sortOrder, Boolean.parseBoolean(ascending), mode);
+        return new ResponseEntity<>(bugsPaginate, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "bugs/assignee")
+    @PreAuthorize("hasAnyAuthority('user:read')")
+    public ResponseEntity<Slice<BugDTO>> getBugsByAssigneeId(@RequestParam(value = "assigneeId") Long assigneeId,
                                                            @RequestParam(value = "page") int page,
                                                            @RequestParam(value = "size") int size,
                                                            @RequestParam(value = "sortOrder") String sortOrder,
-                                                           @RequestParam(value = "ascending") String ascending)
+                                                           @RequestParam(value = "ascending") String ascending,
+                                                           @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<BugDTO> bugsPaginate = this.bugService.getBugsByProjectId(projectId, page, size, sortOrder, Boolean.parseBoolean(ascending));
+        Slice<BugDTO> bugsPaginate = this.bugService.getBugsByAssigneeId(assigneeId, page, size, sortOrder, Boolean.parseBoolean(ascending), mode);
         return new ResponseEntity<>(bugsPaginate, HttpStatus.OK);
     }
 
 
 
-    @GetMapping(path = "bugs/creator")
+    @GetMapping(path = "bugs/project-leader")
+    @PreAuthorize("hasAnyAuthority('project_leader:read')")
+    public ResponseEntity<Slice<BugDTO>> getBugsByProjectLeaderId(@RequestParam(value = "projectLeaderId") Long projectLeaderId,
+                                                                @RequestParam(value = "page") int page,
+                                                                @RequestParam(value = "size") int size,
+                                                                @RequestParam(value = "sortOrder") String sortOrder,
+                                                                @RequestParam(value = "ascending") String ascending,
+                                                                @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
+
+    {
+        Slice<BugDTO> bugsPaginate = this.bugService.getBugsByProjectLeaderId(projectLeaderId, page, size, sortOrder, Boolean.parseBoolean(ascending), mode);
+        return new ResponseEntity<>(bugsPaginate, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "bugs/filter")
     @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
-    public ResponseEntity<Page<BugDTO>> getBugsByCreatorId(@RequestParam(value = "creatorId") Long creatorId,
+    public ResponseEntity<Slice<BugDTO>> getBugsByFilter(@RequestParam(value = "status", required = false) Set<BugStatus> statuses,
+                                                         @RequestParam(value = "severity", required = false) Set<BugSeverity> severities,
+                                                         @RequestParam(value = "classification", required = false) Set<BugClassification> classifications,
+                                                         @RequestParam(value = "projectId", required = false) Long projectId,
+                                                         @RequestParam(value = "creatorId", required = false) Long creatorId,
+                                                         @RequestParam(value = "assigneeId", required = false) Long assigneeId,
+                                                         @RequestParam(value = "createdFrom", required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                         @RequestParam(value = "createdBefore", required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
                                                          @RequestParam(value = "page") int page,
                                                          @RequestParam(value = "size") int size,
                                                          @RequestParam(value = "sortOrder") String sortOrder,
-                                                         @RequestParam(value = "ascending") String ascending)
+                                                         @RequestParam(value = "ascending") String ascending,
+                                                         @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<BugDTO> bugsPaginate = this.bugService.getBugsByCreatorId(creatorId, page, size, sortOrder, Boolean.parseBoolean(ascending));
+        BugFilter filter = new BugFilter(statuses, severities, classifications,
+                projectId, creatorId, assigneeId, createdFrom, createdBefore);
+        Slice<BugDTO> bugsPaginate = this.bugService.getBugsByFilter(filter, page, size, sortOrder, Boolean.parseBoolean(ascending), mode);
         return new ResponseEntity<>(bugsPaginate, HttpStatus.OK);
     }
 
 
 
-    @GetMapping(path = "bugs/assignee")
+    @GetMapping(path = "bugs/project/cursor")
+    @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
+    public ResponseEntity<CursorPage<BugDTO>> getBugsByProjectIdAfterCursor(@RequestParam(value = "projectId") Long projectId,
+                                                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                                                            @RequestParam(value = "size") int size,
+                                                                            @RequestParam(value = "sortOrder") String sortOrder,
+                                                                            @RequestParam(value = "ascending") String ascending)
+    {
+        CursorPage<BugDTO> bugs = this.bugService.getBugsByScopeAfterCursor(BugScope.PROJECT, projectId, cursor, size, sortOrder, Boolean.parseBoolean(ascending));
+        return new ResponseEntity<>(bugs, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "bugs/creator/cursor")
+    @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
+    public ResponseEntity<CursorPage<BugDTO>> getBugsByCreatorIdAfterCursor(@RequestParam(value = "creatorId") Long creatorId,
+                                                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                                                            @RequestParam(value = "size") int size,
+                                                                            @RequestParam(value = "sortOrder") String sortOrder,
+                                                                            @RequestParam(value = "ascending") String ascending)
+    {
+        CursorPage<BugDTO> bugs = this.bugService.getBugsByScopeAfterCursor(BugScope.CREATOR, creatorId, cursor, size, sortOrder, Boolean.parseBoolean(ascending));
+        return new ResponseEntity<>(bugs, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "bugs/assignee/cursor")
     @PreAuthorize("hasAnyAuthority('user:read')")
-    public ResponseEntity<Page<BugDTO>> getBugsByAssigneeId(@RequestParam(value = "assigneeId") Long assigneeId,
-                                                          @RequestParam(value = "page") int page,
-                                                          @RequestParam(value = "size") int size,
-                                                          @RequestParam(value = "sortOrder") String sortOrder,
-                                                          @RequestParam(value = "ascending") String ascending)
+    public ResponseEntity<CursorPage<BugDTO>> getBugsByAssigneeIdAfterCursor(@RequestParam(value = "assigneeId") Long assigneeId,
+                                                                             @RequestParam(value = "cursor", required = false) String cursor,
+                                                                             @RequestParam(value = "size") int size,
+                                                                             @RequestParam(value = "sortOrder") String sortOrder,
+                                                                             @RequestParam(value = "ascending") String ascending)
     {
-        Page<BugDTO> bugsPaginate = this.bugService.getBugsByAssigneeId(assigneeId, page, size, sortOrder, Boolean.parseBoolean(ascending));
-        return new ResponseEntity<>(bugsPaginate, HttpStatus.OK);
+        CursorPage<BugDTO> bugs = this.bugService.getBugsByScopeAfterCursor(BugScope.ASSIGNEE, assigneeId, cursor, size, sortOrder, Boolean.parseBoolean(ascending));
+        return new ResponseEntity<>(bugs, HttpStatus.OK);
     }
 
 
 
-    @GetMapping(path = "bugs/project-leader")
+    @GetMapping(path = "bugs/project-leader/cursor")
     @PreAuthorize("hasAnyAuthority('project_leader:read')")
-    public ResponseEntity<Page<BugDTO>> getBugsByProjectLeaderId(@RequestParam(value = "projectLeaderId") Long projectLeaderId,
-                                                               @RequestParam(value = "page") int page,
-                                                               @RequestParam(value = "size") int size,
-                                                               @RequestParam(value = "sortOrder") String sortOrder,
-                                                               @RequestParam(value = "ascending") String ascending)
+    public ResponseEntity<CursorPage<BugDTO>> getBugsByProjectLeaderIdAfterCursor(@RequestParam(value = "projectLeaderId") Long projectLeaderId,
+                                                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                  @RequestParam(value = "size") int size,
+                                                                                  @RequestParam(value = "sortOrder") String sortOrder,
+                                                                                  @RequestParam(value = "ascending") String ascending)
+    {
+        CursorPage<BugDTO> bugs = this.bugService.getBugsByScopeAfterCursor(BugScope.PROJECT_LEADER, projectLeaderId, cursor, size, sortOrder, Boolean.parseBoolean(ascending));
+        return new ResponseEntity<>(bugs, HttpStatus.OK);
+    }
+
 
+
+    @GetMapping(path = "bugs/project/search")
+    @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
+    public ResponseEntity<List<BugDTO>> searchBugs(@RequestParam(value = "projectId") Long projectId,
+                                                   @RequestParam(value = "query") String query,
+                                                   @RequestParam(value = "size", defaultValue = "20") int size)
     {
-        Page<BugDTO> bugsPaginate = this.bugService.getBugsByProjectLeaderId(projectLeaderId, page, size, sortOrder, Boolean.parseBoolean(ascending));
-        return new ResponseEntity<>(bugsPaginate, HttpStatus.OK);
+        List<BugDTO> bugs = this.bugService.searchBugs(projectId, query, size);
+        return new ResponseEntity<>(bugs, HttpStatus.OK);
     }
 
 
@@ -289,4 +431,79 @@ public class BugController extends ExceptionHandler
         long count = this.bugService.getCountByProjectLeaderIdAndStatus(projectLeaderId, BugStatus.valueOf(status));
         return new ResponseEntity<>(count, HttpStatus.OK);
     }
+
+
+
+    @GetMapping(path = "stats")
+    @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
+    public ResponseEntity<BugStatisticsDTO> getStatistics(@RequestParam(value = "days", defaultValue = "30") int days)
+    {
+        BugStatisticsDTO statistics = this.bugService.getStatistics(BugCounterScope.ALL, null, days);
+        return new ResponseEntity<>(statistics, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "stats/creator")
+    @PreAuthorize("hasAnyAuthority('user:read')")
+    public ResponseEntity<BugStatisticsDTO> getStatisticsByCreator(@RequestParam(value = "creatorId") Long creatorId,
+                                                                   @RequestParam(value = "days", defaultValue = "30") int days)
+    {
+        BugStatisticsDTO statistics = this.bugService.getStatistics(BugCounterScope.CREATOR, creatorId, days);
+        return new ResponseEntity<>(statistics, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "stats/assignee")
+    @PreAuthorize("hasAnyAuthority('user:read')")
+    public ResponseEntity<BugStatisticsDTO> getStatisticsByAssignee(@RequestParam(value = "assigneeId") Long assigneeId,
+                                                                    @RequestParam(value = "days", defaultValue = "30") int days)
+    {
+        BugStatisticsDTO statistics = this.bugService.getStatistics(BugCounterScope.ASSIGNEE, assigneeId, days);
+        return new ResponseEntity<>(statistics, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "stats/project-leader")
+    @PreAuthorize("hasAnyAuthority('project_leader:read')")
+    public ResponseEntity<BugStatisticsDTO> getStatisticsByProjectLeader(@RequestParam(value = "projectLeaderId") Long projectLeaderId,
+                                                                         @RequestParam(value = "days", defaultValue = "30") int days)
+    {
+        BugStatisticsDTO statistics = this.bugService.getStatistics(BugCounterScope.PROJECT_LEADER, projectLeaderId, days);
+        return new ResponseEntity<>(statistics, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "trend")
+    @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
+    public ResponseEntity<List<BugTrendPointDTO>> getCreationTrend(@RequestParam(value = "days", defaultValue = "30") int days)
+    {
+        List<BugTrendPointDTO> trend = this.bugService.getCreationTrend(BugCounterScope.ALL, null, days);
+        return new ResponseEntity<>(trend, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "trend/creator")
+    @PreAuthorize("hasAnyAuthority('user:read')")
+    public ResponseEntity<List<BugTrendPointDTO>> getCreationTrendByCreator(@RequestParam(value = "creatorId") Long creatorId,
+                                                                         @RequestParam(value = "days", defaultValue = "30") int days)
+    {
+        List<BugTrendPointDTO> trend = this.bugService.getCreationTrend(BugCounterScope.CREATOR, creatorId, days);
+        return new ResponseEntity<>(trend, HttpStatus.OK);
+    }
+
+
+
+    @GetMapping(path = "trend/project-leader")
+    @PreAuthorize("hasAnyAuthority('project_leader:read')")
+    public ResponseEntity<List<BugTrendPointDTO>> getCreationTrendByProjectLeader(@RequestParam(value = "projectLeaderId") Long projectLeaderId,
+                                                                               @RequestParam(value = "days", defaultValue = "30") int days)
+    {
+        List<BugTrendPointDTO> trend = this.bugService.getCreationTrend(BugCounterScope.PROJECT_LEADER, projectLeaderId, days);
+        return new ResponseEntity<>(trend, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,37 @@
+package com.company.controller;
+
+import com.company.dto.CacheRegionStatisticsDTO;
+import com.company.exception.ExceptionHandler;
+import com.company.service.CacheStatisticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@CrossOrigin("http://localhost:4200")
+@RequestMapping("/cache")
+public class CacheController extends ExceptionHandler
+{
+    private final CacheStatisticsService cacheStatisticsService;
+
+
+    @Autowired
+    public CacheController(CacheStatisticsService cacheStatisticsService)
+    {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+
+
+    @GetMapping(path = "statistics")
+    @PreAuthorize("hasAnyAuthority('admin:create', 'admin:delete')")
+    public ResponseEntity<List<CacheRegionStatisticsDTO>> getCacheStatistics()
+    {
+        List<CacheRegionStatisticsDTO> statistics = this.cacheStatisticsService.getRegionStatistics();
+        return new ResponseEntity<>(statistics, HttpStatus.OK);
+    }
+}
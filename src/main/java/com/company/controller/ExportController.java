@@ -0,0 +1,44 @@
+package com.company.controller;
+
+import com.company.enumeration.ExportFormat;
+import com.company.exception.ExceptionHandler;
+import com.company.service.BugExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static com.company.constant.ExportConstant.*;
+
+@RestController
+@CrossOrigin("http://localhost:4200")
+@RequestMapping(path = "/export")
+public class ExportController extends ExceptionHandler
+{
+    private final BugExportService bugExportService;
+
+    @Autowired
+    public ExportController(BugExportService bugExportService)
+    {
+        this.bugExportService = bugExportService;
+    }
+
+
+    @GetMapping(path = "bugs/project")
+    @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
+    public ResponseEntity<StreamingResponseBody> exportBugsByProjectId(@RequestParam(value = "projectId") Long projectId,
+                                                                       @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format)
+    {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_TYPE, format.getContentType());
+        headers.add(HEADER_KEY, ATTACHMENT_FILENAME + projectId + format.getExtension());
+
+        StreamingResponseBody body = outputStream ->
+                this.bugExportService.exportBugsByProjectId(projectId, format, outputStream);
+
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+}
@@ -1,11 +1,12 @@
 package com.company.controller;
 
 import com.company.dto.NotificationDTO;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.ExceptionHandler;
 import com.company.exception.NotificationNotFoundException;
 import com.company.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -29,11 +30,12 @@ public class NotificationController extends ExceptionHandler
 
     @GetMapping
     @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
-    public ResponseEntity<Page<NotificationDTO>> getNotificationsByReceiverId(@RequestParam long receiverId,
-                                                                              @RequestParam int page,
-                                                                              @RequestParam int size)
+    public ResponseEntity<Slice<NotificationDTO>> getNotificationsByReceiverId(@RequestParam long receiverId,
+                                                                               @RequestParam int page,
+                                                                               @RequestParam int size,
+                                                                               @RequestParam(defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<NotificationDTO> notifications = this.notificationService.getNotificationsByReceiverId(receiverId, page, size);
+        Slice<NotificationDTO> notifications = this.notificationService.getNotificationsByReceiverId(receiverId, page, size, mode);
         return new ResponseEntity<>(notifications, HttpStatus.OK);
     }
 
@@ -77,4 +79,25 @@ public class NotificationController extends ExceptionHandler
         this.notificationService.setSeen(notificationId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+
+
+    @PutMapping(path = "{receiverId}/seen/all")
+    @PreAuthorize("hasAnyAuthority('user:update', 'project_leader:update')")
+    public ResponseEntity<Integer> markAllNotificationsSeen(@PathVariable() long receiverId)
+    {
+        int count = this.notificationService.markAllSeen(receiverId);
+        return new ResponseEntity<>(count, HttpStatus.OK);
+    }
+
+
+
+    @PutMapping(path = "{receiverId}/seen/up-to/{notificationId}")
+    @PreAuthorize("hasAnyAuthority('user:update', 'project_leader:update')")
+    public ResponseEntity<Integer> markNotificationsSeenUpTo(@PathVariable() long receiverId,
+                                                             @PathVariable() long notificationId)
+    {
+        int count = this.notificationService.markSeenUpTo(receiverId, notificationId);
+        return new ResponseEntity<>(count, HttpStatus.OK);
+    }
 }
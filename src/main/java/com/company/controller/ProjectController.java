@@ -4,11 +4,13 @@ import com.company.domain.HttpResponse;
 import com.company.dto.ProjectDTO;
 import com.company.entity.Project;
 import com.company.entity.User;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.*;
 import com.company.exception.ExceptionHandler;
 import com.company.service.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,6 +20,8 @@ import java.util.List;
 
 import static com.company.constant.ProjectConstant.PARTICIPANTS_ADDED_SUCCESSFULLY;
 import static com.company.constant.ProjectConstant.PARTICIPANT_UNASSIGNED_SUCCESSFULLY;
+import static com.company.utils.VersionUtils.parseIfMatch;
+import static com.company.utils.VersionUtils.toETag;
 
 @RestController
 @CrossOrigin("http://localhost:4200")
@@ -38,7 +42,7 @@ public class ProjectController extends ExceptionHandler
     public ResponseEntity<ProjectDTO> addProject(@PathVariable(value = "projectLeaderId") Long projectLeaderId,
                                                  @RequestBody Project project) throws ProjectDoesNotExistException, ProjectAlreadyExistsException, UserNotFoundException
     {
-        ProjectDTO newProject = this.projectService.addOrUpdate(projectLeaderId, null, project.getName(), project.getDescription());
+        ProjectDTO newProject = this.projectService.addOrUpdate(projectLeaderId, null, project.getName(), project.getDescription(), null);
         return new ResponseEntity<>(newProject, HttpStatus.OK);
     }
 
@@ -49,17 +53,21 @@ public class ProjectController extends ExceptionHandler
     public ResponseEntity<ProjectDTO> updateProject(@PathVariable(value = "projectLeaderId") Long projectLeaderId,
                                                   @RequestParam(value = "currentName") String currentName,
                                                   @RequestParam(value = "newName") String newName,
-                                                  @RequestParam(value = "newDescription") String newDescription) throws ProjectDoesNotExistException, ProjectAlreadyExistsException, UserNotFoundException
+                                                  @RequestParam(value = "newDescription") String newDescription,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws ProjectDoesNotExistException, ProjectAlreadyExistsException, UserNotFoundException
     {
-        ProjectDTO editedProject = this.projectService.addOrUpdate(projectLeaderId, currentName, newName, newDescription);
-        return new ResponseEntity<>(editedProject, HttpStatus.OK);
+        ProjectDTO editedProject = this.projectService.addOrUpdate(projectLeaderId, currentName, newName, newDescription, parseIfMatch(ifMatch));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(toETag(editedProject.version()));
+        return new ResponseEntity<>(editedProject, headers, HttpStatus.OK);
     }
 
 
 
     @DeleteMapping(path = "{projectId}")
     @PreAuthorize("hasAnyAuthority('project_leader:delete')")
-    public ResponseEntity<ProjectDTO> deleteProject(@PathVariable(value = "projectId") Long projectId) throws ProjectDoesNotExistException, UserNotFoundException
+    public ResponseEntity<ProjectDTO> deleteProject(@PathVariable(value = "projectId") Long projectId) throws ProjectDoesNotExistException
     {
         ProjectDTO deletedProject = this.projectService.deleteProject(projectId);
         return new ResponseEntity<>(deletedProject, HttpStatus.OK);
@@ -91,13 +99,14 @@ public class ProjectController extends ExceptionHandler
 
     @GetMapping(path = "projects/participant")
     @PreAuthorize("hasAnyAuthority('user:read')")
-    public ResponseEntity<Page<ProjectDTO>> getProjectsByParticipantId(@RequestParam("participantId") Long participantId,
-                                                                       @RequestParam("page") int page,
-                                                                       @RequestParam("size") int size,
-                                                                       @RequestParam("sortOrder") String sortOrder,
-                                                                       @RequestParam("ascending") String ascending)
+    public ResponseEntity<Slice<ProjectDTO>> getProjectsByParticipantId(@RequestParam("participantId") Long participantId,
+                                                                        @RequestParam("page") int page,
+                                                                        @RequestParam("size") int size,
+                                                                        @RequestParam("sortOrder") String sortOrder,
+                                                                        @RequestParam("ascending") String ascending,
+                                                                        @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<ProjectDTO> projects = projectService.getProjectsByParticipantId(participantId, page, size, sortOrder, Boolean.parseBoolean(ascending));
+        Slice<ProjectDTO> projects = projectService.getProjectsByParticipantId(participantId, page, size, sortOrder, Boolean.parseBoolean(ascending), mode);
         return new ResponseEntity<>(projects, HttpStatus.OK);
     }
 
@@ -105,13 +114,14 @@ public class ProjectController extends ExceptionHandler
 
     @GetMapping("projects/project-leader")
     @PreAuthorize("hasAnyAuthority('project_leader:read')")
-    public ResponseEntity<Page<ProjectDTO>> getProjectsByProjectLeaderId(@RequestParam("projectLeaderId") Long projectLeaderId,
-                                                                         @RequestParam("page") int page,
-                                                                         @RequestParam("size") int size,
-                                                                         @RequestParam("sortOrder") String sortOrder,
-                                                                         @RequestParam("ascending") String ascending)
+    public ResponseEntity<Slice<ProjectDTO>> getProjectsByProjectLeaderId(@RequestParam("projectLeaderId") Long projectLeaderId,
+                                                                          @RequestParam("page") int page,
+                                                                          @RequestParam("size") int size,
+                                                                          @RequestParam("sortOrder") String sortOrder,
+                                                                          @RequestParam("ascending") String ascending,
+                                                                          @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<ProjectDTO> projects = projectService.getProjectsByProjectLeaderId(projectLeaderId, page, size, sortOrder, Boolean.parseBoolean(ascending));
+        Slice<ProjectDTO> projects = projectService.getProjectsByProjectLeaderId(projectLeaderId, page, size, sortOrder, Boolean.parseBoolean(ascending), mode);
         return new ResponseEntity<>(projects, HttpStatus.OK);
     }
 }
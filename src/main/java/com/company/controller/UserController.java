@@ -2,13 +2,14 @@ package com.company.controller;
 
 import com.company.domain.*;
 import com.company.dto.UserDTO;
+import com.company.enumeration.PaginationMode;
 import com.company.enumeration.RoleEnum;
 import com.company.enumeration.UserSpeciality;
 import com.company.exception.*;
 import com.company.exception.ExceptionHandler;
 import com.company.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -153,10 +154,11 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "users")
     @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listAllUsers(@RequestParam(value = "page") int page,
-                                                      @RequestParam(value = "size") int size)
+    public ResponseEntity<Slice<UserDTO>> listAllUsers(@RequestParam(value = "page") int page,
+                                                       @RequestParam(value = "size") int size,
+                                                       @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> userPage = this.userService.getUsers(page, size);
+        Slice<UserDTO> userPage = this.userService.getUsers(page, size, mode);
         return new ResponseEntity<>(userPage, HttpStatus.OK);
     }
 
@@ -164,11 +166,12 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "users/name")
     @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listUsersByFullName(@RequestParam(value = "fullName") String fullName,
-                                                             @RequestParam(value = "page") int page,
-                                                             @RequestParam(value = "size") int size)
+    public ResponseEntity<Slice<UserDTO>> listUsersByFullName(@RequestParam(value = "fullName") String fullName,
+                                                              @RequestParam(value = "page") int page,
+                                                              @RequestParam(value = "size") int size,
+                                                              @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> userPage = this.userService.getUserByFullNameContaining(fullName, page, size);
+        Slice<UserDTO> userPage = this.userService.getUserByFullNameContaining(fullName, page, size, mode);
         return new ResponseEntity<>(userPage, HttpStatus.OK);
     }
 
@@ -176,11 +179,12 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "users/role")
     @PreAuthorize("hasAnyAuthority('user:read', 'project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listUsersByRole(@RequestParam(value = "role") String role,
-                                                         @RequestParam(value = "page") int page,
-                                                         @RequestParam(value = "size") int size)
+    public ResponseEntity<Slice<UserDTO>> listUsersByRole(@RequestParam(value = "role") String role,
+                                                          @RequestParam(value = "page") int page,
+                                                          @RequestParam(value = "size") int size,
+                                                          @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> userPage = this.userService.getUsersByRole(RoleEnum.valueOf(role), page, size);
+        Slice<UserDTO> userPage = this.userService.getUsersByRole(RoleEnum.valueOf(role), page, size, mode);
         return new ResponseEntity<>(userPage, HttpStatus.OK);
     }
 
@@ -188,12 +192,13 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "users/role/name")
     @PreAuthorize("hasAnyAuthority('project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listUsersByRoleAndFullName(@RequestParam(value = "role") String role,
-                                                                    @RequestParam(value = "fullName") String fullName,
-                                                                    @RequestParam(value = "page") int page,
-                                                                    @RequestParam(value = "size") int size)
+    public ResponseEntity<Slice<UserDTO>> listUsersByRoleAndFullName(@RequestParam(value = "role") String role,
+                                                                     @RequestParam(value = "fullName") String fullName,
+                                                                     @RequestParam(value = "page") int page,
+                                                                     @RequestParam(value = "size") int size,
+                                                                     @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> userPage = this.userService.getUsersByRoleAndFullName(RoleEnum.valueOf(role), fullName, page, size);
+        Slice<UserDTO> userPage = this.userService.getUsersByRoleAndFullName(RoleEnum.valueOf(role), fullName, page, size, mode);
         return new ResponseEntity<>(userPage, HttpStatus.OK);
     }
 
@@ -201,11 +206,12 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "users/not-participants")
     @PreAuthorize("hasAnyAuthority('project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listUsersNotInProject( @RequestParam(value = "projectId") Long projectId,
-                                                                @RequestParam(value = "page") int page,
-                                                                @RequestParam(value = "size") int size)
+    public ResponseEntity<Slice<UserDTO>> listUsersNotInProject( @RequestParam(value = "projectId") Long projectId,
+                                                                 @RequestParam(value = "page") int page,
+                                                                 @RequestParam(value = "size") int size,
+                                                                 @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> userPage = this.userService.getUsersNotInProject(projectId, page, size);
+        Slice<UserDTO> userPage = this.userService.getUsersNotInProject(projectId, page, size, mode);
         return new ResponseEntity<>(userPage, HttpStatus.OK);
     }
 
@@ -213,12 +219,13 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "users/name/not-participants")
     @PreAuthorize("hasAnyAuthority('project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listUsersByFullNameAndNotInProject(@RequestParam(value = "fullName") String fullName,
-                                                                            @RequestParam(value = "projectId") Long projectId,
-                                                                            @RequestParam(value = "page") int page,
-                                                                            @RequestParam(value = "size") int size)
+    public ResponseEntity<Slice<UserDTO>> listUsersByFullNameAndNotInProject(@RequestParam(value = "fullName") String fullName,
+                                                                             @RequestParam(value = "projectId") Long projectId,
+                                                                             @RequestParam(value = "page") int page,
+                                                                             @RequestParam(value = "size") int size,
+                                                                             @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> userPage = this.userService.getUsersByFullNameAndNotInProject(fullName, projectId, page, size);
+        Slice<UserDTO> userPage = this.userService.getUsersByFullNameAndNotInProject(fullName, projectId, page, size, mode);
         return new ResponseEntity<>(userPage, HttpStatus.OK);
     }
 
@@ -226,13 +233,14 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "participants")
     @PreAuthorize("hasAnyAuthority('project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listParticipantsByProjectId(@RequestParam(value = "projectId") Long projectId,
-                                                                     @RequestParam(value = "page") int page,
-                                                                     @RequestParam(value = "size") int size,
-                                                                     @RequestParam(value = "sortOrder") String sortOrder,
-                                                                     @RequestParam(value = "ascending") String ascending)
+    public ResponseEntity<Slice<UserDTO>> listParticipantsByProjectId(@RequestParam(value = "projectId") Long projectId,
+                                                                      @RequestParam(value = "page") int page,
+                                                                      @RequestParam(value = "size") int size,
+                                                                      @RequestParam(value = "sortOrder") String sortOrder,
+                                                                      @RequestParam(value = "ascending") String ascending,
+                                                                      @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> usersPage = this.userService.getParticipantsByProjectId(projectId, page, size, sortOrder, Boolean.parseBoolean(ascending));
+        Slice<UserDTO> usersPage = this.userService.getParticipantsByProjectId(projectId, page, size, sortOrder, Boolean.parseBoolean(ascending), mode);
         return new ResponseEntity<>(usersPage, HttpStatus.OK);
     }
 
@@ -240,12 +248,13 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "participants/name")
     @PreAuthorize("hasAnyAuthority('project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listParticipantsByFullNameAndProjectId(@RequestParam(value = "fullName") String fullName,
-                                                                                @RequestParam(value = "projectId") Long projectId,
-                                                                                @RequestParam(value = "page") int page,
-                                                                                @RequestParam(value = "size") int size)
+    public ResponseEntity<Slice<UserDTO>> listParticipantsByFullNameAndProjectId(@RequestParam(value = "fullName") String fullName,
+                                                                                 @RequestParam(value = "projectId") Long projectId,
+                                                                                 @RequestParam(value = "page") int page,
+                                                                                 @RequestParam(value = "size") int size,
+                                                                                 @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> usersPage = this.userService.getParticipantsByFullNameAndProjectId(fullName, projectId, page, size);
+        Slice<UserDTO> usersPage = this.userService.getParticipantsByFullNameAndProjectId(fullName, projectId, page, size, mode);
         return new ResponseEntity<>(usersPage, HttpStatus.OK);
     }
 
@@ -253,14 +262,15 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "participants/exclude")
     @PreAuthorize("hasAnyAuthority('project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listParticipantsByProjectIdExcludeParticipant(@RequestParam(value = "projectId") Long projectId,
-                                                                                       @RequestParam(value = "participantId") Long participantId,
-                                                                                       @RequestParam(value = "page") int page,
-                                                                                       @RequestParam(value = "size") int size,
-                                                                                       @RequestParam(value = "sortOrder") String sortOrder,
-                                                                                       @RequestParam(value = "ascending") String ascending)
+    public ResponseEntity<Slice<UserDTO>> listParticipantsByProjectIdExcludeParticipant(@RequestParam(value = "projectId") Long projectId,
+                                                                                        @RequestParam(value = "participantId") Long participantId,
+                                                                                        @RequestParam(value = "page") int page,
+                                                                                        @RequestParam(value = "size") int size,
+                                                                                        @RequestParam(value = "sortOrder") String sortOrder,
+                                                                                        @RequestParam(value = "ascending") String ascending,
+                                                                                        @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> usersPage = this.userService.getParticipantsByProjectIdAndExcludeParticipant(projectId, participantId, page, size, sortOrder, Boolean.parseBoolean(ascending));
+        Slice<UserDTO> usersPage = this.userService.getParticipantsByProjectIdAndExcludeParticipant(projectId, participantId, page, size, sortOrder, Boolean.parseBoolean(ascending), mode);
         return new ResponseEntity<>(usersPage, HttpStatus.OK);
     }
 
@@ -268,13 +278,14 @@ public class UserController extends ExceptionHandler
 
     @GetMapping(path = "participants/name/exclude")
     @PreAuthorize("hasAnyAuthority('project_leader:read')")
-    public ResponseEntity<Page<UserDTO>> listParticipantsByFullNameAndProjectIdExcludeParticipant(@RequestParam String fullName,
-                                                                                                  @RequestParam(value = "projectId") Long projectId,
-                                                                                                  @RequestParam(value = "participantId") Long participantId,
-                                                                                                  @RequestParam(value = "page") int page,
-                                                                                                  @RequestParam(value = "size") int size)
+    public ResponseEntity<Slice<UserDTO>> listParticipantsByFullNameAndProjectIdExcludeParticipant(@RequestParam String fullName,
+                                                                                                   @RequestParam(value = "projectId") Long projectId,
+                                                                                                   @RequestParam(value = "participantId") Long participantId,
+                                                                                                   @RequestParam(value = "page") int page,
+                                                                                                   @RequestParam(value = "size") int size,
+                                                                                                   @RequestParam(value = "mode", defaultValue = "PAGE") PaginationMode mode)
     {
-        Page<UserDTO> usersPage = this.userService.getParticipantsByFullNameAndProjectIdExcludeParticipant(fullName, projectId, participantId, page, size);
+        Slice<UserDTO> usersPage = this.userService.getParticipantsByFullNameAndProjectIdExcludeParticipant(fullName, projectId, participantId, page, size, mode);
         return new ResponseEntity<>(usersPage, HttpStatus.OK);
     }
 
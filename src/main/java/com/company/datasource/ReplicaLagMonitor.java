@@ -0,0 +1,67 @@
+package com.company.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.company.constant.DataSourceConstant.*;
+
+public class ReplicaLagMonitor
+{
+    private final Logger LOGGER = LoggerFactory.getLogger(getClass());
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    private volatile boolean replicaUpToDate;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource)
+    {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+    }
+
+    public boolean isReplicaUpToDate()
+    {
+        return this.replicaUpToDate;
+    }
+
+    // -the primary stores a heartbeat on every check, the age of the newest heartbeat that reached the replica is its lag
+    @Scheduled(fixedDelay = REPLICA_LAG_CHECK_INTERVAL)
+    public void checkReplicaLag()
+    {
+        boolean upToDate;
+        try
+        {
+            Instant now = Instant.now();
+            Timestamp lastHeartbeat = this.replicaJdbcTemplate.queryForObject(SELECT_HEARTBEAT, Timestamp.class);
+            this.primaryJdbcTemplate.update(UPDATE_HEARTBEAT, Timestamp.from(now));
+
+            long lagMillis = lastHeartbeat == null ? Long.MAX_VALUE : Duration.between(lastHeartbeat.toInstant(), now).toMillis();
+            upToDate = lagMillis <= MAXIMUM_REPLICA_LAG_MILLIS;
+            if(!upToDate && this.replicaUpToDate)
+            {
+                LOGGER.warn("Replica is " + lagMillis + " ms behind the primary, reads fall back to the primary");
+            }
+        } catch (DataAccessException e)
+        {
+            upToDate = false;
+            if(this.replicaUpToDate)
+            {
+                LOGGER.warn("Replica lag could not be checked, reads fall back to the primary: " + e.getMessage());
+            }
+        }
+
+        if(upToDate && !this.replicaUpToDate)
+        {
+            LOGGER.info("Replica is up to date, read-only transactions go to the replica");
+        }
+        this.replicaUpToDate = upToDate;
+    }
+}
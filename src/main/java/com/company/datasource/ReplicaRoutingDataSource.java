@@ -0,0 +1,78 @@
+package com.company.datasource;
+
+import com.company.enumeration.DataSourceType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.company.constant.DataSourceConstant.MAXIMUM_RECENT_WRITERS;
+import static com.company.constant.DataSourceConstant.READ_YOUR_WRITES_WINDOW_SECONDS;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource
+{
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor)
+    {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.recentWriters = CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(READ_YOUR_WRITES_WINDOW_SECONDS, TimeUnit.SECONDS)
+                .maximumSize(MAXIMUM_RECENT_WRITERS)
+                .build();
+
+        this.setTargetDataSources(Map.of(DataSourceType.PRIMARY, primaryDataSource, DataSourceType.REPLICA, replicaDataSource));
+        this.setDefaultTargetDataSource(primaryDataSource);
+        this.afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey()
+    {
+        String username = getCurrentUsername();
+        if(!TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+        {
+            this.rememberWriterOnCommit(username);
+            return DataSourceType.PRIMARY;
+        }
+
+        if(!this.replicaLagMonitor.isReplicaUpToDate() || (username != null && this.recentWriters.getIfPresent(username) != null))
+        {
+            return DataSourceType.PRIMARY;
+        }
+
+        return DataSourceType.REPLICA;
+    }
+
+    private void rememberWriterOnCommit(String username)
+    {
+        if(username == null || !TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+        {
+            @Override
+            public void afterCommit()
+            {
+                recentWriters.put(username, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static String getCurrentUsername()
+    {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+}
@@ -0,0 +1,16 @@
+package com.company.domain;
+
+import com.company.enumeration.BugBulkOperation;
+import com.company.enumeration.BugStatus;
+
+import java.util.List;
+
+
+public record BugBulkRequest
+        (
+                List<Long> bugIds,
+                BugBulkOperation operation,
+                BugStatus status,
+                Long assigneeId
+        )
+{}
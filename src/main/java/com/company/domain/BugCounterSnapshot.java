@@ -0,0 +1,76 @@
+package com.company.domain;
+
+import com.company.entity.Bug;
+import com.company.entity.Project;
+import com.company.entity.User;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugStatus;
+
+import javax.persistence.Tuple;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.company.constant.BugCounterConstant.GLOBAL_SCOPE_ID;
+
+public record BugCounterSnapshot
+        (
+                Long projectId,
+                Long projectLeaderId,
+                Long creatorId,
+                Long assigneeId,
+                BugStatus status,
+                LocalDate creationDay
+        )
+{
+    public static BugCounterSnapshot of(Bug bug)
+    {
+        Project project = bug.getProject();
+        User assignee = bug.getAssignee();
+
+        return new BugCounterSnapshot(project.getId(), project.getProjectLeader().getId(), bug.getCreator().getId(),
+                assignee == null ? null : assignee.getId(), bug.getStatus(), toDay(bug.getCreationDate()));
+    }
+
+    public static BugCounterSnapshot of(Tuple tuple)
+    {
+        return ofKeys(tuple).withCreationDay(toDay(tuple.get("creationDate", LocalDateTime.class)));
+    }
+
+    // -without a creation day the snapshot only applies to the counters, not to the daily rollup
+    public static BugCounterSnapshot ofKeys(Tuple tuple)
+    {
+        return new BugCounterSnapshot(tuple.get("projectId", Long.class),
+                tuple.get("projectLeaderId", Long.class),
+                tuple.get("creatorId", Long.class),
+                tuple.get("assigneeId", Long.class),
+                tuple.get("status", BugStatus.class),
+                null);
+    }
+
+    public BugCounterSnapshot withStatus(BugStatus status)
+    {
+        return new BugCounterSnapshot(this.projectId, this.projectLeaderId, this.creatorId, this.assigneeId, status, this.creationDay);
+    }
+
+    public BugCounterSnapshot withCreationDay(LocalDate creationDay)
+    {
+        return new BugCounterSnapshot(this.projectId, this.projectLeaderId, this.creatorId, this.assigneeId, this.status, creationDay);
+    }
+
+    public Long getScopeId(BugCounterScope scope)
+    {
+        return switch (scope)
+        {
+            case ALL -> GLOBAL_SCOPE_ID;
+            case PROJECT -> this.projectId;
+            case CREATOR -> this.creatorId;
+            case ASSIGNEE -> this.assigneeId;
+            case PROJECT_LEADER -> this.projectLeaderId;
+        };
+    }
+
+    private static LocalDate toDay(LocalDateTime date)
+    {
+        return date == null ? null : date.toLocalDate();
+    }
+}
@@ -0,0 +1,115 @@
+package com.company.domain;
+
+import com.company.entity.Bug;
+import com.company.enumeration.BugClassification;
+import com.company.enumeration.BugSeverity;
+import com.company.enumeration.BugStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.company.constant.BugConstant.*;
+
+public record BugCursor
+        (
+                String sortOrder,
+                boolean ascending,
+                Comparable<?> sortValue,
+                Long id
+        )
+{
+    private static final String SEPARATOR = ":";
+    private static final String ASC = "asc";
+    private static final String DESC = "desc";
+
+    public static BugCursor of(Bug bug, String sortOrder, boolean ascending)
+    {
+        return new BugCursor(sortOrder, ascending, getSortValue(bug, sortOrder), bug.getId());
+    }
+
+    public static BugCursor decode(String cursor, String sortOrder, boolean ascending)
+    {
+        String[] parts;
+        try
+        {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = decoded.split(SEPARATOR, 4);
+        } catch (IllegalArgumentException e)
+        {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+
+        if(parts.length != 4 ||
+                !parts[0].equals(sortOrder) ||
+                !parts[1].equals(ascending ? ASC : DESC))
+        {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+
+        try
+        {
+            return new BugCursor(sortOrder, ascending, parseSortValue(sortOrder, parts[3]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e)
+        {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode()
+    {
+        String raw = this.sortOrder + SEPARATOR +
+                (this.ascending ? ASC : DESC) + SEPARATOR +
+                this.id + SEPARATOR +
+                formatSortValue(this.sortValue);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void validateSortOrder(String sortOrder)
+    {
+        switch (sortOrder)
+        {
+            case "id", "name", "classification", "status", "severity", "creationDate" -> {}
+            default -> throw new IllegalArgumentException(UNSUPPORTED_SORT_ORDER + sortOrder);
+        }
+    }
+
+    private static Comparable<?> getSortValue(Bug bug, String sortOrder)
+    {
+        return switch (sortOrder)
+                {
+                    case "id" -> bug.getId();
+                    case "name" -> bug.getName();
+                    case "classification" -> bug.getClassification();
+                    case "status" -> bug.getStatus();
+                    case "severity" -> bug.getSeverity();
+                    case "creationDate" -> bug.getCreationDate();
+                    default -> throw new IllegalArgumentException(UNSUPPORTED_SORT_ORDER + sortOrder);
+                };
+    }
+
+    private static Comparable<?> parseSortValue(String sortOrder, String value)
+    {
+        return switch (sortOrder)
+                {
+                    case "id" -> Long.valueOf(value);
+                    case "name" -> value;
+                    case "classification" -> BugClassification.valueOf(value);
+                    case "status" -> BugStatus.valueOf(value);
+                    case "severity" -> BugSeverity.valueOf(value);
+                    case "creationDate" -> LocalDateTime.parse(value);
+                    default -> throw new IllegalArgumentException(UNSUPPORTED_SORT_ORDER + sortOrder);
+                };
+    }
+
+    private static String formatSortValue(Comparable<?> sortValue)
+    {
+        if(sortValue instanceof Enum<?> enumValue)
+        {
+            return enumValue.name();
+        }
+
+        return String.valueOf(sortValue);
+    }
+}
@@ -0,0 +1,22 @@
+package com.company.domain;
+
+import com.company.enumeration.BugClassification;
+import com.company.enumeration.BugSeverity;
+import com.company.enumeration.BugStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+
+public record BugFilter
+        (
+                Set<BugStatus> statuses,
+                Set<BugSeverity> severities,
+                Set<BugClassification> classifications,
+                Long projectId,
+                Long creatorId,
+                Long assigneeId,
+                LocalDateTime createdFrom,
+                LocalDateTime createdBefore
+        )
+{}
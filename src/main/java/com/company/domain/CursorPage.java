@@ -0,0 +1,12 @@
+package com.company.domain;
+
+import java.util.List;
+
+public record CursorPage<T>
+        (
+                List<T> content,
+                int size,
+                boolean hasNext,
+                String nextCursor
+        )
+{}
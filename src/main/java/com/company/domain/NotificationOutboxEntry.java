@@ -0,0 +1,11 @@
+package com.company.domain;
+
+import java.time.LocalDateTime;
+
+public record NotificationOutboxEntry
+        (
+                Long id,
+                NotificationRequest request,
+                LocalDateTime createdDate
+        )
+{}
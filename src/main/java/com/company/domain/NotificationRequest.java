@@ -0,0 +1,11 @@
+package com.company.domain;
+
+
+public record NotificationRequest
+        (
+                Long senderId,
+                Long receiverId,
+                String title,
+                String description
+        )
+{}
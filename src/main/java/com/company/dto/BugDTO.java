@@ -13,6 +13,7 @@ public record BugDTO
                 LocalDateTime creationDate,
                 UserDTO creator,
                 UserDTO assignee,
-                ProjectDTO project
+                ProjectDTO project,
+                Long version
         )
 {}
@@ -0,0 +1,13 @@
+package com.company.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+
+public record BugReportDTO
+        (
+                @JsonUnwrapped
+                BugDTO bug,
+                List<BugDTO> possibleDuplicates
+        )
+{}
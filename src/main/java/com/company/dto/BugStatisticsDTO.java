@@ -0,0 +1,11 @@
+package com.company.dto;
+
+import java.util.Map;
+
+public record BugStatisticsDTO(
+        long total,
+        Map<String, Long> countsByStatus,
+        int days,
+        long createdInLastDays
+)
+{}
@@ -0,0 +1,9 @@
+package com.company.dto;
+
+import java.time.LocalDate;
+
+public record BugTrendPointDTO(
+        LocalDate day,
+        long count
+)
+{}
@@ -0,0 +1,10 @@
+package com.company.dto;
+
+public record CacheRegionStatisticsDTO(
+        String region,
+        long hitCount,
+        long missCount,
+        long putCount,
+        double hitRatio
+)
+{}
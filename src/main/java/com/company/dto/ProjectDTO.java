@@ -1,10 +1,34 @@
 package com.company.dto;
 
+import com.company.enumeration.UserSpeciality;
+
 public record ProjectDTO
         (
                 Long id,
                 String name,
                 String description,
-                UserDTO projectLeader
+                UserDTO projectLeader,
+                Long version
         )
-{}
+{
+    public ProjectDTO(Long id,
+                      String name,
+                      String description,
+                      Long projectLeaderId,
+                      String projectLeaderFirstName,
+                      String projectLeaderLastName,
+                      String projectLeaderEmail,
+                      UserSpeciality projectLeaderSpeciality,
+                      String projectLeaderProfileImageUrl,
+                      Long version)
+    {
+        this(id, name, description,
+                new UserDTO(projectLeaderId,
+                        projectLeaderFirstName,
+                        projectLeaderLastName,
+                        projectLeaderEmail,
+                        projectLeaderSpeciality,
+                        projectLeaderProfileImageUrl),
+                version);
+    }
+}
@@ -1,5 +1,7 @@
 package com.company.dto;
 
+import com.company.enumeration.UserSpeciality;
+
 public record UserDTO
         (
                 Long id,
@@ -8,4 +10,15 @@ public record UserDTO
                 String email,
                 String speciality,
                 String profileImageUrl
-        ) {}
+        )
+{
+    public UserDTO(Long id,
+                   String firstName,
+                   String lastName,
+                   String email,
+                   UserSpeciality speciality,
+                   String profileImageUrl)
+    {
+        this(id, firstName, lastName, email, speciality == null ? null : speciality.getName(), profileImageUrl);
+    }
+}
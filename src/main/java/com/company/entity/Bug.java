@@ -7,21 +7,42 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
+import static com.company.constant.IdGeneratorConstant.*;
+
 @Getter
 @Setter
 @Entity
 @Table(name = "bug")
+// -p.id is unique, so MySQL can pull the subquery up into a join: the project check is one eq_ref lookup per bug row,
+//  on the primary key or on idx_project_deleted, which carries the id, so no further index is needed
+@Where(clause = "deleted = false AND project_id IN (SELECT p.id FROM project p WHERE p.deleted = false)")
+@NamedEntityGraph(
+        name = Bug.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("creator"),
+                @NamedAttributeNode("assignee"),
+                @NamedAttributeNode(value = "project", subgraph = "project.projectLeader")},
+        subgraphs = @NamedSubgraph(name = "project.projectLeader", attributeNodes = @NamedAttributeNode("projectLeader")))
 public class Bug implements Serializable
 {
+    public static final String DETAILS_GRAPH = "Bug.details";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bug_id")
+    @TableGenerator(name = "bug_id", table = ID_GENERATOR_TABLE, pkColumnName = SEQUENCE_NAME_COLUMN,
+            valueColumnName = NEXT_VAL_COLUMN, pkColumnValue = "bug", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    private long version;
+
     private String name;
 
     private String description;
@@ -36,14 +57,16 @@ public class Bug implements Serializable
     @Enumerated(EnumType.STRING)
     private BugSeverity severity;
 
+    private boolean deleted;
+
     @Setter(AccessLevel.NONE)
     private LocalDateTime creationDate;
 
-    @OneToOne(optional = false, fetch = FetchType.LAZY)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name="creator_id", nullable = false)
     private User creator;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="assignee_id")
     private User assignee;
 
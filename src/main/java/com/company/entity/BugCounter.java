@@ -0,0 +1,25 @@
+package com.company.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "bug_counter")
+public class BugCounter implements Serializable
+{
+    @EmbeddedId
+    private BugCounterId id;
+
+    @Column(name = "bug_count")
+    private long count;
+
+    public BugCounter() {}
+}
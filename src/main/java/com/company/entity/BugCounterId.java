@@ -0,0 +1,40 @@
+package com.company.entity;
+
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugStatus;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.io.Serializable;
+import java.util.Comparator;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class BugCounterId implements Serializable, Comparable<BugCounterId>
+{
+    private static final Comparator<BugCounterId> ORDER = Comparator.comparing(BugCounterId::getScope)
+            .thenComparing(BugCounterId::getScopeId)
+            .thenComparing(BugCounterId::getStatus);
+
+    @Enumerated(EnumType.STRING)
+    private BugCounterScope scope;
+
+    private Long scopeId;
+
+    @Enumerated(EnumType.STRING)
+    private BugStatus status;
+
+    @Override
+    public int compareTo(BugCounterId other)
+    {
+        return ORDER.compare(this, other);
+    }
+}
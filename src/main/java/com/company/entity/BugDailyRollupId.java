@@ -0,0 +1,42 @@
+package com.company.entity;
+
+import com.company.enumeration.BugStatus;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Comparator;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class BugDailyRollupId implements Serializable, Comparable<BugDailyRollupId>
+{
+    private static final Comparator<BugDailyRollupId> ORDER = Comparator.comparing(BugDailyRollupId::getCreationDay)
+            .thenComparing(BugDailyRollupId::getProjectId)
+            .thenComparing(BugDailyRollupId::getCreatorId)
+            .thenComparing(BugDailyRollupId::getStatus);
+
+    private LocalDate creationDay;
+
+    private Long projectId;
+
+    private Long creatorId;
+
+    @Enumerated(EnumType.STRING)
+    private BugStatus status;
+
+    @Override
+    public int compareTo(BugDailyRollupId other)
+    {
+        return ORDER.compare(this, other);
+    }
+}
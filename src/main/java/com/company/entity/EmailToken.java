@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static com.company.constant.EmailTokenConstant.*;
+import static com.company.constant.IdGeneratorConstant.*;
 
 @Entity
 @Getter
@@ -19,7 +20,9 @@ import static com.company.constant.EmailTokenConstant.*;
 public class EmailToken implements Serializable
 {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "email_token_id")
+    @TableGenerator(name = "email_token_id", table = ID_GENERATOR_TABLE, pkColumnName = SEQUENCE_NAME_COLUMN,
+            valueColumnName = NEXT_VAL_COLUMN, pkColumnValue = "email_token", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     @Column(unique = true)
     private String token;
@@ -9,6 +9,8 @@ import javax.persistence.*;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
+import static com.company.constant.IdGeneratorConstant.*;
+
 @Getter
 @Entity
 @Builder
@@ -17,7 +19,9 @@ import java.time.LocalDateTime;
 public class Notification implements Serializable
 {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_id")
+    @TableGenerator(name = "notification_id", table = ID_GENERATOR_TABLE, pkColumnName = SEQUENCE_NAME_COLUMN,
+            valueColumnName = NEXT_VAL_COLUMN, pkColumnValue = "notification", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String title;
@@ -1,26 +1,43 @@
 package com.company.entity;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.io.Serializable;
 import java.util.List;
 
+import static com.company.constant.IdGeneratorConstant.*;
+
 @Getter
 @Setter
 @Entity
 @Table(name = "project")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Where(clause = "deleted = false")
 public class Project implements Serializable
 {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_id")
+    @TableGenerator(name = "project_id", table = ID_GENERATOR_TABLE, pkColumnName = SEQUENCE_NAME_COLUMN,
+            valueColumnName = NEXT_VAL_COLUMN, pkColumnValue = "project", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    private long version;
+
     private String name;
 
     private String description;
 
+    private boolean deleted;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "users_projects",
@@ -28,7 +45,7 @@ public class Project implements Serializable
             inverseJoinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id"))
     private List<User> participants;
     
-    @OneToOne(optional = false, fetch = FetchType.LAZY)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "project_leader_id", nullable = false)
     private User projectLeader;
 
@@ -4,6 +4,8 @@ import com.company.enumeration.RoleEnum;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.io.Serializable;
@@ -13,6 +15,8 @@ import java.util.List;
 @Getter
 @Setter
 @Table(name = "role")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Role implements Serializable
 {
     @Id
@@ -23,6 +27,7 @@ public class Role implements Serializable
     private RoleEnum name;
 
     @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinColumn(name = "role_id", nullable = false)
     private List<Authority> authorities;
 
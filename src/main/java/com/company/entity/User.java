@@ -8,6 +8,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.validator.routines.EmailValidator;
 
@@ -16,18 +18,27 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.company.constant.IdGeneratorConstant.*;
 import static com.company.constant.UserConstant.*;
 
 @Entity
 @Getter
 @Setter
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class User implements Serializable
 {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = ID_GENERATOR_TABLE, pkColumnName = SEQUENCE_NAME_COLUMN,
+            valueColumnName = NEXT_VAL_COLUMN, pkColumnValue = "users", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    private long version;
+
     private String firstName;
 
     private String lastName;
@@ -58,10 +69,7 @@ public class User implements Serializable
     @JoinColumn(name = "role_id", nullable = false)
     private Role role;
 
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(name = "users_projects",
-            joinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id"),
-            inverseJoinColumns = @JoinColumn(name = "project_id", referencedColumnName = "id"))
+    @ManyToMany(mappedBy = "participants", fetch = FetchType.LAZY)
     private List<Project> projectsAssigned;
 
     public User()
@@ -0,0 +1,8 @@
+package com.company.enumeration;
+
+public enum BugBulkOperation
+{
+    SET_STATUS,
+    SET_ASSIGNEE,
+    UNASSIGN
+}
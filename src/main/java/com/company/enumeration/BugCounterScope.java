@@ -0,0 +1,20 @@
+package com.company.enumeration;
+
+import lombok.Getter;
+
+@Getter
+public enum BugCounterScope
+{
+    ALL(null),
+    PROJECT("project"),
+    CREATOR("creator"),
+    ASSIGNEE("assignee"),
+    PROJECT_LEADER("project.projectLeader");
+
+    private final String path;
+
+    BugCounterScope(String path)
+    {
+        this.path = path;
+    }
+}
@@ -0,0 +1,19 @@
+package com.company.enumeration;
+
+import lombok.Getter;
+
+@Getter
+public enum BugScope
+{
+    PROJECT("project"),
+    CREATOR("creator"),
+    ASSIGNEE("assignee"),
+    PROJECT_LEADER("project.projectLeader");
+
+    private final String path;
+
+    BugScope(String path)
+    {
+        this.path = path;
+    }
+}
@@ -2,6 +2,9 @@ package com.company.enumeration;
 
 import lombok.Getter;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Getter
 public enum BugStatus
 {
@@ -20,4 +23,24 @@ public enum BugStatus
     {
         this.name = name;
     }
+
+    public Set<BugStatus> getPredecessors()
+    {
+        return switch (this)
+        {
+            case NEW -> EnumSet.noneOf(BugStatus.class);
+            case ASSIGNED -> EnumSet.of(NEW);
+            case OPEN -> EnumSet.of(ASSIGNED, RETEST);
+            case FIXED -> EnumSet.of(OPEN);
+            case PENDING_RETEST -> EnumSet.of(FIXED);
+            case RETEST -> EnumSet.of(PENDING_RETEST);
+            case VERIFIED -> EnumSet.of(RETEST);
+            case CLOSED -> EnumSet.of(VERIFIED);
+        };
+    }
+
+    public boolean canFollow(BugStatus status)
+    {
+        return this.getPredecessors().contains(status);
+    }
 }
@@ -0,0 +1,7 @@
+package com.company.enumeration;
+
+public enum DataSourceType
+{
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,19 @@
+package com.company.enumeration;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat
+{
+    NDJSON("application/x-ndjson", ".ndjson"),
+    CSV("text/csv", ".csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension)
+    {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
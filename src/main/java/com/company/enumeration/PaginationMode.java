@@ -0,0 +1,7 @@
+package com.company.enumeration;
+
+public enum PaginationMode
+{
+    PAGE,
+    SLICE
+}
@@ -1,6 +1,6 @@
 package com.company.exception;
 
-public class EmptyListException extends Exception
+public class EmptyListException extends RuntimeException
 {
     public EmptyListException(String message)
     {
@@ -3,6 +3,7 @@ package com.company.exception;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.company.domain.HttpResponse;
 import org.springframework.boot.web.servlet.error.ErrorController;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -151,6 +152,12 @@ public class ExceptionHandler implements ErrorController
         return createHttpResponse(HttpStatus.BAD_REQUEST, bugDoesNotExistException.getMessage());
     }
 
+    @org.springframework.web.bind.annotation.ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<HttpResponse> invalidStatusTransitionException(InvalidStatusTransitionException invalidStatusTransitionException)
+    {
+        return createHttpResponse(HttpStatus.BAD_REQUEST, invalidStatusTransitionException.getMessage());
+    }
+
     // PROJECT
 
     @org.springframework.web.bind.annotation.ExceptionHandler(ProjectDoesNotExistException.class)
@@ -194,6 +201,22 @@ public class ExceptionHandler implements ErrorController
 
 
 
+    // CONCURRENCY
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<HttpResponse> versionConflictException(VersionConflictException versionConflictException)
+    {
+        return createHttpResponse(HttpStatus.CONFLICT, versionConflictException.getMessage());
+    }
+
+    @org.springframework.web.bind.annotation.ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<HttpResponse> optimisticLockingFailureException()
+    {
+        return createHttpResponse(HttpStatus.CONFLICT, VERSION_CONFLICT);
+    }
+
+
+
     @org.springframework.web.bind.annotation.ExceptionHandler(EmptyListException.class)
     public ResponseEntity<HttpResponse> emptyListException(EmptyListException emptyListException)
     {
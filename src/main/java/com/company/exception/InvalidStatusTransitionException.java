@@ -0,0 +1,9 @@
+package com.company.exception;
+
+public class InvalidStatusTransitionException extends Exception
+{
+    public InvalidStatusTransitionException(String message)
+    {
+        super(message);
+    }
+}
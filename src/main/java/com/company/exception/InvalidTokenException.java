@@ -1,6 +1,6 @@
 package com.company.exception;
 
-public class InvalidTokenException extends Exception
+public class InvalidTokenException extends RuntimeException
 {
     public InvalidTokenException(String message)
     {
@@ -1,6 +1,6 @@
 package com.company.exception;
 
-public class PasswordsMatchException extends Exception
+public class PasswordsMatchException extends RuntimeException
 {
     public PasswordsMatchException(String message)
     {
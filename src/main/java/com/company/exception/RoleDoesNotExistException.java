@@ -1,6 +1,6 @@
 package com.company.exception;
 
-public class RoleDoesNotExistException extends Exception
+public class RoleDoesNotExistException extends RuntimeException
 {
     public RoleDoesNotExistException(String message)
     {
@@ -0,0 +1,9 @@
+package com.company.exception;
+
+public class VersionConflictException extends RuntimeException
+{
+    public VersionConflictException(String message)
+    {
+        super(message);
+    }
+}
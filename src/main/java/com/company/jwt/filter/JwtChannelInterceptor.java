@@ -0,0 +1,96 @@
+package com.company.jwt.filter;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.company.jwt.JwtTokenProvider;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import static com.company.constant.SecurityConstant.*;
+import static com.company.constant.WebSocketConstant.*;
+
+@Component
+public class JwtChannelInterceptor implements ChannelInterceptor
+{
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    public JwtChannelInterceptor(JwtTokenProvider jwtTokenProvider)
+    {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel)
+    {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if(accessor == null)
+        {
+            return message;
+        }
+
+        if(SimpMessageType.HEARTBEAT.equals(accessor.getMessageType()))
+        {
+            return message;
+        }
+
+        // -clients only listen, a SEND to /user/<email>/... would otherwise reach the queues of that user
+        StompCommand command = accessor.getCommand();
+        if(command == null)
+        {
+            throw new AccessDeniedException(ONLY_SUBSCRIPTIONS_ARE_ALLOWED);
+        }
+
+        switch(command)
+        {
+            case CONNECT -> accessor.setUser(this.authenticate(accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION)));
+            case SUBSCRIBE ->
+            {
+                // -the user prefix is resolved to the queues of the connected user only
+                String destination = accessor.getDestination();
+                if(destination == null || !destination.startsWith(USER_DESTINATION_PREFIX))
+                {
+                    throw new AccessDeniedException(ONLY_OWN_QUEUES_CAN_BE_SUBSCRIBED);
+                }
+            }
+            case UNSUBSCRIBE, DISCONNECT -> {}
+            default -> throw new AccessDeniedException(ONLY_SUBSCRIPTIONS_ARE_ALLOWED);
+        }
+
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authorizationHeader)
+    {
+        if(authorizationHeader == null || !authorizationHeader.startsWith(TOKEN_PREFIX))
+        {
+            throw new AccessDeniedException(FORBIDDEN_MESSAGE);
+        }
+
+        String token = authorizationHeader.substring(TOKEN_PREFIX.length());
+        try
+        {
+            String username = this.jwtTokenProvider.getSubject(token);
+            if(!this.jwtTokenProvider.isTokenValid(username, token))
+            {
+                throw new AccessDeniedException(TOKEN_CANNOT_BE_VERIFIED);
+            }
+
+            return new UsernamePasswordAuthenticationToken(username, null, this.jwtTokenProvider.getAuthorities(token));
+        } catch(JWTVerificationException exception)
+        {
+            throw new AccessDeniedException(TOKEN_CANNOT_BE_VERIFIED);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.listeners;
+
+import com.company.service.BugService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BugSearchIndexListener
+{
+    private final Logger LOGGER = LoggerFactory.getLogger(getClass());
+    private final BugService bugService;
+
+    @Autowired
+    public BugSearchIndexListener(BugService bugService)
+    {
+        this.bugService = bugService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady()
+    {
+        int indexedBugs = this.bugService.rebuildSearchIndex();
+        LOGGER.info("Bug search index rebuilt with " + indexedBugs + " bugs");
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.repository;
+
+import com.company.entity.BugCounterId;
+import com.company.enumeration.BugCounterScope;
+
+import java.util.Map;
+
+public interface BugCounterDeltaRepository
+{
+    void addToCount(BugCounterId id, long delta);
+
+    Map<BugCounterId, Long> countBugsByScope(BugCounterScope scope);
+}
@@ -0,0 +1,83 @@
+package com.company.repository;
+
+import com.company.entity.Bug;
+import com.company.entity.BugCounter;
+import com.company.entity.BugCounterId;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugStatus;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.*;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.company.constant.BugCounterConstant.GLOBAL_SCOPE_ID;
+import static com.company.utils.NativeQueryUtils.createSynchronizedNativeQuery;
+
+public class BugCounterDeltaRepositoryImpl implements BugCounterDeltaRepository
+{
+    private static final String ID = "id";
+    private static final String STATUS = "status";
+    private static final String ADD_TO_COUNT = "INSERT INTO bug_counter (scope, scope_id, status, bug_count) " +
+                                               "VALUES (:scope, :scopeId, :status, :delta) " +
+                                               "ON DUPLICATE KEY UPDATE bug_count = bug_count + :delta";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void addToCount(BugCounterId id, long delta)
+    {
+        createSynchronizedNativeQuery(this.entityManager, ADD_TO_COUNT, BugCounter.class)
+                .setParameter("scope", id.getScope().name())
+                .setParameter("scopeId", id.getScopeId())
+                .setParameter("status", id.getStatus().name())
+                .setParameter("delta", delta)
+                .executeUpdate();
+    }
+
+    @Override
+    public Map<BugCounterId, Long> countBugsByScope(BugCounterScope scope)
+    {
+        CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Bug> root = query.from(Bug.class);
+
+        Path<BugStatus> status = root.get(STATUS);
+        Expression<Long> count = criteriaBuilder.count(root);
+        if(scope == BugCounterScope.ALL)
+        {
+            query.multiselect(status, count)
+                    .where(criteriaBuilder.isNotNull(status))
+                    .groupBy(status);
+        } else
+        {
+            Path<Long> scopeId = getPath(root, scope.getPath()).get(ID);
+            query.multiselect(status, count, scopeId)
+                    .where(criteriaBuilder.isNotNull(status), criteriaBuilder.isNotNull(scopeId))
+                    .groupBy(status, scopeId);
+        }
+
+        Map<BugCounterId, Long> counts = new HashMap<>();
+        for(Tuple tuple : this.entityManager.createQuery(query).getResultList())
+        {
+            Long scopeId = scope == BugCounterScope.ALL ? GLOBAL_SCOPE_ID : tuple.get(2, Long.class);
+            counts.put(new BugCounterId(scope, scopeId, tuple.get(0, BugStatus.class)), tuple.get(1, Long.class));
+        }
+
+        return counts;
+    }
+
+    private static Path<?> getPath(Root<Bug> root, String attributePath)
+    {
+        Path<?> path = root;
+        for(String attribute: attributePath.split("\\."))
+        {
+            path = path.get(attribute);
+        }
+
+        return path;
+    }
+}
@@ -0,0 +1,17 @@
+package com.company.repository;
+
+import com.company.entity.BugCounter;
+import com.company.entity.BugCounterId;
+import com.company.enumeration.BugCounterScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface BugCounterRepository extends JpaRepository<BugCounter, BugCounterId>, BugCounterDeltaRepository
+{
+    @Query(value = "SELECT COALESCE(SUM(c.count), 0) FROM BugCounter c WHERE c.id.scope = :scope AND c.id.scopeId = :scopeId")
+    long sumCountsByScope(BugCounterScope scope, Long scopeId);
+
+    List<BugCounter> findAllByIdScope(BugCounterScope scope);
+}
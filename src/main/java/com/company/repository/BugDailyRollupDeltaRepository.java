@@ -0,0 +1,20 @@
+package com.company.repository;
+
+import com.company.entity.BugDailyRollupId;
+import com.company.enumeration.BugCounterScope;
+
+import javax.persistence.Tuple;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface BugDailyRollupDeltaRepository
+{
+    void addToCount(BugDailyRollupId id, long delta);
+
+    long sumCountsSince(BugCounterScope scope, Long scopeId, LocalDate from);
+
+    List<Tuple> sumCountsByDaySince(BugCounterScope scope, Long scopeId, LocalDate from);
+
+    Map<BugDailyRollupId, Long> countBugsByDaySince(LocalDate from);
+}
@@ -0,0 +1,118 @@
+package com.company.repository;
+
+import com.company.entity.Bug;
+import com.company.entity.BugDailyRollup;
+import com.company.entity.BugDailyRollupId;
+import com.company.entity.Project;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugStatus;
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.Tuple;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.company.constant.BugCounterConstant.NO_ROLLUP_PER_ASSIGNEE;
+import static com.company.utils.NativeQueryUtils.createSynchronizedNativeQuery;
+
+public class BugDailyRollupDeltaRepositoryImpl implements BugDailyRollupDeltaRepository
+{
+    private static final String ADD_TO_COUNT = "INSERT INTO bug_daily_rollup (creation_day, project_id, creator_id, status, bug_count) " +
+                                               "VALUES (:creationDay, :projectId, :creatorId, :status, :delta) " +
+                                               "ON DUPLICATE KEY UPDATE bug_count = bug_count + :delta";
+    private static final String SUM_SINCE = "SELECT COALESCE(SUM(r.count), 0) FROM BugDailyRollup r WHERE r.id.creationDay >= :from ";
+    private static final String SUM_BY_DAY_SINCE = "SELECT r.id.creationDay AS creationDay, SUM(r.count) AS bugCount " +
+                                                   "FROM BugDailyRollup r WHERE r.id.creationDay >= :from ";
+    private static final String GROUP_BY_DAY = "GROUP BY r.id.creationDay ORDER BY r.id.creationDay";
+    // -native, because the rows are keyed by the date part of creation_date; the tombstone filter is therefore spelled out
+    private static final String COUNT_BUGS_BY_DAY_SINCE = "SELECT CAST(b.creation_date AS date) AS creationDay, b.project_id AS projectId, " +
+                                                          "b.creator_id AS creatorId, b.status AS status, COUNT(*) AS bugCount " +
+                                                          "FROM bug b JOIN project p ON p.id = b.project_id " +
+                                                          "WHERE b.deleted = false AND p.deleted = false AND b.status IS NOT NULL " +
+                                                          "AND b.creation_date >= :from " +
+                                                          "GROUP BY CAST(b.creation_date AS date), b.project_id, b.creator_id, b.status";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void addToCount(BugDailyRollupId id, long delta)
+    {
+        createSynchronizedNativeQuery(this.entityManager, ADD_TO_COUNT, BugDailyRollup.class)
+                .setParameter("creationDay", id.getCreationDay())
+                .setParameter("projectId", id.getProjectId())
+                .setParameter("creatorId", id.getCreatorId())
+                .setParameter("status", id.getStatus().name())
+                .setParameter("delta", delta)
+                .executeUpdate();
+    }
+
+    @Override
+    public long sumCountsSince(BugCounterScope scope, Long scopeId, LocalDate from)
+    {
+        Query query = this.entityManager.createQuery(SUM_SINCE + getScopeCondition(scope));
+        return (Long) setParameters(query, scope, scopeId, from).getSingleResult();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Tuple> sumCountsByDaySince(BugCounterScope scope, Long scopeId, LocalDate from)
+    {
+        Query query = this.entityManager.createQuery(SUM_BY_DAY_SINCE + getScopeCondition(scope) + GROUP_BY_DAY, Tuple.class);
+        return setParameters(query, scope, scopeId, from).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<BugDailyRollupId, Long> countBugsByDaySince(LocalDate from)
+    {
+        List<Tuple> tuples = this.entityManager.createNativeQuery(COUNT_BUGS_BY_DAY_SINCE, Tuple.class)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Bug.class)
+                .addSynchronizedEntityClass(Project.class)
+                .setParameter("from", from.atStartOfDay())
+                .getResultList();
+
+        Map<BugDailyRollupId, Long> counts = new HashMap<>();
+        for(Tuple tuple : tuples)
+        {
+            BugDailyRollupId id = new BugDailyRollupId(tuple.get("creationDay", Date.class).toLocalDate(),
+                    tuple.get("projectId", Number.class).longValue(),
+                    tuple.get("creatorId", Number.class).longValue(),
+                    BugStatus.valueOf(tuple.get("status", String.class)));
+            counts.put(id, tuple.get("bugCount", Number.class).longValue());
+        }
+
+        return counts;
+    }
+
+    private static String getScopeCondition(BugCounterScope scope)
+    {
+        return switch (scope)
+        {
+            case ALL -> "";
+            case PROJECT -> "AND r.id.projectId = :scopeId ";
+            case CREATOR -> "AND r.id.creatorId = :scopeId ";
+            case PROJECT_LEADER -> "AND r.id.projectId IN (SELECT p.id FROM Project p WHERE p.projectLeader.id = :scopeId) ";
+            // -assignees are not part of the rollup, creation counts are not kept per assignee
+            case ASSIGNEE -> throw new IllegalArgumentException(NO_ROLLUP_PER_ASSIGNEE);
+        };
+    }
+
+    private static Query setParameters(Query query, BugCounterScope scope, Long scopeId, LocalDate from)
+    {
+        query.setParameter("from", from);
+        if(scope != BugCounterScope.ALL)
+        {
+            query.setParameter("scopeId", scopeId);
+        }
+
+        return query;
+    }
+}
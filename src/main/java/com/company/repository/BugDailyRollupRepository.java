@@ -0,0 +1,36 @@
+package com.company.repository;
+
+import com.company.entity.BugDailyRollup;
+import com.company.entity.BugDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BugDailyRollupRepository extends JpaRepository<BugDailyRollup, BugDailyRollupId>, BugDailyRollupDeltaRepository
+{
+    String DAILY_ROWS_BEFORE = "FROM BugDailyRollup r WHERE r.id.creationDay < :boundary AND DAY(r.id.creationDay) <> 1";
+
+    // -locked, so that no writer can add to these days between reading and deleting them
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "SELECT r " + DAILY_ROWS_BEFORE)
+    List<BugDailyRollup> findDailyRowsBefore(LocalDate boundary);
+
+    @Modifying
+    @Query(value = "DELETE " + DAILY_ROWS_BEFORE)
+    int deleteDailyRowsBefore(LocalDate boundary);
+
+    List<BugDailyRollup> findAllByIdCreationDayGreaterThanEqual(LocalDate from);
+
+    @Modifying
+    @Query(value = "DELETE FROM BugDailyRollup r WHERE r.count = 0")
+    int deleteEmptyRows();
+
+    @Modifying
+    @Query(value = "DELETE FROM BugDailyRollup r WHERE r.id.projectId = :projectId")
+    int deleteByProjectId(Long projectId);
+}
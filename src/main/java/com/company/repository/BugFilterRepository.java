@@ -0,0 +1,11 @@
+package com.company.repository;
+
+import com.company.entity.Bug;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface BugFilterRepository
+{
+    Slice<Bug> findBugSlice(Specification<Bug> specification, Pageable pageable);
+}
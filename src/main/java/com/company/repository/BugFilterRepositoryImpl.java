@@ -0,0 +1,51 @@
+package com.company.repository;
+
+import com.company.entity.Bug;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class BugFilterRepositoryImpl implements BugFilterRepository
+{
+    private static final String FETCH_GRAPH = "javax.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // -JpaSpecificationExecutor only pages with a count query, a slice reads one row more instead
+    @Override
+    public Slice<Bug> findBugSlice(Specification<Bug> specification, Pageable pageable)
+    {
+        CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Bug> query = criteriaBuilder.createQuery(Bug.class);
+        Root<Bug> root = query.from(Bug.class);
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if(predicate != null)
+        {
+            query.where(predicate);
+        }
+
+        query.select(root).orderBy(toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        List<Bug> bugs = this.entityManager.createQuery(query)
+                .setHint(FETCH_GRAPH, this.entityManager.getEntityGraph(Bug.DETAILS_GRAPH))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = bugs.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? bugs.subList(0, pageable.getPageSize()) : bugs, pageable, hasNext);
+    }
+}
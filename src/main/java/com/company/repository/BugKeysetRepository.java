@@ -0,0 +1,12 @@
+package com.company.repository;
+
+import com.company.domain.BugCursor;
+import com.company.entity.Bug;
+import com.company.enumeration.BugScope;
+
+import java.util.List;
+
+public interface BugKeysetRepository
+{
+    List<Bug> findBugsByScopeAfter(BugScope scope, Long scopeId, BugCursor cursor, String sortOrder, boolean ascending, int limit);
+}
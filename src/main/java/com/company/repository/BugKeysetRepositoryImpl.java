@@ -0,0 +1,79 @@
+package com.company.repository;
+
+import com.company.domain.BugCursor;
+import com.company.entity.Bug;
+import com.company.enumeration.BugScope;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BugKeysetRepositoryImpl implements BugKeysetRepository
+{
+    private static final String ID = "id";
+    private static final String FETCH_GRAPH = "javax.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Bug> findBugsByScopeAfter(BugScope scope, Long scopeId, BugCursor cursor, String sortOrder, boolean ascending, int limit)
+    {
+        CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Bug> query = criteriaBuilder.createQuery(Bug.class);
+        Root<Bug> root = query.from(Bug.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.equal(getPath(root, scope.getPath()).get(ID), scopeId));
+        if(cursor != null)
+        {
+            predicates.add(this.getSeekPredicate(criteriaBuilder, root, cursor));
+        }
+
+        Path<Comparable<Object>> sortKey = root.get(sortOrder);
+        Path<Comparable<Object>> id = root.get(ID);
+
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(ascending ? criteriaBuilder.asc(sortKey) : criteriaBuilder.desc(sortKey),
+                         ascending ? criteriaBuilder.asc(id) : criteriaBuilder.desc(id));
+
+        return this.entityManager.createQuery(query)
+                .setHint(FETCH_GRAPH, this.entityManager.getEntityGraph(Bug.DETAILS_GRAPH))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate getSeekPredicate(CriteriaBuilder criteriaBuilder, Root<Bug> root, BugCursor cursor)
+    {
+        Path<Comparable<Object>> sortKey = root.get(cursor.sortOrder());
+        Path<Comparable<Object>> id = root.get(ID);
+        Comparable<Object> sortValue = (Comparable<Object>) cursor.sortValue();
+        Comparable<Object> lastId = (Comparable<Object>) (Comparable<?>) cursor.id();
+
+        if(cursor.ascending())
+        {
+            return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(sortKey, sortValue),
+                    criteriaBuilder.and(criteriaBuilder.equal(sortKey, sortValue), criteriaBuilder.greaterThan(id, lastId)));
+        }
+
+        return criteriaBuilder.or(
+                criteriaBuilder.lessThan(sortKey, sortValue),
+                criteriaBuilder.and(criteriaBuilder.equal(sortKey, sortValue), criteriaBuilder.lessThan(id, lastId)));
+    }
+
+    private static Path<?> getPath(Root<Bug> root, String attributePath)
+    {
+        Path<?> path = root;
+        for(String attribute: attributePath.split("\\."))
+        {
+            path = path.get(attribute);
+        }
+
+        return path;
+    }
+}
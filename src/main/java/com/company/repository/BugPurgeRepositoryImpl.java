@@ -0,0 +1,26 @@
+package com.company.repository;
+
+import com.company.entity.Bug;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collection;
+
+import static com.company.utils.NativeQueryUtils.createSynchronizedNativeQuery;
+
+public class BugPurgeRepositoryImpl implements BugPurgeRepository
+{
+    // -native, so that the tombstone filter does not apply
+    private static final String PURGE_BUGS = "DELETE FROM bug WHERE id IN :bugIds";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int purgeBugsByIdIn(Collection<Long> bugIds)
+    {
+        return createSynchronizedNativeQuery(this.entityManager, PURGE_BUGS, Bug.class)
+                .setParameter("bugIds", bugIds)
+                .executeUpdate();
+    }
+}
@@ -4,38 +4,122 @@ import com.company.entity.Bug;
 import com.company.enumeration.BugStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import java.time.LocalDateTime;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import javax.persistence.Tuple;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface BugRepository extends JpaRepository<Bug, Long>
+import static com.company.constant.ExportConstant.EXPORT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface BugRepository extends JpaRepository<Bug, Long>, JpaSpecificationExecutor<Bug>,
+        BugKeysetRepository, BugStatisticsRepository, BugFilterRepository, BugPurgeRepository
 {
-    Page<Bug> getBugsByProject_Id(Long id, Pageable pageable);
+    String BUG_DTO_SELECT = "SELECT b.id AS id, b.name AS name, b.description AS description, " +
+                            "b.classification AS classification, b.status AS status, b.severity AS severity, " +
+                            "b.creationDate AS creationDate, b.version AS version, " +
+                            "c.id AS creatorId, c.firstName AS creatorFirstName, c.lastName AS creatorLastName, " +
+                            "c.email AS creatorEmail, c.speciality AS creatorSpeciality, c.profileImageUrl AS creatorProfileImageUrl, " +
+                            "a.id AS assigneeId, a.firstName AS assigneeFirstName, a.lastName AS assigneeLastName, " +
+                            "a.email AS assigneeEmail, a.speciality AS assigneeSpeciality, a.profileImageUrl AS assigneeProfileImageUrl, " +
+                            "p.id AS projectId, p.name AS projectName, p.description AS projectDescription, p.version AS projectVersion, " +
+                            "pl.id AS projectLeaderId, pl.firstName AS projectLeaderFirstName, pl.lastName AS projectLeaderLastName, " +
+                            "pl.email AS projectLeaderEmail, pl.speciality AS projectLeaderSpeciality, pl.profileImageUrl AS projectLeaderProfileImageUrl " +
+                            "FROM Bug b JOIN b.creator c LEFT JOIN b.assignee a JOIN b.project p JOIN p.projectLeader pl ";
 
-    List<Bug> getAllByProjectIdOrderByCreationDateDesc(Long projectId);
+    String BUG_COUNTER_KEYS_SELECT = "SELECT b.project.id AS projectId, b.project.projectLeader.id AS projectLeaderId, " +
+                                     "b.creator.id AS creatorId, b.assignee.id AS assigneeId, b.status AS status";
+
+    @Query(value = BUG_DTO_SELECT + "WHERE p.id = :projectId",
+           countQuery = "SELECT COUNT(b) FROM Bug b WHERE b.project.id = :projectId")
+    Page<Tuple> findBugDTOsByProjectId(Long projectId, Pageable pageable);
+
+    @Query(value = BUG_DTO_SELECT + "WHERE p.id = :projectId")
+    Slice<Tuple> findBugDTOSliceByProjectId(Long projectId, Pageable pageable);
+
+    @Query(value = BUG_DTO_SELECT + "WHERE c.id = :creatorId",
+           countQuery = "SELECT COUNT(b) FROM Bug b WHERE b.creator.id = :creatorId")
+    Page<Tuple> findBugDTOsByCreatorId(Long creatorId, Pageable pageable);
+
+    @Query(value = BUG_DTO_SELECT + "WHERE c.id = :creatorId")
+    Slice<Tuple> findBugDTOSliceByCreatorId(Long creatorId, Pageable pageable);
+
+    @Query(value = BUG_DTO_SELECT + "WHERE a.id = :assigneeId",
+           countQuery = "SELECT COUNT(b) FROM Bug b WHERE b.assignee.id = :assigneeId")
+    Page<Tuple> findBugDTOsByAssigneeId(Long assigneeId, Pageable pageable);
+
+    @Query(value = BUG_DTO_SELECT + "WHERE a.id = :assigneeId")
+    Slice<Tuple> findBugDTOSliceByAssigneeId(Long assigneeId, Pageable pageable);
+
+    @Query(value = BUG_DTO_SELECT + "WHERE pl.id = :projectLeaderId",
+           countQuery = "SELECT COUNT(b) FROM Bug b WHERE b.project.projectLeader.id = :projectLeaderId")
+    Page<Tuple> findBugDTOsByProjectLeaderId(Long projectLeaderId, Pageable pageable);
 
-    Page<Bug> getBugsByCreatorId(Long creatorId, Pageable pageable);
+    @Query(value = BUG_DTO_SELECT + "WHERE pl.id = :projectLeaderId")
+    Slice<Tuple> findBugDTOSliceByProjectLeaderId(Long projectLeaderId, Pageable pageable);
 
-    Page<Bug> getBugsByAssigneeId(Long assigneeId, Pageable pageable);
+    @Query(value = BUG_DTO_SELECT + "WHERE b.id = :bugId")
+    Tuple findBugDTOById(Long bugId);
 
-    Page<Bug> getBugsByProjectProjectLeaderId(Long projectLeader, Pageable pageable);
+    @Query(value = BUG_DTO_SELECT + "WHERE b.id IN :bugIds")
+    List<Tuple> findBugDTOsByIds(Collection<Long> bugIds);
+
+    @Query(value = "SELECT b.id AS id, b.project.id AS projectId, b.name AS name, b.description AS description " +
+                   "FROM Bug b WHERE b.id > :lastId ORDER BY b.id")
+    List<Tuple> findSearchDocumentsAfter(Long lastId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(value = BUG_DTO_SELECT + "WHERE p.id = :projectId ORDER BY b.id")
+    Stream<Tuple> streamBugDTOsByProjectId(Long projectId);
+
+    @EntityGraph(Bug.DETAILS_GRAPH)
+    List<Bug> getAllByProjectIdOrderByCreationDateDesc(Long projectId);
 
     Bug findByNameAndProjectId(String name, Long projectId);
 
+    @EntityGraph(Bug.DETAILS_GRAPH)
     Bug findBugById(Long id);
 
-//  ALL BUGS
-    long countBugsByCreatorId(Long creatorId);
-    long countBugsByProjectProjectLeaderId(Long projectLeaderId);
+    @Modifying
+    @Query(value = "UPDATE Bug b SET b.status = :status, b.version = b.version + 1 WHERE b.id = :bugId")
+    int updateStatus(Long bugId, BugStatus status);
+
+    // -the project leader is read in a subquery, so the lock covers the bug row only and not its project
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "SELECT b.project.id AS projectId, " +
+                   "(SELECT p.projectLeader.id FROM Project p WHERE p.id = b.project.id) AS projectLeaderId, " +
+                   "b.creator.id AS creatorId, b.assignee.id AS assigneeId, b.status AS status, " +
+                   "b.creationDate AS creationDate, b.version AS version FROM Bug b WHERE b.id = :bugId")
+    Tuple findCounterSnapshotById(Long bugId);
+
+    @Query(value = BUG_COUNTER_KEYS_SELECT + ", COUNT(b) AS bugCount FROM Bug b WHERE b.project.id = :projectId " +
+                   "GROUP BY b.project.id, b.project.projectLeader.id, b.creator.id, b.assignee.id, b.status")
+    List<Tuple> countBugCounterSnapshotsByProjectId(Long projectId);
+
+    @EntityGraph(Bug.DETAILS_GRAPH)
+    List<Bug> findBugsByIdIn(Collection<Long> ids);
+
+    @Override
+    @EntityGraph(Bug.DETAILS_GRAPH)
+    Page<Bug> findAll(Specification<Bug> specification, Pageable pageable);
 
-//  BY CREATION DATE
-    long countBugsByCreationDateAfter(LocalDateTime date);
-    long countBugsByCreatorIdAndCreationDateAfter(Long creatorId, LocalDateTime date);
-    long countBugsByProjectProjectLeaderIdAndCreationDateAfter(Long projectLeaderId, LocalDateTime date);
+//  PURGE (native, so that the tombstone filter does not apply)
+    @Query(value = "SELECT * FROM bug WHERE deleted = true LIMIT :limit", nativeQuery = true)
+    List<Bug> findDeletedBugs(int limit);
 
-//  BY STATUS
-    long countBugByStatus(BugStatus status);
-    long countBugByAssigneeIdAndStatus(Long assigneeId, BugStatus status);
-    long countBugsByProjectProjectLeaderIdAndStatus(Long projectLeaderId, BugStatus status);
+    @Query(value = "SELECT b.* FROM bug b JOIN project p ON p.id = b.project_id " +
+                   "WHERE p.deleted = true AND b.deleted = false LIMIT :limit", nativeQuery = true)
+    List<Bug> findBugsOfDeletedProjects(int limit);
 }
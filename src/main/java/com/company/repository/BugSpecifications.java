@@ -0,0 +1,68 @@
+package com.company.repository;
+
+import com.company.domain.BugFilter;
+import com.company.entity.Bug;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public class BugSpecifications
+{
+    private static final String ID = "id";
+    private static final String CREATION_DATE = "creationDate";
+
+    // -every criterion left empty is skipped, so only the given ones end up in the where clause
+    public static Specification<Bug> matches(BugFilter filter)
+    {
+        return Specification.where(hasId("project", filter.projectId()))
+                .and(hasId("assignee", filter.assigneeId()))
+                .and(hasId("creator", filter.creatorId()))
+                .and(isIn("status", filter.statuses()))
+                .and(isIn("severity", filter.severities()))
+                .and(isIn("classification", filter.classifications()))
+                .and(createdFrom(filter.createdFrom()))
+                .and(createdBefore(filter.createdBefore()));
+    }
+
+    // -compares the foreign key column itself, without joining the referenced table
+    private static Specification<Bug> hasId(String attribute, Long id)
+    {
+        if(id == null)
+        {
+            return null;
+        }
+
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get(attribute).get(ID), id);
+    }
+
+    private static Specification<Bug> isIn(String attribute, Collection<?> values)
+    {
+        if(values == null || values.isEmpty())
+        {
+            return null;
+        }
+
+        return (root, query, criteriaBuilder) -> root.get(attribute).in(values);
+    }
+
+    private static Specification<Bug> createdFrom(LocalDateTime date)
+    {
+        if(date == null)
+        {
+            return null;
+        }
+
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.get(CREATION_DATE), date);
+    }
+
+    private static Specification<Bug> createdBefore(LocalDateTime date)
+    {
+        if(date == null)
+        {
+            return null;
+        }
+
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThan(root.get(CREATION_DATE), date);
+    }
+}
@@ -0,0 +1,14 @@
+package com.company.repository;
+
+import com.company.enumeration.BugCounterScope;
+
+import javax.persistence.Tuple;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BugStatisticsRepository
+{
+    List<Tuple> countBugsByStatusInScope(BugCounterScope scope, Long scopeId, LocalDateTime createdAfter);
+
+    long countBugsCreatedBetween(BugCounterScope scope, Long scopeId, LocalDateTime createdAfter, LocalDateTime createdBefore);
+}
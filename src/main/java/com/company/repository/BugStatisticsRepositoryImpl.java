@@ -0,0 +1,60 @@
+package com.company.repository;
+
+import com.company.enumeration.BugCounterScope;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BugStatisticsRepositoryImpl implements BugStatisticsRepository
+{
+    private static final String SELECT = "SELECT b.status AS status, COUNT(b) AS total, " +
+                                         "SUM(CASE WHEN b.creationDate > :createdAfter THEN 1 ELSE 0 END) AS created " +
+                                         "FROM Bug b ";
+    private static final String GROUP_BY = "GROUP BY b.status";
+    // -bugs without a status are not part of the rollup either, so both halves of a creation count agree
+    private static final String COUNT_CREATED_BETWEEN = "SELECT COUNT(b) FROM Bug b " +
+                                                        "WHERE b.creationDate > :createdAfter AND b.creationDate < :createdBefore " +
+                                                        "AND b.status IS NOT NULL ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // -the status histogram and the creation window come out of the same pass over the scope's bugs
+    @Override
+    public List<Tuple> countBugsByStatusInScope(BugCounterScope scope, Long scopeId, LocalDateTime createdAfter)
+    {
+        boolean isGlobal = scope == BugCounterScope.ALL;
+        String where = isGlobal ? "" : "WHERE b." + scope.getPath() + ".id = :scopeId ";
+
+        TypedQuery<Tuple> query = this.entityManager.createQuery(SELECT + where + GROUP_BY, Tuple.class)
+                .setParameter("createdAfter", createdAfter);
+        if(!isGlobal)
+        {
+            query.setParameter("scopeId", scopeId);
+        }
+
+        return query.getResultList();
+    }
+
+    // -the window is at most a day or a month wide, so this is a bounded range scan on one of the creation_date indexes
+    @Override
+    public long countBugsCreatedBetween(BugCounterScope scope, Long scopeId, LocalDateTime createdAfter, LocalDateTime createdBefore)
+    {
+        boolean isGlobal = scope == BugCounterScope.ALL;
+        String and = isGlobal ? "" : "AND b." + scope.getPath() + ".id = :scopeId";
+
+        TypedQuery<Long> query = this.entityManager.createQuery(COUNT_CREATED_BETWEEN + and, Long.class)
+                .setParameter("createdAfter", createdAfter)
+                .setParameter("createdBefore", createdBefore);
+        if(!isGlobal)
+        {
+            query.setParameter("scopeId", scopeId);
+        }
+
+        return query.getSingleResult();
+    }
+}
@@ -0,0 +1,16 @@
+package com.company.repository;
+
+import com.company.domain.NotificationOutboxEntry;
+import com.company.domain.NotificationRequest;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository
+{
+    int insertOutboxEntries(Collection<NotificationRequest> notificationRequests);
+
+    List<NotificationOutboxEntry> lockOutboxEntries(int limit);
+
+    int deleteOutboxEntries(Collection<Long> entryIds);
+}
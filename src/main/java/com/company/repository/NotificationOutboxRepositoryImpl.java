@@ -0,0 +1,87 @@
+package com.company.repository;
+
+import com.company.domain.NotificationOutboxEntry;
+import com.company.domain.NotificationRequest;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.company.constant.NotificationConstant.OUTBOX_INSERT_CHUNK_SIZE;
+import static com.company.utils.NativeQueryUtils.createSynchronizedNativeQuery;
+
+public class NotificationOutboxRepositoryImpl implements NotificationOutboxRepository
+{
+    private static final String NOTIFICATION_OUTBOX = "notification_outbox";
+    private static final String INSERT_OUTBOX_ENTRIES = "INSERT INTO notification_outbox (sender_id, receiver_id, title, description, created_date) VALUES ";
+    private static final String OUTBOX_ROW = "(?, ?, ?, ?, ?)";
+    private static final String LOCK_OUTBOX_ENTRIES = "SELECT id, sender_id, receiver_id, title, description, created_date FROM notification_outbox " +
+            "ORDER BY id LIMIT :limit FOR UPDATE";
+    private static final String DELETE_OUTBOX_ENTRIES = "DELETE FROM notification_outbox WHERE id IN :entryIds";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // -one multi-row statement per chunk, so a bulk operation notifying hundreds of users takes a single round trip
+    @Override
+    public int insertOutboxEntries(Collection<NotificationRequest> notificationRequests)
+    {
+        List<NotificationRequest> requests = new ArrayList<>(notificationRequests);
+        Timestamp createdDate = Timestamp.valueOf(LocalDateTime.now());
+        int insertedRows = 0;
+        for(int from = 0; from < requests.size(); from += OUTBOX_INSERT_CHUNK_SIZE)
+        {
+            List<NotificationRequest> chunk = requests.subList(from, Math.min(from + OUTBOX_INSERT_CHUNK_SIZE, requests.size()));
+            String rows = String.join(", ", Collections.nCopies(chunk.size(), OUTBOX_ROW));
+
+            Query query = createSynchronizedNativeQuery(this.entityManager, INSERT_OUTBOX_ENTRIES + rows, NOTIFICATION_OUTBOX);
+            int position = 1;
+            for(NotificationRequest request : chunk)
+            {
+                query.setParameter(position++, request.senderId());
+                query.setParameter(position++, request.receiverId());
+                query.setParameter(position++, request.title());
+                query.setParameter(position++, request.description());
+                query.setParameter(position++, createdDate);
+            }
+            insertedRows += query.executeUpdate();
+        }
+
+        return insertedRows;
+    }
+
+    // -a second instance waits for the locked batch and then finds it deleted, so no entry is ever dispatched twice
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<NotificationOutboxEntry> lockOutboxEntries(int limit)
+    {
+        List<Object[]> rows = createSynchronizedNativeQuery(this.entityManager, LOCK_OUTBOX_ENTRIES, NOTIFICATION_OUTBOX)
+                .setParameter("limit", limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new NotificationOutboxEntry(
+                        ((Number) row[0]).longValue(),
+                        new NotificationRequest(
+                                row[1] == null ? null : ((Number) row[1]).longValue(),
+                                ((Number) row[2]).longValue(),
+                                (String) row[3],
+                                (String) row[4]),
+                        ((Timestamp) row[5]).toLocalDateTime()))
+                .toList();
+    }
+
+    @Override
+    public int deleteOutboxEntries(Collection<Long> entryIds)
+    {
+        return createSynchronizedNativeQuery(this.entityManager, DELETE_OUTBOX_ENTRIES, NOTIFICATION_OUTBOX)
+                .setParameter("entryIds", entryIds)
+                .executeUpdate();
+    }
+}
@@ -3,15 +3,41 @@ package com.company.repository;
 import com.company.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long>
+import javax.persistence.Tuple;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationOutboxRepository
 {
     Page<Notification> getNotificationsByReceiverIdOrderBySendDateDesc(Long receiverId, Pageable pageable);
 
+    Slice<Notification> getNotificationSliceByReceiverIdOrderBySendDateDesc(Long receiverId, Pageable pageable);
+
     Notification getNotificationById(Long notificationId);
 
     int countAllByReceiverIdAndSeen(Long receiveId, boolean seen);
 
     int countAllByIdAfterAndReceiverId(Long notificationId, Long receiverId);
+
+    @Modifying
+    @Query(value = "UPDATE Notification n SET n.seen = true WHERE n.id = :notificationId AND n.seen = false")
+    int markSeenById(Long notificationId);
+
+    @Modifying
+    @Query(value = "UPDATE Notification n SET n.seen = true WHERE n.receiver.id = :receiverId AND n.seen = false")
+    int markAllSeenByReceiverId(Long receiverId);
+
+    @Modifying
+    @Query(value = "UPDATE Notification n SET n.seen = true " +
+                   "WHERE n.receiver.id = :receiverId AND n.seen = false AND n.id <= :notificationId")
+    int markSeenByReceiverIdUpToId(Long receiverId, Long notificationId);
+
+    @Query(value = "SELECT n.receiver.id AS receiverId, COUNT(n) AS unseen FROM Notification n " +
+                   "WHERE n.seen = false AND n.receiver.id IN :receiverIds GROUP BY n.receiver.id")
+    List<Tuple> countUnseenByReceiverIdIn(Collection<Long> receiverIds);
 }
@@ -0,0 +1,17 @@
+package com.company.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectParticipantRepository
+{
+    List<Long> findParticipantIdsIn(Long projectId, Collection<Long> userIds);
+
+    int insertParticipants(Long projectId, Collection<Long> userIds);
+
+    int deleteParticipants(Long projectId, Collection<Long> userIds);
+
+    int deleteParticipantFromAllProjects(Long userId);
+
+    int deleteParticipantsByProjectIdIn(Collection<Long> projectIds);
+}
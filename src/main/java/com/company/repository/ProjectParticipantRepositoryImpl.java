@@ -0,0 +1,87 @@
+package com.company.repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.company.constant.ProjectConstant.PARTICIPANT_INSERT_CHUNK_SIZE;
+import static com.company.utils.NativeQueryUtils.createSynchronizedNativeQuery;
+
+public class ProjectParticipantRepositoryImpl implements ProjectParticipantRepository
+{
+    private static final String USERS_PROJECTS = "users_projects";
+    private static final String FIND_PARTICIPANT_IDS = "SELECT user_id FROM users_projects WHERE project_id = :projectId AND user_id IN :userIds";
+    private static final String INSERT_PARTICIPANTS = "INSERT INTO users_projects (project_id, user_id) VALUES ";
+    private static final String PARTICIPANT_ROW = "(?, ?)";
+    private static final String DELETE_PARTICIPANTS = "DELETE FROM users_projects WHERE project_id = :projectId AND user_id IN :userIds";
+    private static final String DELETE_PARTICIPANT_FROM_ALL_PROJECTS = "DELETE FROM users_projects WHERE user_id = :userId";
+    private static final String DELETE_PARTICIPANTS_OF_PROJECTS = "DELETE FROM users_projects WHERE project_id IN :projectIds";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> findParticipantIdsIn(Long projectId, Collection<Long> userIds)
+    {
+        List<Number> participantIds = this.entityManager.createNativeQuery(FIND_PARTICIPANT_IDS)
+                .setParameter("projectId", projectId)
+                .setParameter("userIds", userIds)
+                .getResultList();
+
+        return participantIds.stream().map(Number::longValue).toList();
+    }
+
+    // -one multi-row statement per chunk, so adding a few hundred participants takes a single round trip
+    @Override
+    public int insertParticipants(Long projectId, Collection<Long> userIds)
+    {
+        List<Long> ids = new ArrayList<>(userIds);
+        int insertedRows = 0;
+        for(int from = 0; from < ids.size(); from += PARTICIPANT_INSERT_CHUNK_SIZE)
+        {
+            List<Long> chunk = ids.subList(from, Math.min(from + PARTICIPANT_INSERT_CHUNK_SIZE, ids.size()));
+            String rows = String.join(", ", Collections.nCopies(chunk.size(), PARTICIPANT_ROW));
+
+            Query query = createSynchronizedNativeQuery(this.entityManager, INSERT_PARTICIPANTS + rows, USERS_PROJECTS);
+            int position = 1;
+            for(Long userId : chunk)
+            {
+                query.setParameter(position++, projectId);
+                query.setParameter(position++, userId);
+            }
+            insertedRows += query.executeUpdate();
+        }
+
+        return insertedRows;
+    }
+
+    @Override
+    public int deleteParticipants(Long projectId, Collection<Long> userIds)
+    {
+        return createSynchronizedNativeQuery(this.entityManager, DELETE_PARTICIPANTS, USERS_PROJECTS)
+                .setParameter("projectId", projectId)
+                .setParameter("userIds", userIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteParticipantFromAllProjects(Long userId)
+    {
+        return createSynchronizedNativeQuery(this.entityManager, DELETE_PARTICIPANT_FROM_ALL_PROJECTS, USERS_PROJECTS)
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteParticipantsByProjectIdIn(Collection<Long> projectIds)
+    {
+        return createSynchronizedNativeQuery(this.entityManager, DELETE_PARTICIPANTS_OF_PROJECTS, USERS_PROJECTS)
+                .setParameter("projectIds", projectIds)
+                .executeUpdate();
+    }
+}
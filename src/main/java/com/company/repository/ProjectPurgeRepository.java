@@ -0,0 +1,8 @@
+package com.company.repository;
+
+import java.util.Collection;
+
+public interface ProjectPurgeRepository
+{
+    int purgeProjectsByIdIn(Collection<Long> projectIds);
+}
@@ -0,0 +1,26 @@
+package com.company.repository;
+
+import com.company.entity.Project;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collection;
+
+import static com.company.utils.NativeQueryUtils.createSynchronizedNativeQuery;
+
+public class ProjectPurgeRepositoryImpl implements ProjectPurgeRepository
+{
+    // -native, so that the tombstone filter does not apply
+    private static final String PURGE_PROJECTS = "DELETE FROM project WHERE id IN :projectIds";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int purgeProjectsByIdIn(Collection<Long> projectIds)
+    {
+        return createSynchronizedNativeQuery(this.entityManager, PURGE_PROJECTS, Project.class)
+                .setParameter("projectIds", projectIds)
+                .executeUpdate();
+    }
+}
@@ -1,24 +1,46 @@
 package com.company.repository;
 
+import com.company.dto.ProjectDTO;
 import com.company.entity.Project;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 
-public interface ProjectRepository extends JpaRepository<Project, Long>
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectParticipantRepository, ProjectPurgeRepository
 {
+    String PROJECT_DTO_SELECT = "SELECT new com.company.dto.ProjectDTO(p.id, p.name, p.description, " +
+                                "pl.id, pl.firstName, pl.lastName, pl.email, pl.speciality, pl.profileImageUrl, p.version) " +
+                                "FROM Project p JOIN p.projectLeader pl ";
+
     Project findProjectById(Long projectId);
 
     Project findProjectByName(String name);
 
-    Page<Project> findProjectsByParticipantsId(Long userId, Pageable pageable);
+    @Query(value = PROJECT_DTO_SELECT + "JOIN p.participants participant WHERE participant.id = :participantId",
+           countQuery = "SELECT COUNT(p) FROM Project p JOIN p.participants participant WHERE participant.id = :participantId")
+    Page<ProjectDTO> findProjectDTOsByParticipantId(Long participantId, Pageable pageable);
+
+    @Query(value = PROJECT_DTO_SELECT + "JOIN p.participants participant WHERE participant.id = :participantId")
+    Slice<ProjectDTO> findProjectDTOSliceByParticipantId(Long participantId, Pageable pageable);
 
-    Page<Project> findProjectsByProjectLeaderId(Long projectLeaderId, Pageable pageable);
+    @Query(value = PROJECT_DTO_SELECT + "WHERE pl.id = :projectLeaderId",
+           countQuery = "SELECT COUNT(p) FROM Project p WHERE p.projectLeader.id = :projectLeaderId")
+    Page<ProjectDTO> findProjectDTOsByProjectLeaderId(Long projectLeaderId, Pageable pageable);
+
+    @Query(value = PROJECT_DTO_SELECT + "WHERE pl.id = :projectLeaderId")
+    Slice<ProjectDTO> findProjectDTOSliceByProjectLeaderId(Long projectLeaderId, Pageable pageable);
 
     List<Project> findAllByProjectLeaderId(Long projectLeaderId);
 
     List<Project> findAllByParticipantsId(Long participantId);
+
+//  PURGE (native, so that the tombstone filter does not apply)
+    @Query(value = "SELECT * FROM project p WHERE p.deleted = true " +
+                   "AND NOT EXISTS (SELECT 1 FROM bug b WHERE b.project_id = p.id) LIMIT :limit", nativeQuery = true)
+    List<Project> findPurgeableProjects(int limit);
 }
@@ -3,8 +3,14 @@ package com.company.repository;
 import com.company.entity.Role;
 import com.company.enumeration.RoleEnum;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 
 public interface RoleRepository extends JpaRepository<Role, Long>
 {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Role getRoleByName(RoleEnum name);
 }
@@ -1,9 +1,11 @@
 package com.company.repository;
 
+import com.company.dto.UserDTO;
 import com.company.entity.User;
 import com.company.enumeration.RoleEnum;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -12,56 +14,99 @@ import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long>
 {
+    String USER_DTO_SELECT = "SELECT new com.company.dto.UserDTO(u.id, u.firstName, u.lastName, u.email, u.speciality, u.profileImageUrl) " +
+                             "FROM User u ";
+
+    String USERS_BY_FULL_NAME = "SELECT u FROM User u " +
+                                "WHERE CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
+                                "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName% ORDER BY u.firstName";
+
+    String USERS_BY_FULL_NAME_AND_PROJECT = "SELECT u FROM User u JOIN u.projectsAssigned project " +
+                                            "WHERE project.id = :projectId " +
+                                            "AND (CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
+                                            "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName%)" +
+                                            "ORDER BY u.firstName";
+
+    String USERS_BY_FULL_NAME_AND_PROJECT_EXCLUDE_USER = "SELECT u FROM User u JOIN u.projectsAssigned project " +
+                                                         "WHERE project.id = :projectId " +
+                                                         "AND u.id <> :userId " +
+                                                         "AND (CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
+                                                         "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName%)" +
+                                                         "ORDER BY u.firstName";
+
+    String USERS_BY_ROLE_AND_FULL_NAME = "SELECT u FROM User u " +
+                                         "WHERE u.role.name = :roleName " +
+                                         "AND (CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
+                                         "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName%) " +
+                                         "ORDER BY u.firstName";
+
+    String USERS_BY_ROLE_AND_FULL_NAME_NOT_IN = "SELECT u FROM User u " +
+                                                "WHERE u.id NOT IN :userIds " +
+                                                "AND u.role.name = :roleName " +
+                                                "AND (CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
+                                                "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName%) " +
+                                                "ORDER BY u.firstName";
 
     User findUserById(Long id);
 
+    @Query(value = USER_DTO_SELECT + "WHERE u.id = :id")
+    UserDTO findUserDTOById(Long id);
+
+    @Query(value = USER_DTO_SELECT + "ORDER BY u.firstName ASC",
+           countQuery = "SELECT COUNT(u) FROM User u")
+    Page<UserDTO> findAllUserDTOs(Pageable pageable);
+
+    @Query(value = USER_DTO_SELECT + "ORDER BY u.firstName ASC")
+    Slice<UserDTO> findUserDTOSlice(Pageable pageable);
+
     User findUserByEmail(String email);
 
     List<User> findUsersByProjectsAssignedId(Long projectId);
 
-    Page<User> findAllByOrderByFirstNameAsc(Pageable pageable);
-
     Page<User> findUsersByProjectsAssignedId(Long projectId, Pageable pageable);
 
+    Slice<User> findUserSliceByProjectsAssignedId(Long projectId, Pageable pageable);
+
     Page<User> findUsersByProjectsAssignedIdAndIdNot(Long projectId, Long userId, Pageable pageable);
 
+    Slice<User> findUserSliceByProjectsAssignedIdAndIdNot(Long projectId, Long userId, Pageable pageable);
+
     Page<User> findUsersByRoleNameOrderByFirstName(RoleEnum roleName, Pageable pageable);
 
+    Slice<User> findUserSliceByRoleNameOrderByFirstName(RoleEnum roleName, Pageable pageable);
+
     Page<User> findUsersByRoleNameAndIdNotInOrderByFirstName(RoleEnum roleName, List<Long> usersIds, Pageable pageable);
 
-    @Query(value = "SELECT u FROM User u " +
-                   "WHERE CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
-                   "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName% ORDER BY u.firstName")
+    Slice<User> findUserSliceByRoleNameAndIdNotInOrderByFirstName(RoleEnum roleName, List<Long> usersIds, Pageable pageable);
+
+    @Query(value = USERS_BY_FULL_NAME)
     Page<User> findUserByFirstNameAndLastNameContaining(String fullName, Pageable pageable);
 
+    @Query(value = USERS_BY_FULL_NAME)
+    Slice<User> findUserSliceByFirstNameAndLastNameContaining(String fullName, Pageable pageable);
+
 
-    @Query(value = "SELECT u FROM User u JOIN u.projectsAssigned project " +
-                   "WHERE project.id = :projectId " +
-                   "AND (CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
-                   "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName%)" +
-                   "ORDER BY u.firstName")
+    @Query(value = USERS_BY_FULL_NAME_AND_PROJECT)
     Page<User> findUsersByFullNameAndProjectsAssignedId(String fullName, Long projectId, Pageable pageable);
 
-    @Query(value = "SELECT u FROM User u JOIN u.projectsAssigned project " +
-                   "WHERE project.id = :projectId " +
-                   "AND u.id <> :userId " +
-                   "AND (CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
-                   "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName%)" +
-                   "ORDER BY u.firstName")
+    @Query(value = USERS_BY_FULL_NAME_AND_PROJECT)
+    Slice<User> findUserSliceByFullNameAndProjectsAssignedId(String fullName, Long projectId, Pageable pageable);
+
+    @Query(value = USERS_BY_FULL_NAME_AND_PROJECT_EXCLUDE_USER)
     Page<User> findUsersByFullNameAndProjectsAssignedIdAndIdNot(Long projectId, Long userId, String fullName, Pageable pageable);
 
-    @Query(value = "SELECT u FROM User u " +
-            "WHERE u.role.name = :roleName " +
-            "AND (CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
-            "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName%) " +
-            "ORDER BY u.firstName")
+    @Query(value = USERS_BY_FULL_NAME_AND_PROJECT_EXCLUDE_USER)
+    Slice<User> findUserSliceByFullNameAndProjectsAssignedIdAndIdNot(Long projectId, Long userId, String fullName, Pageable pageable);
+
+    @Query(value = USERS_BY_ROLE_AND_FULL_NAME)
     Page<User> findUsersByRoleAndFullName(RoleEnum roleName, String fullName, Pageable pageable);
 
-    @Query(value = "SELECT u FROM User u " +
-                   "WHERE u.id NOT IN :userIds " +
-                   "AND u.role.name = :roleName " +
-                   "AND (CONCAT(u.firstName, ' ' ,u.lastName) LIKE :fullName% " +
-                   "OR CONCAT(u.lastName, ' ', u.firstName) LIKE :fullName%) " +
-                   "ORDER BY u.firstName")
+    @Query(value = USERS_BY_ROLE_AND_FULL_NAME)
+    Slice<User> findUserSliceByRoleAndFullName(RoleEnum roleName, String fullName, Pageable pageable);
+
+    @Query(value = USERS_BY_ROLE_AND_FULL_NAME_NOT_IN)
     Page<User> findUsersByRoleAndFullNameAndNotInProject(RoleEnum roleName, String fullName, List<Long> userIds, Pageable pageable);
+
+    @Query(value = USERS_BY_ROLE_AND_FULL_NAME_NOT_IN)
+    Slice<User> findUserSliceByRoleAndFullNameAndNotInProject(RoleEnum roleName, String fullName, List<Long> userIds, Pageable pageable);
 }
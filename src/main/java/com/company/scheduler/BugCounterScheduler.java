@@ -0,0 +1,41 @@
+package com.company.scheduler;
+
+import com.company.service.BugCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.company.constant.BugCounterConstant.*;
+
+@Component
+public class BugCounterScheduler
+{
+    private final Logger LOGGER = LoggerFactory.getLogger(getClass());
+    private final BugCounterService bugCounterService;
+
+    @Autowired
+    public BugCounterScheduler(BugCounterService bugCounterService)
+    {
+        this.bugCounterService = bugCounterService;
+    }
+
+    // -counters only drift through writes that bypass the services, e.g. manual fixes in the database
+    @Scheduled(initialDelay = RECONCILIATION_INITIAL_DELAY, fixedDelay = RECONCILIATION_INTERVAL)
+    public void reconcileCounters()
+    {
+        int repairedCounters = this.bugCounterService.reconcile();
+        if(repairedCounters > 0)
+        {
+            LOGGER.warn("Repaired " + repairedCounters + " drifted bug counters");
+        }
+    }
+
+    @Scheduled(cron = ROLLUP_COMPACTION_CRON)
+    public void compactRollups()
+    {
+        int compactedRows = this.bugCounterService.compactRollups();
+        LOGGER.info("Compacted " + compactedRows + " bug rollup rows");
+    }
+}
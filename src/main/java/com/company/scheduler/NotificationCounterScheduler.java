@@ -0,0 +1,35 @@
+package com.company.scheduler;
+
+import com.company.service.UnseenNotificationCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.company.constant.NotificationConstant.UNSEEN_COUNTER_RECONCILIATION_INITIAL_DELAY;
+import static com.company.constant.NotificationConstant.UNSEEN_COUNTER_RECONCILIATION_INTERVAL;
+
+@Component
+public class NotificationCounterScheduler
+{
+    private final Logger LOGGER = LoggerFactory.getLogger(getClass());
+    private final UnseenNotificationCounter unseenNotificationCounter;
+
+    @Autowired
+    public NotificationCounterScheduler(UnseenNotificationCounter unseenNotificationCounter)
+    {
+        this.unseenNotificationCounter = unseenNotificationCounter;
+    }
+
+    // -counters drift when a row commits between a counter load and its after-commit update, or through manual fixes in the database
+    @Scheduled(initialDelay = UNSEEN_COUNTER_RECONCILIATION_INITIAL_DELAY, fixedDelay = UNSEEN_COUNTER_RECONCILIATION_INTERVAL)
+    public void reconcileUnseenCounters()
+    {
+        int repairedCounters = this.unseenNotificationCounter.reconcile();
+        if(repairedCounters > 0)
+        {
+            LOGGER.warn("Repaired " + repairedCounters + " drifted unseen notification counters");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.company.scheduler;
+
+import com.company.service.NotificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.company.constant.NotificationConstant.*;
+
+@Component
+public class NotificationOutboxScheduler
+{
+    private final NotificationService notificationService;
+
+    @Autowired
+    public NotificationOutboxScheduler(NotificationService notificationService)
+    {
+        this.notificationService = notificationService;
+    }
+
+    // -each batch commits on its own, a full batch means more entries are probably waiting
+    @Scheduled(initialDelay = OUTBOX_DISPATCH_INITIAL_DELAY, fixedDelay = OUTBOX_DISPATCH_INTERVAL)
+    public void dispatchNotifications()
+    {
+        int dispatchedEntries;
+        do
+        {
+            dispatchedEntries = this.notificationService.dispatchOutbox();
+        } while(dispatchedEntries == OUTBOX_DISPATCH_BATCH_SIZE);
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.scheduler;
+
+import com.company.exception.UserNotFoundException;
+import com.company.service.BugService;
+import com.company.service.ProjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.company.constant.PurgeConstant.PURGE_INITIAL_DELAY;
+import static com.company.constant.PurgeConstant.PURGE_INTERVAL;
+
+@Component
+public class PurgeScheduler
+{
+    private final Logger LOGGER = LoggerFactory.getLogger(getClass());
+    private final BugService bugService;
+    private final ProjectService projectService;
+
+    @Autowired
+    public PurgeScheduler(BugService bugService, ProjectService projectService)
+    {
+        this.bugService = bugService;
+        this.projectService = projectService;
+    }
+
+    // -one chunk of each per run, so a large deletion is spread over many short transactions
+    @Scheduled(initialDelay = PURGE_INITIAL_DELAY, fixedDelay = PURGE_INTERVAL)
+    public void purgeDeletedItems()
+    {
+        int purgedBugs = this.bugService.purgeDeletedBugs();
+        if(purgedBugs > 0)
+        {
+            LOGGER.info("Purged " + purgedBugs + " deleted bugs");
+        }
+
+        try
+        {
+            // -a deleted project is only picked up once all of its bugs are gone
+            int purgedProjects = this.projectService.purgeDeletedProjects();
+            if(purgedProjects > 0)
+            {
+                LOGGER.info("Purged " + purgedProjects + " deleted projects");
+            }
+        } catch (UserNotFoundException e)
+        {
+            LOGGER.error("Deleted projects could not be purged: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.company.service;
+
+import com.company.domain.BugCounterSnapshot;
+import com.company.dto.BugTrendPointDTO;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BugCounterService
+{
+    long getCount(BugCounterScope scope, Long scopeId);
+
+    long getCount(BugCounterScope scope, Long scopeId, BugStatus status);
+
+    long getCountCreatedAfter(BugCounterScope scope, Long scopeId, LocalDateTime dateTime);
+
+    List<BugTrendPointDTO> getCreationTrend(BugCounterScope scope, Long scopeId, LocalDate day);
+
+    void update(Collection<BugCounterSnapshot> previous, Collection<BugCounterSnapshot> current);
+
+    void removeProject(Long projectId);
+
+    int reconcile();
+
+    int compactRollups();
+}
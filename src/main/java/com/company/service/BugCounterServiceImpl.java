@@ -0,0 +1,247 @@
+package com.company.service;
+
+import com.company.domain.BugCounterSnapshot;
+import com.company.dto.BugTrendPointDTO;
+import com.company.entity.BugCounter;
+import com.company.entity.BugCounterId;
+import com.company.entity.BugDailyRollup;
+import com.company.entity.BugDailyRollupId;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugStatus;
+import com.company.repository.BugCounterRepository;
+import com.company.repository.BugDailyRollupRepository;
+import com.company.repository.BugRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.Tuple;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.company.constant.BugCounterConstant.ROLLUP_DAILY_RETENTION_DAYS;
+
+@Service
+@Transactional(readOnly = true)
+public class BugCounterServiceImpl implements BugCounterService
+{
+    private final BugCounterRepository bugCounterRepository;
+    private final BugDailyRollupRepository bugDailyRollupRepository;
+    private final BugRepository bugRepository;
+
+    @Autowired
+    public BugCounterServiceImpl(BugCounterRepository bugCounterRepository,
+                                 BugDailyRollupRepository bugDailyRollupRepository,
+                                 BugRepository bugRepository)
+    {
+        this.bugCounterRepository = bugCounterRepository;
+        this.bugDailyRollupRepository = bugDailyRollupRepository;
+        this.bugRepository = bugRepository;
+    }
+
+
+    @Override
+    public long getCount(BugCounterScope scope, Long scopeId)
+    {
+        return this.bugCounterRepository.sumCountsByScope(scope, scopeId);
+    }
+
+    @Override
+    public long getCount(BugCounterScope scope, Long scopeId, BugStatus status)
+    {
+        return this.bugCounterRepository.findById(new BugCounterId(scope, scopeId, status))
+                .map(BugCounter::getCount)
+                .orElse(0L);
+    }
+
+
+
+    // -the rollup only answers whole days, and whole months before the compaction boundary, so the partial day or month
+    //  at the start of the window is counted from the bugs themselves
+    @Override
+    public long getCountCreatedAfter(BugCounterScope scope, Long scopeId, LocalDateTime dateTime)
+    {
+        LocalDate rollupDay = getFirstWholeRollupDay(dateTime);
+        return this.bugRepository.countBugsCreatedBetween(scope, scopeId, dateTime, rollupDay.atStartOfDay())
+               + this.bugDailyRollupRepository.sumCountsSince(scope, scopeId, rollupDay);
+    }
+
+    @Override
+    public List<BugTrendPointDTO> getCreationTrend(BugCounterScope scope, Long scopeId, LocalDate day)
+    {
+        return this.bugDailyRollupRepository.sumCountsByDaySince(scope, scopeId, getRollupDay(day))
+                .stream()
+                .map(tuple -> new BugTrendPointDTO(tuple.get("creationDay", LocalDate.class), tuple.get("bugCount", Long.class)))
+                .toList();
+    }
+
+
+
+    @Override
+    @Transactional
+    public void update(Collection<BugCounterSnapshot> previous, Collection<BugCounterSnapshot> current)
+    {
+        Map<BugCounterId, Long> deltas = new TreeMap<>();
+        Map<BugDailyRollupId, Long> rollupDeltas = new TreeMap<>();
+        previous.forEach(snapshot -> addDeltas(deltas, rollupDeltas, snapshot, -1));
+        current.forEach(snapshot -> addDeltas(deltas, rollupDeltas, snapshot, 1));
+
+        this.applyDeltas(deltas);
+        this.applyRollupDeltas(rollupDeltas);
+    }
+
+
+
+    @Override
+    @Transactional
+    public void removeProject(Long projectId)
+    {
+        Map<BugCounterId, Long> deltas = new TreeMap<>();
+        for(Tuple tuple : this.bugRepository.countBugCounterSnapshotsByProjectId(projectId))
+        {
+            addDeltas(deltas, new TreeMap<>(), BugCounterSnapshot.ofKeys(tuple), -tuple.get("bugCount", Long.class));
+        }
+
+        this.applyDeltas(deltas);
+        this.bugDailyRollupRepository.deleteByProjectId(projectId);
+    }
+
+
+
+    @Override
+    @Transactional
+    public int reconcile()
+    {
+        int repairedCounters = 0;
+        for(BugCounterScope scope : BugCounterScope.values())
+        {
+            // -bugs and counters are read in one transaction, so they come from the same snapshot and their difference
+            //  is exactly the drift; it is applied as a delta so that writes committed in the meantime are kept
+            Map<BugCounterId, Long> deltas = new TreeMap<>(this.bugCounterRepository.countBugsByScope(scope));
+            this.bugCounterRepository.findAllByIdScope(scope)
+                    .forEach(counter -> deltas.merge(counter.getId(), -counter.getCount(), Long::sum));
+
+            repairedCounters += this.applyDeltas(deltas);
+        }
+
+        return repairedCounters + this.reconcileRollups();
+    }
+
+
+
+    @Override
+    @Transactional
+    public int compactRollups()
+    {
+        LocalDate boundary = getCompactionBoundary();
+        List<BugDailyRollup> dailyRows = this.bugDailyRollupRepository.findDailyRowsBefore(boundary);
+
+        Map<BugDailyRollupId, Long> monthlyDeltas = new TreeMap<>();
+        for(BugDailyRollup row : dailyRows)
+        {
+            BugDailyRollupId id = row.getId();
+            monthlyDeltas.merge(new BugDailyRollupId(id.getCreationDay().withDayOfMonth(1), id.getProjectId(), id.getCreatorId(), id.getStatus()),
+                    row.getCount(), Long::sum);
+        }
+
+        this.bugDailyRollupRepository.deleteDailyRowsBefore(boundary);
+        this.applyRollupDeltas(monthlyDeltas);
+
+        // -status changes and deletions leave rows at zero behind
+        return dailyRows.size() + this.bugDailyRollupRepository.deleteEmptyRows();
+    }
+
+
+
+    // -only the days still kept daily are recomputed, older drift stays folded into the month rows
+    private int reconcileRollups()
+    {
+        LocalDate boundary = getCompactionBoundary();
+        Map<BugDailyRollupId, Long> deltas = new TreeMap<>(this.bugDailyRollupRepository.countBugsByDaySince(boundary));
+        this.bugDailyRollupRepository.findAllByIdCreationDayGreaterThanEqual(boundary)
+                .forEach(row -> deltas.merge(row.getId(), -row.getCount(), Long::sum));
+
+        return this.applyRollupDeltas(deltas);
+    }
+
+    private static void addDeltas(Map<BugCounterId, Long> deltas, Map<BugDailyRollupId, Long> rollupDeltas, BugCounterSnapshot snapshot, long delta)
+    {
+        if(snapshot.status() == null)
+        {
+            return;
+        }
+
+        for(BugCounterScope scope : BugCounterScope.values())
+        {
+            Long scopeId = snapshot.getScopeId(scope);
+            if(scopeId != null)
+            {
+                deltas.merge(new BugCounterId(scope, scopeId, snapshot.status()), delta, Long::sum);
+            }
+        }
+
+        if(snapshot.creationDay() != null)
+        {
+            rollupDeltas.merge(new BugDailyRollupId(getRollupDay(snapshot.creationDay()), snapshot.projectId(), snapshot.creatorId(), snapshot.status()),
+                    delta, Long::sum);
+        }
+    }
+
+    // -counters are updated in key order, so concurrent writers lock them in the same order and cannot deadlock
+    private int applyDeltas(Map<BugCounterId, Long> deltas)
+    {
+        int updatedCounters = 0;
+        for(Map.Entry<BugCounterId, Long> entry : deltas.entrySet())
+        {
+            if(entry.getValue() != 0)
+            {
+                this.bugCounterRepository.addToCount(entry.getKey(), entry.getValue());
+                updatedCounters++;
+            }
+        }
+
+        return updatedCounters;
+    }
+
+    private int applyRollupDeltas(Map<BugDailyRollupId, Long> deltas)
+    {
+        int updatedRows = 0;
+        for(Map.Entry<BugDailyRollupId, Long> entry : deltas.entrySet())
+        {
+            if(entry.getValue() != 0)
+            {
+                this.bugDailyRollupRepository.addToCount(entry.getKey(), entry.getValue());
+                updatedRows++;
+            }
+        }
+
+        return updatedRows;
+    }
+
+    // -days before the compaction boundary only exist as the first day of their month, so windows reaching that far
+    //  are widened to whole months
+    private static LocalDate getRollupDay(LocalDate day)
+    {
+        return day.isBefore(getCompactionBoundary()) ? day.withDayOfMonth(1) : day;
+    }
+
+    private static LocalDate getFirstWholeRollupDay(LocalDateTime dateTime)
+    {
+        LocalDate nextDay = dateTime.toLocalDate().plusDays(1);
+        if(nextDay.isBefore(getCompactionBoundary()) && nextDay.getDayOfMonth() != 1)
+        {
+            return nextDay.withDayOfMonth(1).plusMonths(1);
+        }
+
+        return nextDay;
+    }
+
+    private static LocalDate getCompactionBoundary()
+    {
+        return LocalDate.now().minusDays(ROLLUP_DAILY_RETENTION_DAYS);
+    }
+}
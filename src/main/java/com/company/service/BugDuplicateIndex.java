@@ -0,0 +1,258 @@
+package com.company.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.company.utils.TransactionUtils.afterCommit;
+
+
+@Service
+public class BugDuplicateIndex
+{
+    public static final int SHINGLE_LENGTH = 3;
+    public static final int BANDS = 16;
+    public static final int ROWS = 4;
+    public static final double SIMILARITY_THRESHOLD = 0.5;
+
+    private static final int SIGNATURE_LENGTH = BANDS * ROWS;
+    private static final long[] SEEDS = new Random(0x5EEDL).longs(SIGNATURE_LENGTH).toArray();
+
+    private final Map<Long, ProjectIndex> projectIndexes = new ConcurrentHashMap<>();
+    private final Map<Long, Long> bugProjects = new ConcurrentHashMap<>();
+
+
+    public void index(Long bugId, Long projectId, String name, String description)
+    {
+        int[] signature = signature(shingles(name, description));
+        afterCommit(() -> this.doIndex(bugId, projectId, signature));
+    }
+
+    // -for the rebuild, which only reads committed bugs and must not queue them all until its transaction ends
+    public void indexNow(Long bugId, Long projectId, String name, String description)
+    {
+        this.doIndex(bugId, projectId, signature(shingles(name, description)));
+    }
+
+    public void remove(Long bugId)
+    {
+        afterCommit(() -> this.doRemove(bugId));
+    }
+
+    public void clear()
+    {
+        this.projectIndexes.clear();
+        this.bugProjects.clear();
+    }
+
+
+    public List<Long> findPossibleDuplicates(Long projectId, Long bugId, String name, String description, int limit)
+    {
+        ProjectIndex projectIndex = this.projectIndexes.get(projectId);
+        Set<String> shingles = shingles(name, description);
+        if(projectIndex == null || shingles.isEmpty())
+        {
+            return List.of();
+        }
+
+        return projectIndex.findSimilar(signature(shingles), bugId, limit);
+    }
+
+
+    // -character shingles of every term, so that "crash" and "crashes" still share most of them
+    public static Set<String> shingles(String name, String description)
+    {
+        Set<String> shingles = new HashSet<>();
+        List<String> terms = new ArrayList<>(BugSearchIndex.tokenize(name));
+        terms.addAll(BugSearchIndex.tokenize(description));
+
+        for(String term : terms)
+        {
+            if(term.length() <= SHINGLE_LENGTH)
+            {
+                shingles.add(term);
+                continue;
+            }
+
+            for(int i = 0; i + SHINGLE_LENGTH <= term.length(); i++)
+            {
+                shingles.add(term.substring(i, i + SHINGLE_LENGTH));
+            }
+        }
+
+        return shingles;
+    }
+
+    // -the share of equal positions in two signatures estimates the jaccard similarity of their shingle sets
+    public static int[] signature(Set<String> shingles)
+    {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for(String shingle : shingles)
+        {
+            int hash = shingle.hashCode();
+            for(int i = 0; i < SIGNATURE_LENGTH; i++)
+            {
+                signature[i] = Math.min(signature[i], mix(hash ^ SEEDS[i]));
+            }
+        }
+
+        return signature;
+    }
+
+    public static double similarity(int[] first, int[] second)
+    {
+        int equal = 0;
+        for(int i = 0; i < SIGNATURE_LENGTH; i++)
+        {
+            if(first[i] == second[i])
+            {
+                equal++;
+            }
+        }
+
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    private static int mix(long value)
+    {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (value ^ (value >>> 33));
+    }
+
+
+    private void doIndex(Long bugId, Long projectId, int[] signature)
+    {
+        Long previousProjectId = this.bugProjects.put(bugId, projectId);
+        if(previousProjectId != null && !previousProjectId.equals(projectId))
+        {
+            this.removeFromProject(previousProjectId, bugId);
+        }
+
+        this.projectIndexes.computeIfAbsent(projectId, id -> new ProjectIndex()).put(bugId, signature);
+    }
+
+    private void doRemove(Long bugId)
+    {
+        Long projectId = this.bugProjects.remove(bugId);
+        if(projectId != null)
+        {
+            this.removeFromProject(projectId, bugId);
+        }
+    }
+
+    private void removeFromProject(Long projectId, Long bugId)
+    {
+        ProjectIndex projectIndex = this.projectIndexes.get(projectId);
+        if(projectIndex != null)
+        {
+            projectIndex.remove(bugId);
+        }
+    }
+
+
+
+    private static class ProjectIndex
+    {
+        private final Map<Long, Set<Long>> buckets = new HashMap<>();
+        private final Map<Long, int[]> signatures = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void put(Long bugId, int[] signature)
+        {
+            this.lock.writeLock().lock();
+            try
+            {
+                this.removeSignature(bugId);
+
+                for(int band = 0; band < BANDS; band++)
+                {
+                    this.buckets.computeIfAbsent(bucketKey(signature, band), key -> new HashSet<>()).add(bugId);
+                }
+                this.signatures.put(bugId, signature);
+            } finally
+            {
+                this.lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long bugId)
+        {
+            this.lock.writeLock().lock();
+            try
+            {
+                this.removeSignature(bugId);
+            } finally
+            {
+                this.lock.writeLock().unlock();
+            }
+        }
+
+        // -only bugs sharing at least one whole band with the signature are compared, the rest of the project is never looked at
+        List<Long> findSimilar(int[] signature, Long excludedBugId, int limit)
+        {
+            this.lock.readLock().lock();
+            try
+            {
+                Set<Long> candidates = new HashSet<>();
+                for(int band = 0; band < BANDS; band++)
+                {
+                    candidates.addAll(this.buckets.getOrDefault(bucketKey(signature, band), Set.of()));
+                }
+                candidates.remove(excludedBugId);
+
+                Map<Long, Double> similarities = new HashMap<>();
+                for(Long candidate : candidates)
+                {
+                    double similarity = similarity(signature, this.signatures.get(candidate));
+                    if(similarity >= SIMILARITY_THRESHOLD)
+                    {
+                        similarities.put(candidate, similarity);
+                    }
+                }
+
+                return similarities.entrySet()
+                        .stream()
+                        .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                        .limit(limit)
+                        .map(Map.Entry::getKey)
+                        .toList();
+            } finally
+            {
+                this.lock.readLock().unlock();
+            }
+        }
+
+        private void removeSignature(Long bugId)
+        {
+            int[] previous = this.signatures.remove(bugId);
+            if(previous == null)
+            {
+                return;
+            }
+
+            for(int band = 0; band < BANDS; band++)
+            {
+                Long key = bucketKey(previous, band);
+                Set<Long> bucket = this.buckets.get(key);
+                bucket.remove(bugId);
+                if(bucket.isEmpty())
+                {
+                    this.buckets.remove(key);
+                }
+            }
+        }
+
+        private static Long bucketKey(int[] signature, int band)
+        {
+            int hash = Arrays.hashCode(Arrays.copyOfRange(signature, band * ROWS, (band + 1) * ROWS));
+            return ((long) band << 32) | (hash & 0xffffffffL);
+        }
+    }
+}
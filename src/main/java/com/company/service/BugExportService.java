@@ -0,0 +1,11 @@
+package com.company.service;
+
+import com.company.enumeration.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BugExportService
+{
+    void exportBugsByProjectId(Long projectId, ExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,106 @@
+package com.company.service;
+
+import com.company.dto.BugDTO;
+import com.company.dto.UserDTO;
+import com.company.enumeration.ExportFormat;
+import com.company.repository.BugRepository;
+import com.company.service.mapper.BugTupleDTOMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.Tuple;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.company.constant.ExportConstant.*;
+
+@Service
+@Transactional(readOnly = true)
+public class BugExportServiceImpl implements BugExportService
+{
+    private final BugRepository bugRepository;
+    private final BugTupleDTOMapper bugTupleDTOMapper;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public BugExportServiceImpl(BugRepository bugRepository,
+                                BugTupleDTOMapper bugTupleDTOMapper,
+                                ObjectMapper objectMapper)
+    {
+        this.bugRepository = bugRepository;
+        this.bugTupleDTOMapper = bugTupleDTOMapper;
+        this.objectMapper = objectMapper;
+    }
+
+
+    @Override
+    public void exportBugsByProjectId(Long projectId, ExportFormat format, OutputStream outputStream) throws IOException
+    {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if(format == ExportFormat.CSV)
+        {
+            writer.write(CSV_HEADER + LINE_SEPARATOR);
+        }
+
+        // rows are read as scalar tuples, nothing becomes managed, so the persistence context stays empty
+        try (Stream<Tuple> tuples = this.bugRepository.streamBugDTOsByProjectId(projectId))
+        {
+            Iterator<Tuple> iterator = tuples.iterator();
+            for(int row = 1; iterator.hasNext(); row++)
+            {
+                BugDTO bug = this.bugTupleDTOMapper.apply(iterator.next());
+                writer.write(format == ExportFormat.CSV ? this.toCsvLine(bug) : this.objectMapper.writeValueAsString(bug));
+                writer.write(LINE_SEPARATOR);
+
+                if(row % EXPORT_FLUSH_INTERVAL == 0)
+                {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+
+    private String toCsvLine(BugDTO bug)
+    {
+        UserDTO creator = bug.creator();
+        UserDTO assignee = bug.assignee();
+
+        return String.join(CSV_SEPARATOR,
+                toCsvValue(bug.id()),
+                toCsvValue(bug.name()),
+                toCsvValue(bug.description()),
+                toCsvValue(bug.classification()),
+                toCsvValue(bug.status()),
+                toCsvValue(bug.severity()),
+                toCsvValue(bug.creationDate()),
+                toCsvValue(creator == null ? null : creator.id()),
+                toCsvValue(creator == null ? null : creator.email()),
+                toCsvValue(assignee == null ? null : assignee.id()),
+                toCsvValue(assignee == null ? null : assignee.email()),
+                toCsvValue(bug.project().id()),
+                toCsvValue(bug.project().name()));
+    }
+
+    private static String toCsvValue(Object value)
+    {
+        if(value == null)
+        {
+            return "";
+        }
+
+        String text = value.toString();
+        if(text.contains(CSV_SEPARATOR) || text.contains(CSV_QUOTE) || text.contains("\n") || text.contains("\r"))
+        {
+            return CSV_QUOTE + text.replace(CSV_QUOTE, CSV_ESCAPED_QUOTE) + CSV_QUOTE;
+        }
+
+        return text;
+    }
+}
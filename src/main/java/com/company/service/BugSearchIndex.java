@@ -0,0 +1,233 @@
+package com.company.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.company.utils.TransactionUtils.afterCommit;
+
+
+@Service
+public class BugSearchIndex
+{
+    public static final int MINIMUM_TERM_LENGTH = 2;
+    public static final int NAME_WEIGHT = 3;
+    public static final double K1 = 1.2;
+    public static final double B = 0.75;
+
+    private static final String TERM_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+    private final Map<Long, ProjectIndex> projectIndexes = new ConcurrentHashMap<>();
+    private final Map<Long, Long> bugProjects = new ConcurrentHashMap<>();
+
+
+    public void index(Long bugId, Long projectId, String name, String description)
+    {
+        afterCommit(() -> this.indexNow(bugId, projectId, name, description));
+    }
+
+    // -for the rebuild, which only reads committed bugs and must not queue them all until its transaction ends
+    public void indexNow(Long bugId, Long projectId, String name, String description)
+    {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(name).forEach(term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+
+        Long previousProjectId = this.bugProjects.put(bugId, projectId);
+        if(previousProjectId != null && !previousProjectId.equals(projectId))
+        {
+            this.removeFromProject(previousProjectId, bugId);
+        }
+
+        this.projectIndexes.computeIfAbsent(projectId, id -> new ProjectIndex()).put(bugId, frequencies);
+    }
+
+    public void remove(Long bugId)
+    {
+        afterCommit(() -> this.doRemove(bugId));
+    }
+
+    public void clear()
+    {
+        this.projectIndexes.clear();
+        this.bugProjects.clear();
+    }
+
+    public int size()
+    {
+        return this.bugProjects.size();
+    }
+
+
+    public List<Long> search(Long projectId, String query, int limit)
+    {
+        ProjectIndex projectIndex = this.projectIndexes.get(projectId);
+        List<String> terms = tokenize(query);
+        if(projectIndex == null || terms.isEmpty())
+        {
+            return List.of();
+        }
+
+        return projectIndex.search(new ArrayList<>(new LinkedHashSet<>(terms)), limit);
+    }
+
+
+    public static List<String> tokenize(String text)
+    {
+        if(text == null)
+        {
+            return List.of();
+        }
+
+        List<String> terms = new ArrayList<>();
+        for(String term : text.toLowerCase(Locale.ROOT).split(TERM_SEPARATOR))
+        {
+            if(term.length() >= MINIMUM_TERM_LENGTH)
+            {
+                terms.add(term);
+            }
+        }
+
+        return terms;
+    }
+
+
+    private void doRemove(Long bugId)
+    {
+        Long projectId = this.bugProjects.remove(bugId);
+        if(projectId != null)
+        {
+            this.removeFromProject(projectId, bugId);
+        }
+    }
+
+    private void removeFromProject(Long projectId, Long bugId)
+    {
+        ProjectIndex projectIndex = this.projectIndexes.get(projectId);
+        if(projectIndex != null)
+        {
+            projectIndex.remove(bugId);
+        }
+    }
+
+
+
+    private static class ProjectIndex
+    {
+        private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private long totalLength;
+
+        void put(Long bugId, Map<String, Integer> frequencies)
+        {
+            this.lock.writeLock().lock();
+            try
+            {
+                this.removeDocument(bugId);
+
+                frequencies.forEach((term, frequency) ->
+                        this.postings.computeIfAbsent(term, t -> new HashMap<>()).put(bugId, frequency));
+                this.documents.put(bugId, frequencies);
+                this.totalLength += length(frequencies);
+            } finally
+            {
+                this.lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long bugId)
+        {
+            this.lock.writeLock().lock();
+            try
+            {
+                this.removeDocument(bugId);
+            } finally
+            {
+                this.lock.writeLock().unlock();
+            }
+        }
+
+        List<Long> search(List<String> terms, int limit)
+        {
+            this.lock.readLock().lock();
+            try
+            {
+                int documentCount = this.documents.size();
+                if(documentCount == 0)
+                {
+                    return List.of();
+                }
+
+                double averageLength = (double) this.totalLength / documentCount;
+                Map<Long, Double> scores = new HashMap<>();
+
+                for(int i = 0; i < terms.size(); i++)
+                {
+                    String term = terms.get(i);
+                    boolean isLastTerm = i == terms.size() - 1;
+
+                    // the last term is matched as a prefix so that partially typed words already find results
+                    Map<String, Map<Long, Integer>> matches = isLastTerm
+                            ? this.postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                            : this.postings.containsKey(term) ? Map.of(term, this.postings.get(term)) : Map.of();
+
+                    matches.values().forEach(posting ->
+                            this.score(posting, documentCount, averageLength, scores));
+                }
+
+                return scores.entrySet()
+                        .stream()
+                        .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                        .limit(limit)
+                        .map(Map.Entry::getKey)
+                        .toList();
+            } finally
+            {
+                this.lock.readLock().unlock();
+            }
+        }
+
+        private void score(Map<Long, Integer> posting, int documentCount, double averageLength, Map<Long, Double> scores)
+        {
+            int documentFrequency = posting.size();
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+            posting.forEach((bugId, frequency) ->
+            {
+                double lengthNorm = 1 - B + B * length(this.documents.get(bugId)) / averageLength;
+                double score = idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                scores.merge(bugId, score, Double::sum);
+            });
+        }
+
+        private void removeDocument(Long bugId)
+        {
+            Map<String, Integer> previous = this.documents.remove(bugId);
+            if(previous == null)
+            {
+                return;
+            }
+
+            previous.keySet().forEach(term ->
+            {
+                Map<Long, Integer> posting = this.postings.get(term);
+                posting.remove(bugId);
+                if(posting.isEmpty())
+                {
+                    this.postings.remove(term);
+                }
+            });
+            this.totalLength -= length(previous);
+        }
+
+        private static int length(Map<String, Integer> frequencies)
+        {
+            return frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+}
@@ -1,47 +1,69 @@
 package com.company.service;
 
+import com.company.domain.BugFilter;
+import com.company.domain.CursorPage;
 import com.company.dto.BugDTO;
+import com.company.dto.BugReportDTO;
+import com.company.dto.BugStatisticsDTO;
+import com.company.dto.BugTrendPointDTO;
 import com.company.entity.Bug;
+import com.company.enumeration.BugBulkOperation;
 import com.company.enumeration.BugClassification;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugScope;
 import com.company.enumeration.BugSeverity;
 import com.company.enumeration.BugStatus;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.*;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BugService
 {
-    BugDTO addOrUpdate(Long creatorId,
-                       Long editorId,
-                       Long projectId,
-                       Long currentBugId,
-                       String newName,
-                       String description,
-                       BugClassification classification,
-                       BugStatus status,
-                       BugSeverity severity) throws ProjectDoesNotExistException, UserNotFoundException, BugDoesNotExistException, BugAlreadyExistException;
+    BugReportDTO addOrUpdate(Long creatorId,
+                             Long editorId,
+                             Long projectId,
+                             Long currentBugId,
+                             String newName,
+                             String description,
+                             BugClassification classification,
+                             BugStatus status,
+                             BugSeverity severity,
+                             Long expectedVersion) throws ProjectDoesNotExistException, UserNotFoundException, BugDoesNotExistException, BugAlreadyExistException;
 
     BugDTO deleteBug(Long bugId, Long deleterId) throws BugDoesNotExistException, UserNotFoundException, IllegalAccessException;
 
     BugDTO getBugById(Long bugId);
 
-    Page<BugDTO> getBugsByProjectId(Long projectId, int page, int size, String sortOrder, boolean ascending);
+    Slice<BugDTO> getBugsByProjectId(Long projectId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode);
 
     List<Bug> getBugEntityListByProjectId(Long projectId);
 
-    Page<BugDTO> getBugsByCreatorId(Long creatorId, int page, int size, String sortOrder, boolean ascending);
+    Slice<BugDTO> getBugsByCreatorId(Long creatorId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode);
 
-    Page<BugDTO> getBugsByAssigneeId(Long assigneeId, int page, int size, String sortOrder, boolean ascending);
+    Slice<BugDTO> getBugsByAssigneeId(Long assigneeId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode);
 
-    Page<BugDTO> getBugsByProjectLeaderId(Long projectLeaderId, int page, int size, String sortOrder, boolean ascending);
+    Slice<BugDTO> getBugsByProjectLeaderId(Long projectLeaderId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode);
 
-    void setAssignee(Long bugId, Long assigneeId) throws UserNotFoundException, BugDoesNotExistException, UserAlreadyAssignedException;
+    Slice<BugDTO> getBugsByFilter(BugFilter filter, int page, int size, String sortOrder, boolean ascending, PaginationMode mode);
+
+    CursorPage<BugDTO> getBugsByScopeAfterCursor(BugScope scope, Long scopeId, String cursor, int size, String sortOrder, boolean ascending);
+
+    List<BugDTO> searchBugs(Long projectId, String query, int size);
+
+    int rebuildSearchIndex();
+
+    int purgeDeletedBugs();
+
+    void setAssignee(Long bugId, Long assigneeId, Long expectedVersion) throws UserNotFoundException, BugDoesNotExistException, UserAlreadyAssignedException;
 
     void unassignWorkerFromBug(Long bugId) throws BugDoesNotExistException, UserNotFoundException;
 
-    void setStatus(Long bugId, BugStatus status) throws BugDoesNotExistException;
+    void setStatus(Long bugId, BugStatus status, Long expectedVersion) throws BugDoesNotExistException, InvalidStatusTransitionException;
+
+    int applyBulkOperation(List<Long> bugIds, BugBulkOperation operation, BugStatus status, Long assigneeId) throws BugDoesNotExistException, UserNotFoundException;
 
 //  ALL BUGS
     long getCount();
@@ -58,4 +80,8 @@ public interface BugService
     long getCountByAssigneeIdAndByStatus(Long userId, BugStatus status);
     long getCountByProjectLeaderIdAndStatus(Long projectLeaderId, BugStatus status);
 
+//  ALL AGGREGATES AT ONCE
+    BugStatisticsDTO getStatistics(BugCounterScope scope, Long scopeId, int days);
+    List<BugTrendPointDTO> getCreationTrend(BugCounterScope scope, Long scopeId, int days);
+
 }
@@ -1,26 +1,49 @@
 package com.company.service;
 
+import com.company.domain.BugCounterSnapshot;
+import com.company.domain.BugCursor;
+import com.company.domain.BugFilter;
+import com.company.domain.CursorPage;
+import com.company.domain.NotificationRequest;
 import com.company.dto.BugDTO;
+import com.company.dto.BugReportDTO;
+import com.company.dto.BugStatisticsDTO;
+import com.company.dto.BugTrendPointDTO;
 import com.company.entity.Bug;
 import com.company.entity.Project;
 import com.company.entity.User;
+import com.company.enumeration.BugBulkOperation;
 import com.company.enumeration.BugClassification;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugScope;
 import com.company.enumeration.BugSeverity;
 import com.company.enumeration.BugStatus;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.*;
 import com.company.repository.BugRepository;
+import com.company.repository.BugSpecifications;
 import com.company.service.mapper.BugDTOMapper;
+import com.company.service.mapper.BugTupleDTOMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.Tuple;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.company.constant.BugConstant.*;
+import static com.company.constant.BugCounterConstant.GLOBAL_SCOPE_ID;
+import static com.company.constant.PurgeConstant.PURGE_BUG_CHUNK_SIZE;
 import static com.company.utils.PaginationUtils.getPageable;
+import static com.company.utils.PaginationUtils.getSlice;
+import static com.company.utils.VersionUtils.checkVersion;
 
 @Service
 @Transactional(readOnly = true)
@@ -30,38 +53,51 @@ public class BugServiceImpl implements BugService
     private final ProjectService projectService;
     private final UserService userService;
     private final NotificationService notificationService;
+    private final BugSearchIndex bugSearchIndex;
+    private final BugDuplicateIndex bugDuplicateIndex;
+    private final BugCounterService bugCounterService;
 
     private final BugDTOMapper bugDTOMapper;
+    private final BugTupleDTOMapper bugTupleDTOMapper;
 
     @Autowired
     public BugServiceImpl(BugRepository bugRepository,
                           ProjectService projectService,
                           UserService userService,
                           NotificationService notificationService,
-                          BugDTOMapper bugDTOMapper)
+                          BugSearchIndex bugSearchIndex,
+                          BugDuplicateIndex bugDuplicateIndex,
+                          BugCounterService bugCounterService,
+                          BugDTOMapper bugDTOMapper,
+                          BugTupleDTOMapper bugTupleDTOMapper)
     {
         this.bugRepository = bugRepository;
         this.projectService = projectService;
         this.userService = userService;
         this.notificationService = notificationService;
+        this.bugSearchIndex = bugSearchIndex;
+        this.bugDuplicateIndex = bugDuplicateIndex;
+        this.bugCounterService = bugCounterService;
         this.bugDTOMapper = bugDTOMapper;
+        this.bugTupleDTOMapper = bugTupleDTOMapper;
     }
 
 
     @Override
     @Transactional
-    public BugDTO addOrUpdate(Long creatorId,
-                              Long editorId,
-                              Long projectId,
-                              Long currentBugId,
-                              String newName,
-                              String description,
-                              BugClassification classification,
-                              BugStatus status,
-                              BugSeverity severity) throws ProjectDoesNotExistException,
-                                                      UserNotFoundException,
-                                                      BugDoesNotExistException,
-                                                      BugAlreadyExistException
+    public BugReportDTO addOrUpdate(Long creatorId,
+                                    Long editorId,
+                                    Long projectId,
+                                    Long currentBugId,
+                                    String newName,
+                                    String description,
+                                    BugClassification classification,
+                                    BugStatus status,
+                                    BugSeverity severity,
+                                    Long expectedVersion) throws ProjectDoesNotExistException,
+                                                            UserNotFoundException,
+                                                            BugDoesNotExistException,
+                                                            BugAlreadyExistException
     {
         Project project = this.projectService.getProjectEntityById(projectId);
         if(project == null)
@@ -70,9 +106,14 @@ public class BugServiceImpl implements BugService
         }
 
         Bug bug = this.validateBug(currentBugId, projectId, newName);
+        List<BugCounterSnapshot> previous = List.of();
         if(bug == null)
         {
             bug = this.initializeBug(creatorId);
+        } else
+        {
+            checkVersion(expectedVersion, bug.getVersion());
+            previous = List.of(BugCounterSnapshot.of(bug));
         }
 
         String currentBugName = bug.getName();
@@ -86,8 +127,17 @@ public class BugServiceImpl implements BugService
 
         this.notifyAboutCreationOrEditing(currentBugId, editorId, currentBugName, bug);
 
-        this.bugRepository.save(bug);
-        return this.bugDTOMapper.apply(bug);
+        // flushed right away so that the returned version already includes this update
+        this.bugRepository.saveAndFlush(bug);
+        this.bugCounterService.update(previous, List.of(BugCounterSnapshot.of(bug)));
+        this.bugSearchIndex.index(bug.getId(), project.getId(), bug.getName(), bug.getDescription());
+        this.bugDuplicateIndex.index(bug.getId(), project.getId(), bug.getName(), bug.getDescription());
+
+        // -exact names are rejected above, similar ones are only pointed out to the reporter
+        List<Long> duplicateIds = this.bugDuplicateIndex.findPossibleDuplicates(project.getId(), bug.getId(),
+                bug.getName(), bug.getDescription(), POSSIBLE_DUPLICATES_LIMIT);
+
+        return new BugReportDTO(this.bugDTOMapper.apply(bug), this.getBugDTOsInOrder(duplicateIds));
     }
     
     private Bug validateBug(Long currentId, Long projectId, String name) throws BugDoesNotExistException, BugAlreadyExistException
@@ -135,7 +185,7 @@ public class BugServiceImpl implements BugService
         return bug;
     }
 
-    private void notifyAboutCreationOrEditing(Long currentBugId, Long editorId, String currentBugName, Bug bug) throws UserNotFoundException
+    private void notifyAboutCreationOrEditing(Long currentBugId, Long editorId, String currentBugName, Bug bug)
     {
         Project project = bug.getProject();
         User creator = bug.getCreator();
@@ -163,18 +213,20 @@ public class BugServiceImpl implements BugService
     @Override
     public BugDTO getBugById(Long bugId)
     {
-        Bug bug = this.bugRepository.findBugById(bugId);
-        return this.bugDTOMapper.apply(bug);
+        Tuple tuple = this.bugRepository.findBugDTOById(bugId);
+        return this.bugTupleDTOMapper.apply(tuple);
     }
 
 
 
     @Override
-    public Page<BugDTO> getBugsByProjectId(Long projectId, int page, int size, String sortOrder, boolean ascending)
+    public Slice<BugDTO> getBugsByProjectId(Long projectId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode)
     {
         Pageable pageable = getPageable(page, size, sortOrder, ascending);
-        Page<Bug> entitiesPage = this.bugRepository.getBugsByProject_Id(projectId, pageable);
-        return entitiesPage.map(this.bugDTOMapper);
+        Slice<Tuple> tuples = getSlice(mode, pageable,
+                pageRequest -> this.bugRepository.findBugDTOsByProjectId(projectId, pageRequest),
+                pageRequest -> this.bugRepository.findBugDTOSliceByProjectId(projectId, pageRequest));
+        return tuples.map(this.bugTupleDTOMapper);
     }
 
 
@@ -188,34 +240,173 @@ public class BugServiceImpl implements BugService
 
 
     @Override
-    public Page<BugDTO> getBugsByCreatorId(Long creatorId, int page, int size, String sortOrder, boolean ascending)
+    public Slice<BugDTO> getBugsByCreatorId(Long creatorId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode)
+    {
+        Pageable pageable = getPageable(page, size, sortOrder, ascending);
+        Slice<Tuple> tuples = getSlice(mode, pageable,
+                pageRequest -> this.bugRepository.findBugDTOsByCreatorId(creatorId, pageRequest),
+                pageRequest -> this.bugRepository.findBugDTOSliceByCreatorId(creatorId, pageRequest));
+
+        return tuples.map(this.bugTupleDTOMapper);
+    }
+
+
+
+    @Override
+    public Slice<BugDTO> getBugsByAssigneeId(Long assigneeId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode)
     {
         Pageable pageable = getPageable(page, size, sortOrder, ascending);
-        Page<Bug> entitiesPage = this.bugRepository.getBugsByCreatorId(creatorId, pageable);
+        Slice<Tuple> tuples = getSlice(mode, pageable,
+                pageRequest -> this.bugRepository.findBugDTOsByAssigneeId(assigneeId, pageRequest),
+                pageRequest -> this.bugRepository.findBugDTOSliceByAssigneeId(assigneeId, pageRequest));
 
-        return entitiesPage.map(this.bugDTOMapper);
+        return tuples.map(this.bugTupleDTOMapper);
     }
 
 
 
     @Override
-    public Page<BugDTO> getBugsByAssigneeId(Long assigneeId, int page, int size, String sortOrder, boolean ascending)
+    public Slice<BugDTO> getBugsByProjectLeaderId(Long projectLeaderId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode)
     {
         Pageable pageable = getPageable(page, size, sortOrder, ascending);
-        Page<Bug> entitiesPage = this.bugRepository.getBugsByAssigneeId(assigneeId, pageable);
+        Slice<Tuple> tuples = getSlice(mode, pageable,
+                pageRequest -> this.bugRepository.findBugDTOsByProjectLeaderId(projectLeaderId, pageRequest),
+                pageRequest -> this.bugRepository.findBugDTOSliceByProjectLeaderId(projectLeaderId, pageRequest));
 
-        return entitiesPage.map(this.bugDTOMapper);
+        return tuples.map(this.bugTupleDTOMapper);
     }
 
 
 
     @Override
-    public Page<BugDTO> getBugsByProjectLeaderId(Long projectLeaderId, int page, int size, String sortOrder, boolean ascending)
+    public Slice<BugDTO> getBugsByFilter(BugFilter filter, int page, int size, String sortOrder, boolean ascending, PaginationMode mode)
     {
+        if(filter.createdFrom() != null && filter.createdBefore() != null &&
+                !filter.createdFrom().isBefore(filter.createdBefore()))
+        {
+            throw new IllegalArgumentException(INVALID_DATE_RANGE);
+        }
+
+        BugCursor.validateSortOrder(sortOrder);
         Pageable pageable = getPageable(page, size, sortOrder, ascending);
-        Page<Bug> entitiesPage = this.bugRepository.getBugsByProjectProjectLeaderId(projectLeaderId, pageable);
+        Specification<Bug> specification = BugSpecifications.matches(filter);
+        Slice<Bug> bugs = getSlice(mode, pageable,
+                pageRequest -> this.bugRepository.findAll(specification, pageRequest),
+                pageRequest -> this.bugRepository.findBugSlice(specification, pageRequest));
+
+        return bugs.map(this.bugDTOMapper);
+    }
+
+
+
+    @Override
+    public CursorPage<BugDTO> getBugsByScopeAfterCursor(BugScope scope, Long scopeId, String cursor, int size, String sortOrder, boolean ascending)
+    {
+        if(size < 1)
+        {
+            throw new IllegalArgumentException(INVALID_PAGE_SIZE);
+        }
 
-        return entitiesPage.map(this.bugDTOMapper);
+        BugCursor.validateSortOrder(sortOrder);
+        BugCursor bugCursor = cursor == null ? null : BugCursor.decode(cursor, sortOrder, ascending);
+
+        List<Bug> entities = this.bugRepository.findBugsByScopeAfter(scope, scopeId, bugCursor, sortOrder, ascending, size + 1);
+
+        boolean hasNext = entities.size() > size;
+        if(hasNext)
+        {
+            entities = entities.subList(0, size);
+        }
+
+        String nextCursor = hasNext ? BugCursor.of(entities.get(size - 1), sortOrder, ascending).encode() : null;
+        List<BugDTO> content = entities.stream().map(this.bugDTOMapper).toList();
+
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
+
+
+    @Override
+    public List<BugDTO> searchBugs(Long projectId, String query, int size)
+    {
+        if(size < 1)
+        {
+            throw new IllegalArgumentException(INVALID_PAGE_SIZE);
+        }
+
+        List<Long> bugIds = this.bugSearchIndex.search(projectId, query, size);
+        return this.getBugDTOsInOrder(bugIds);
+    }
+
+    private List<BugDTO> getBugDTOsInOrder(List<Long> bugIds)
+    {
+        if(bugIds.isEmpty())
+        {
+            return List.of();
+        }
+
+        Map<Long, BugDTO> bugsById = this.bugRepository.findBugDTOsByIds(bugIds)
+                .stream()
+                .map(this.bugTupleDTOMapper)
+                .collect(Collectors.toMap(BugDTO::id, Function.identity()));
+
+        return bugIds.stream()
+                .map(bugsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+
+
+    @Override
+    public int rebuildSearchIndex()
+    {
+        this.bugSearchIndex.clear();
+        this.bugDuplicateIndex.clear();
+
+        Long lastId = 0L;
+        List<Tuple> documents;
+        do
+        {
+            documents = this.bugRepository.findSearchDocumentsAfter(lastId, Pageable.ofSize(SEARCH_INDEX_REBUILD_BATCH_SIZE));
+            for(Tuple document : documents)
+            {
+                lastId = document.get("id", Long.class);
+                Long projectId = document.get("projectId", Long.class);
+                String name = document.get("name", String.class);
+                String description = document.get("description", String.class);
+
+                this.bugSearchIndex.indexNow(lastId, projectId, name, description);
+                this.bugDuplicateIndex.indexNow(lastId, projectId, name, description);
+            }
+        } while(documents.size() == SEARCH_INDEX_REBUILD_BATCH_SIZE);
+
+        return this.bugSearchIndex.size();
+    }
+
+
+
+    @Override
+    @Transactional
+    public int purgeDeletedBugs()
+    {
+        List<Bug> bugs = new ArrayList<>(this.bugRepository.findDeletedBugs(PURGE_BUG_CHUNK_SIZE));
+        if(bugs.size() < PURGE_BUG_CHUNK_SIZE)
+        {
+            bugs.addAll(this.bugRepository.findBugsOfDeletedProjects(PURGE_BUG_CHUNK_SIZE - bugs.size()));
+        }
+
+        if(bugs.isEmpty())
+        {
+            return 0;
+        }
+
+        List<Long> bugIds = bugs.stream().map(Bug::getId).toList();
+        int purgedBugs = this.bugRepository.purgeBugsByIdIn(bugIds);
+        bugIds.forEach(this.bugSearchIndex::remove);
+        bugIds.forEach(this.bugDuplicateIndex::remove);
+
+        return purgedBugs;
     }
 
 
@@ -237,55 +428,56 @@ public class BugServiceImpl implements BugService
             throw new IllegalAccessException(NO_PERMISSION_TO_DELETE_BUG);
         }
 
-        this.bugRepository.delete(bugToDelete);
+        bugToDelete.setDeleted(true);
+        this.bugCounterService.update(List.of(BugCounterSnapshot.of(bugToDelete)), List.of());
+        this.bugSearchIndex.remove(bugToDelete.getId());
+        this.bugDuplicateIndex.remove(bugToDelete.getId());
         this.notifyAboutDeletion(bugToDelete, deleterId);
 
         return this.bugDTOMapper.apply(bugToDelete);
     }
 
-    private void notifyAboutDeletion(Bug bugToDelete, Long deleterId) throws UserNotFoundException
+    private void notifyAboutDeletion(Bug bugToDelete, Long deleterId)
     {
         User creator = bugToDelete.getCreator();
         Project project = bugToDelete.getProject();
         User projectLeader = project.getProjectLeader();
         User assignee = bugToDelete.getAssignee();
 
+        List<NotificationRequest> notificationRequests = new ArrayList<>();
         if(assignee != null)
         {
-            this.sendNotificationAboutDeleting(projectLeader.getId(), assignee.getId(), bugToDelete, YOU_VE_BEEN_UNASSIGNED_AUTOMATICALLY);
+            notificationRequests.add(this.getDeletionNotification(projectLeader.getId(), assignee.getId(), bugToDelete, YOU_VE_BEEN_UNASSIGNED_AUTOMATICALLY));
         }
 
         Long creatorId = creator.getId();
-        if(creatorId.equals(projectLeader.getId()))
-        {
-            return;
-        }
-
-        if(deleterId.equals(creatorId))
+        if(!creatorId.equals(projectLeader.getId()))
         {
-            this.sendNotificationAboutDeleting(creatorId, projectLeader.getId(), bugToDelete, PLEASE_CONTACT + creator.getFullName() + FOR_MORE_INFORMATION);
-            return;
+            if(deleterId.equals(creatorId))
+            {
+                notificationRequests.add(this.getDeletionNotification(creatorId, projectLeader.getId(), bugToDelete, PLEASE_CONTACT + creator.getFullName() + FOR_MORE_INFORMATION));
+            } else if(deleterId.equals(projectLeader.getId()))
+            {
+                notificationRequests.add(this.getDeletionNotification(projectLeader.getId(), creatorId, bugToDelete, PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION));
+            }
         }
 
-        if(deleterId.equals(projectLeader.getId()))
-        {
-            this.sendNotificationAboutDeleting(projectLeader.getId(), creatorId, bugToDelete, PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION);
-        }
+        this.notificationService.sendNotifications(notificationRequests);
     }
 
 
-    private void sendNotificationAboutDeleting(Long senderId, Long receiverId, Bug deletedBug, String messageContext) throws UserNotFoundException
+    private NotificationRequest getDeletionNotification(Long senderId, Long receiverId, Bug deletedBug, String messageContext)
     {
         Project project = deletedBug.getProject();
 
-        this.notificationService.sendNotificationFromTo(senderId, receiverId,
+        return new NotificationRequest(senderId, receiverId,
                 ISSUE_DELETED, BUG + deletedBug.getName() + HAS_BEEN_DELETED_FROM_PROJECT + project.getName() + messageContext);
     }
 
 
     @Override
     @Transactional
-    public void setAssignee(Long bugId, Long assigneeId) throws UserNotFoundException, BugDoesNotExistException, UserAlreadyAssignedException
+    public void setAssignee(Long bugId, Long assigneeId, Long expectedVersion) throws UserNotFoundException, BugDoesNotExistException, UserAlreadyAssignedException
     {
         User assignee = this.userService.getUserEntityById(assigneeId);
         if(assignee == null)
@@ -299,6 +491,8 @@ public class BugServiceImpl implements BugService
             throw new BugDoesNotExistException(BUG_DOES_NOT_EXIST);
         }
 
+        checkVersion(expectedVersion, bug.getVersion());
+
         Project project = bug.getProject();
         User projectLeader = project.getProjectLeader();
 
@@ -316,6 +510,7 @@ public class BugServiceImpl implements BugService
                             PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION);
         }
 
+        BugCounterSnapshot previous = BugCounterSnapshot.of(bug);
         bug.setAssignee(assignee);
         if(bug.getStatus().equals(BugStatus.NEW))
         {
@@ -323,6 +518,7 @@ public class BugServiceImpl implements BugService
         }
 
         this.bugRepository.save(bug);
+        this.bugCounterService.update(List.of(previous), List.of(BugCounterSnapshot.of(bug)));
 
         this.notificationService.sendNotificationFromTo(projectLeader.getId(), assignee.getId(),
                 NEW_ASSIGNMENT,
@@ -349,6 +545,7 @@ public class BugServiceImpl implements BugService
         Project project = bug.getProject();
         User projectLeader = project.getProjectLeader();
 
+        BugCounterSnapshot previous = BugCounterSnapshot.of(bug);
         bug.setAssignee(null);
 
         if(bug.getStatus().equals(BugStatus.ASSIGNED))
@@ -357,6 +554,7 @@ public class BugServiceImpl implements BugService
         }
 
         this.bugRepository.save(bug);
+        this.bugCounterService.update(List.of(previous), List.of(BugCounterSnapshot.of(bug)));
 
         this.notificationService.sendNotificationFromTo(projectLeader.getId(), previousAssignee.getId(),
                 ASSIGNMENT_CANCELLED,
@@ -368,56 +566,280 @@ public class BugServiceImpl implements BugService
 
     @Override
     @Transactional
-    public void setStatus(Long bugId, BugStatus status) throws BugDoesNotExistException
+    public void setStatus(Long bugId, BugStatus status, Long expectedVersion) throws BugDoesNotExistException, InvalidStatusTransitionException
     {
-        Bug bug = this.bugRepository.findBugById(bugId);
-        if(bug == null)
+        if(status == null)
+        {
+            throw new IllegalArgumentException(NO_STATUS_SELECTED);
+        }
+
+        Tuple current = this.bugRepository.findCounterSnapshotById(bugId);
+        if(current == null)
         {
             throw new BugDoesNotExistException(BUG_DOES_NOT_EXIST);
         }
 
-        bug.setStatus(status);
-        this.bugRepository.save(bug);
+        // -the bug row is locked by this read, so the keys taken off the counters stay current until the update
+        checkVersion(expectedVersion, current.get("version", Long.class));
+
+        BugCounterSnapshot previous = BugCounterSnapshot.of(current);
+        if(!status.canFollow(previous.status()))
+        {
+            throw new InvalidStatusTransitionException(STATUS_CANNOT_BE_CHANGED_FROM + previous.status().getName() + TO + status.getName());
+        }
+
+        this.bugRepository.updateStatus(bugId, status);
+        this.bugCounterService.update(List.of(previous), List.of(previous.withStatus(status)));
     }
 
 
 
     @Override
-    public long getCountByCreatorId(Long creatorId) {return this.bugRepository.countBugsByCreatorId(creatorId);}
+    @Transactional
+    public int applyBulkOperation(List<Long> bugIds, BugBulkOperation operation, BugStatus status, Long assigneeId) throws BugDoesNotExistException, UserNotFoundException
+    {
+        if(bugIds == null || bugIds.isEmpty())
+        {
+            throw new EmptyListException(NO_BUGS_SELECTED);
+        }
+
+        if(operation == null)
+        {
+            throw new IllegalArgumentException(NO_BULK_OPERATION_SELECTED);
+        }
+
+        Set<Long> distinctBugIds = new LinkedHashSet<>(bugIds);
+        if(distinctBugIds.size() > MAXIMUM_BULK_OPERATION_SIZE)
+        {
+            throw new IllegalArgumentException(TOO_MANY_BUGS_SELECTED);
+        }
+
+        List<Bug> bugs = this.bugRepository.findBugsByIdIn(distinctBugIds);
+        if(bugs.size() != distinctBugIds.size())
+        {
+            throw new BugDoesNotExistException(BUG_DOES_NOT_EXIST);
+        }
+
+        List<BugCounterSnapshot> previous = bugs.stream().map(BugCounterSnapshot::of).toList();
+        Map<BulkNotification, List<String>> notifications = new LinkedHashMap<>();
+        int updatedBugs = switch (operation)
+        {
+            case SET_STATUS -> this.setStatuses(bugs, status);
+            case SET_ASSIGNEE -> this.setAssignees(bugs, assigneeId, notifications);
+            case UNASSIGN -> this.unassignWorkers(bugs, notifications);
+        };
+
+        this.bugRepository.saveAll(bugs);
+        this.bugCounterService.update(previous, bugs.stream().map(BugCounterSnapshot::of).toList());
+
+        List<NotificationRequest> notificationRequests = notifications.entrySet()
+                .stream()
+                .map(entry -> entry.getKey().toRequest(entry.getValue()))
+                .toList();
+        this.notificationService.sendNotifications(notificationRequests);
+
+        return updatedBugs;
+    }
+
+    private int setStatuses(List<Bug> bugs, BugStatus status)
+    {
+        if(status == null)
+        {
+            throw new IllegalArgumentException(NO_STATUS_SELECTED);
+        }
+
+        int updatedBugs = 0;
+        for(Bug bug : bugs)
+        {
+            if(status.canFollow(bug.getStatus()))
+            {
+                bug.setStatus(status);
+                updatedBugs++;
+            }
+        }
+
+        return updatedBugs;
+    }
+
+    private int setAssignees(List<Bug> bugs, Long assigneeId, Map<BulkNotification, List<String>> notifications) throws UserNotFoundException
+    {
+        User assignee = this.userService.getUserEntityById(assigneeId);
+        if(assignee == null)
+        {
+            throw new UserNotFoundException(COULD_NOT_FIND_THE_USER);
+        }
+
+        int updatedBugs = 0;
+        for(Bug bug : bugs)
+        {
+            User previousAssignee = bug.getAssignee();
+            if(previousAssignee != null && previousAssignee.getId().equals(assignee.getId()))
+            {
+                continue;
+            }
+
+            Long projectLeaderId = bug.getProject().getProjectLeader().getId();
+            if(previousAssignee != null)
+            {
+                notifications.computeIfAbsent(BulkNotification.cancellation(projectLeaderId, previousAssignee.getId()),
+                        key -> new ArrayList<>()).add(bug.getName());
+            }
+
+            bug.setAssignee(assignee);
+            if(bug.getStatus().equals(BugStatus.NEW))
+            {
+                bug.setStatus(BugStatus.ASSIGNED);
+            }
+
+            notifications.computeIfAbsent(BulkNotification.assignment(projectLeaderId, assignee.getId()),
+                    key -> new ArrayList<>()).add(bug.getName());
+            updatedBugs++;
+        }
+
+        return updatedBugs;
+    }
+
+    private int unassignWorkers(List<Bug> bugs, Map<BulkNotification, List<String>> notifications)
+    {
+        int updatedBugs = 0;
+        for(Bug bug : bugs)
+        {
+            User previousAssignee = bug.getAssignee();
+            if(previousAssignee == null)
+            {
+                continue;
+            }
+
+            Long projectLeaderId = bug.getProject().getProjectLeader().getId();
+            notifications.computeIfAbsent(BulkNotification.cancellation(projectLeaderId, previousAssignee.getId()),
+                    key -> new ArrayList<>()).add(bug.getName());
+
+            bug.setAssignee(null);
+            if(bug.getStatus().equals(BugStatus.ASSIGNED))
+            {
+                bug.setStatus(BugStatus.NEW);
+            }
+
+            updatedBugs++;
+        }
+
+        return updatedBugs;
+    }
+
+    private record BulkNotification(Long senderId, Long receiverId, String title, String prefix, String suffix)
+    {
+        static BulkNotification assignment(Long senderId, Long receiverId)
+        {
+            return new BulkNotification(senderId, receiverId, NEW_ASSIGNMENT, YOU_VE_BEEN_ASSIGNED_TO,
+                    PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION);
+        }
+
+        static BulkNotification cancellation(Long senderId, Long receiverId)
+        {
+            return new BulkNotification(senderId, receiverId, ASSIGNMENT_CANCELLED, YOUR_ASSIGNMENT_TO,
+                    HAS_BEEN_CANCELLED + PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION);
+        }
+
+        NotificationRequest toRequest(List<String> bugNames)
+        {
+            int available = MAXIMUM_NOTIFICATION_DESCRIPTION_LENGTH - this.prefix.length() - this.suffix.length();
+
+            String names = String.join(BUG_NAME_SEPARATOR, bugNames);
+            for(int listed = bugNames.size() - 1; names.length() > available && listed > 0; listed--)
+            {
+                names = String.join(BUG_NAME_SEPARATOR, bugNames.subList(0, listed)) + AND + (bugNames.size() - listed) + MORE;
+            }
+
+            return new NotificationRequest(this.senderId, this.receiverId, this.title, this.prefix + names + this.suffix);
+        }
+    }
+
+
+
+    @Override
+    public long getCountByCreatorId(Long creatorId) {return this.bugCounterService.getCount(BugCounterScope.CREATOR, creatorId);}
 
     @Override
-    public long getCountByCreationDateAfter(LocalDateTime date) {return this.bugRepository.countBugsByCreationDateAfter(date);}
+    public long getCountByCreationDateAfter(LocalDateTime date)
+    {
+        return this.bugCounterService.getCountCreatedAfter(BugCounterScope.ALL, GLOBAL_SCOPE_ID, date);
+    }
 
     @Override
     public long getCountByStatus(BugStatus status)
     {
-        return this.bugRepository.countBugByStatus(status);
+        return this.bugCounterService.getCount(BugCounterScope.ALL, GLOBAL_SCOPE_ID, status);
     }
 
     @Override
-    public long getCountByCreatorIdAndByCreationDateAfter(Long creatorId, LocalDateTime date) {return this.bugRepository.countBugsByCreatorIdAndCreationDateAfter(creatorId, date);}
+    public long getCountByCreatorIdAndByCreationDateAfter(Long creatorId, LocalDateTime date)
+    {
+        return this.bugCounterService.getCountCreatedAfter(BugCounterScope.CREATOR, creatorId, date);
+    }
 
     @Override
-    public long getCountByAssigneeIdAndByStatus(Long userId, BugStatus status) {return this.bugRepository.countBugByAssigneeIdAndStatus(userId, status);}
+    public long getCountByAssigneeIdAndByStatus(Long userId, BugStatus status) {return this.bugCounterService.getCount(BugCounterScope.ASSIGNEE, userId, status);}
 
     @Override
     public long getCount()
     {
-        return this.bugRepository.count();
+        return this.bugCounterService.getCount(BugCounterScope.ALL, GLOBAL_SCOPE_ID);
     }
 
     @Override
-    public long getCountByProjectLeaderId(Long projectLeaderId) {return this.bugRepository.countBugsByProjectProjectLeaderId(projectLeaderId);}
+    public long getCountByProjectLeaderId(Long projectLeaderId) {return this.bugCounterService.getCount(BugCounterScope.PROJECT_LEADER, projectLeaderId);}
 
     @Override
     public long getCountByProjectLeaderIdAndCreationDateAfter(Long projectLeaderId, LocalDateTime date)
     {
-        return this.bugRepository.countBugsByProjectProjectLeaderIdAndCreationDateAfter(projectLeaderId, date);
+        return this.bugCounterService.getCountCreatedAfter(BugCounterScope.PROJECT_LEADER, projectLeaderId, date);
     }
 
     @Override
     public long getCountByProjectLeaderIdAndStatus(Long projectLeaderId, BugStatus status)
     {
-        return this.bugRepository.countBugsByProjectProjectLeaderIdAndStatus(projectLeaderId, status);
+        return this.bugCounterService.getCount(BugCounterScope.PROJECT_LEADER, projectLeaderId, status);
+    }
+
+
+
+    @Override
+    public BugStatisticsDTO getStatistics(BugCounterScope scope, Long scopeId, int days)
+    {
+        if(days < 0)
+        {
+            throw new IllegalArgumentException(INVALID_NUMBER_OF_DAYS);
+        }
+
+        Map<String, Long> countsByStatus = new LinkedHashMap<>();
+        Arrays.stream(BugStatus.values()).forEach(status -> countsByStatus.put(status.name(), 0L));
+
+        long total = 0;
+        long createdInLastDays = 0;
+        for(Tuple tuple : this.bugRepository.countBugsByStatusInScope(scope, scopeId, LocalDateTime.now().minusDays(days)))
+        {
+            BugStatus status = tuple.get("status", BugStatus.class);
+            long count = tuple.get("total", Long.class);
+            if(status != null)
+            {
+                countsByStatus.put(status.name(), count);
+            }
+
+            total += count;
+            createdInLastDays += tuple.get("created", Long.class);
+        }
+
+        return new BugStatisticsDTO(total, countsByStatus, days, createdInLastDays);
+    }
+
+    @Override
+    public List<BugTrendPointDTO> getCreationTrend(BugCounterScope scope, Long scopeId, int days)
+    {
+        if(days < 0)
+        {
+            throw new IllegalArgumentException(INVALID_NUMBER_OF_DAYS);
+        }
+
+        return this.bugCounterService.getCreationTrend(scope, scopeId, LocalDate.now().minusDays(days));
     }
 }
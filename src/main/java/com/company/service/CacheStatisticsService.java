@@ -0,0 +1,10 @@
+package com.company.service;
+
+import com.company.dto.CacheRegionStatisticsDTO;
+
+import java.util.List;
+
+public interface CacheStatisticsService
+{
+    List<CacheRegionStatisticsDTO> getRegionStatistics();
+}
@@ -0,0 +1,57 @@
+package com.company.service;
+
+import com.company.dto.CacheRegionStatisticsDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class CacheStatisticsServiceImpl implements CacheStatisticsService
+{
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public CacheStatisticsServiceImpl(EntityManagerFactory entityManagerFactory)
+    {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+
+    @Override
+    public List<CacheRegionStatisticsDTO> getRegionStatistics()
+    {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatisticsDTO> regionStatistics = new ArrayList<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .forEach(region ->
+                {
+                    CacheRegionStatistics cacheRegionStatistics = statistics.getCacheRegionStatistics(region);
+                    regionStatistics.add(getRegionStatistics(region, cacheRegionStatistics.getHitCount(),
+                            cacheRegionStatistics.getMissCount(), cacheRegionStatistics.getPutCount()));
+                });
+
+        // -query result regions are not listed among the second level cache regions
+        regionStatistics.add(getRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+
+        return regionStatistics;
+    }
+
+    private static CacheRegionStatisticsDTO getRegionStatistics(String region, long hitCount, long missCount, long putCount)
+    {
+        long lookupCount = hitCount + missCount;
+
+        return new CacheRegionStatisticsDTO(region, hitCount, missCount, putCount,
+                lookupCount == 0 ? 0 : (double) hitCount / lookupCount);
+    }
+}
@@ -0,0 +1,59 @@
+package com.company.service;
+
+import com.company.dto.NotificationDTO;
+import com.company.dto.UserDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.company.constant.WebSocketConstant.NOTIFICATIONS_QUEUE;
+import static com.company.constant.WebSocketConstant.UNSEEN_COUNT_QUEUE;
+import static com.company.utils.TransactionUtils.afterCommit;
+
+
+@Service
+public class NotificationPublisher
+{
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UnseenNotificationCounter unseenNotificationCounter;
+
+    @Autowired
+    public NotificationPublisher(SimpMessagingTemplate messagingTemplate,
+                                 UnseenNotificationCounter unseenNotificationCounter)
+    {
+        this.messagingTemplate = messagingTemplate;
+        this.unseenNotificationCounter = unseenNotificationCounter;
+    }
+
+
+    // -users are addressed by the JWT subject they connected with, which is their email
+    public void publish(Collection<NotificationDTO> notifications)
+    {
+        afterCommit(() ->
+        {
+            Set<UserDTO> receivers = new LinkedHashSet<>();
+            for(NotificationDTO notification : notifications)
+            {
+                this.messagingTemplate.convertAndSendToUser(notification.receiver().email(), NOTIFICATIONS_QUEUE, notification);
+                receivers.add(notification.receiver());
+            }
+
+            receivers.forEach(receiver -> this.sendUnseenCount(receiver.id(), receiver.email()));
+        });
+    }
+
+    public void publishUnseenCount(Long receiverId, String receiverEmail)
+    {
+        afterCommit(() -> this.sendUnseenCount(receiverId, receiverEmail));
+    }
+
+    private void sendUnseenCount(Long receiverId, String receiverEmail)
+    {
+        int unseen = this.unseenNotificationCounter.get(receiverId);
+        this.messagingTemplate.convertAndSendToUser(receiverEmail, UNSEEN_COUNT_QUEUE, unseen);
+    }
+}
@@ -1,18 +1,30 @@
 package com.company.service;
 
+import com.company.domain.NotificationRequest;
 import com.company.dto.NotificationDTO;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.NotificationNotFoundException;
-import com.company.exception.UserNotFoundException;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
 
 public interface NotificationService
 {
     void sendNotificationFromTo(Long senderId,
                                 Long receiverId,
                                 String title,
-                                String description) throws UserNotFoundException;
+                                String description);
+
+    void sendNotifications(Collection<NotificationRequest> notificationRequests);
+
+    void sendNotificationToAll(Long senderId,
+                               Collection<Long> receiverIds,
+                               String title,
+                               String description);
 
-    Page<NotificationDTO> getNotificationsByReceiverId(Long receiverId, int page, int size);
+    int dispatchOutbox();
+
+    Slice<NotificationDTO> getNotificationsByReceiverId(Long receiverId, int page, int size, PaginationMode mode);
 
     NotificationDTO getNotificationById(Long notificationId);
 
@@ -21,4 +33,8 @@ public interface NotificationService
     int getIndexOfNotificationRecord(Long notificationId, Long receiverId);
 
     void setSeen(Long notificationId) throws NotificationNotFoundException;
+
+    int markAllSeen(Long receiverId);
+
+    int markSeenUpTo(Long receiverId, Long notificationId);
 }
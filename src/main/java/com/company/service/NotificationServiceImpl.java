@@ -1,65 +1,155 @@
 package com.company.service;
 
+import com.company.domain.NotificationOutboxEntry;
+import com.company.domain.NotificationRequest;
 import com.company.dto.NotificationDTO;
 import com.company.entity.Notification;
 import com.company.entity.User;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.NotificationNotFoundException;
-import com.company.exception.UserNotFoundException;
 import com.company.repository.NotificationRepository;
 import com.company.service.mapper.NotificationDTOMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import static com.company.constant.NotificationConstant.*;
 import static com.company.constant.UserConstant.USER_NOT_FOUND;
+import static com.company.utils.PaginationUtils.getSlice;
 
 @Service
 @Transactional(readOnly = true)
 public class NotificationServiceImpl implements NotificationService
 {
+    private final Logger LOGGER = LoggerFactory.getLogger(getClass());
     private final NotificationRepository notificationRepository;
     private final UserService userService;
+    private final NotificationPublisher notificationPublisher;
+    private final UnseenNotificationCounter unseenNotificationCounter;
 
     private final NotificationDTOMapper notificationDTOMapper;
 
     @Autowired
     public NotificationServiceImpl(NotificationRepository notificationRepository,
                                    UserService userService,
+                                   NotificationPublisher notificationPublisher,
+                                   UnseenNotificationCounter unseenNotificationCounter,
                                    NotificationDTOMapper notificationDTOMapper)
     {
         this.notificationRepository = notificationRepository;
         this.userService = userService;
+        this.notificationPublisher = notificationPublisher;
+        this.unseenNotificationCounter = unseenNotificationCounter;
         this.notificationDTOMapper = notificationDTOMapper;
     }
 
 
+    // -only an outbox row is written in the caller's transaction, the notification itself is created by dispatchOutbox
     @Override
     @Transactional
     public void sendNotificationFromTo(Long senderId,
                                        Long receiverId,
                                        String title,
-                                       String description) throws UserNotFoundException
+                                       String description)
+    {
+        this.notificationRepository.insertOutboxEntries(List.of(new NotificationRequest(senderId, receiverId, title, description)));
+    }
+
+
+
+    @Override
+    @Transactional
+    public void sendNotifications(Collection<NotificationRequest> notificationRequests)
     {
-        User sender = this.userService.getUserEntityById(senderId);
-        if (sender == null)
+        if(notificationRequests.isEmpty())
         {
-            throw new UserNotFoundException(NOTIFICATION_CANNOT_BE_SENT + SENDER_NOT_FOUND);
+            return;
         }
 
-        User receiver = this.userService.getUserEntityById(receiverId);
-        if(receiver == null)
+        this.notificationRepository.insertOutboxEntries(notificationRequests);
+    }
+
+
+
+    // -the receivers are only referenced by id, nothing is loaded until the outbox is dispatched
+    @Override
+    @Transactional
+    public void sendNotificationToAll(Long senderId,
+                                      Collection<Long> receiverIds,
+                                      String title,
+                                      String description)
+    {
+        this.sendNotifications(receiverIds.stream()
+                .map(receiverId -> new NotificationRequest(senderId, receiverId, title, description))
+                .toList());
+    }
+
+
+
+    @Override
+    @Transactional
+    public int dispatchOutbox()
+    {
+        List<NotificationOutboxEntry> entries = this.notificationRepository.lockOutboxEntries(OUTBOX_DISPATCH_BATCH_SIZE);
+        if(entries.isEmpty())
         {
-            throw new UserNotFoundException(NOTIFICATION_CANNOT_BE_SENT + RECEIVER_NOT_FOUND);
+            return 0;
         }
 
-        Notification notification
-                = new Notification(title, description, sender, receiver);
+        Set<Long> userIds = new HashSet<>();
+        entries.forEach(entry ->
+        {
+            userIds.add(entry.request().senderId());
+            userIds.add(entry.request().receiverId());
+        });
+
+        Map<Long, User> usersById = this.userService.getUserEntitiesByIds(userIds)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>();
+        for(NotificationOutboxEntry entry : entries)
+        {
+            NotificationRequest request = entry.request();
+            User sender = usersById.get(request.senderId());
+            User receiver = usersById.get(request.receiverId());
+
+            // -a user removed since the request was queued cannot be notified, retrying the entry would not change that
+            if(sender == null || receiver == null)
+            {
+                LOGGER.warn(NOTIFICATION_CANNOT_BE_SENT + (sender == null ? SENDER_NOT_FOUND : RECEIVER_NOT_FOUND));
+                continue;
+            }
+
+            // -dated when it was queued, not when the dispatcher got to it
+            notifications.add(Notification.builder()
+                    .title(request.title())
+                    .description(request.description())
+                    .sendDate(entry.createdDate())
+                    .sender(sender)
+                    .receiver(receiver)
+                    .build());
+        }
+
+        this.notificationRepository.saveAll(notifications);
+        this.notificationRepository.deleteOutboxEntries(entries.stream().map(NotificationOutboxEntry::id).toList());
+
+        // -the counters are updated before the push, which reads them
+        notifications.stream()
+                .collect(Collectors.groupingBy(notification -> notification.getReceiver().getId(), Collectors.summingInt(notification -> 1)))
+                .forEach(this.unseenNotificationCounter::add);
+        this.notificationPublisher.publish(notifications.stream().map(this.notificationDTOMapper).toList());
 
-        this.notificationRepository.save(notification);
+        return entries.size();
     }
 
 
@@ -74,19 +164,67 @@ public class NotificationServiceImpl implements NotificationService
             throw new NotificationNotFoundException(NOTIFICATION_NOT_FOUND);
         }
 
-        notification.setSeen(true);
-        this.notificationRepository.save(notification);
+        // -only the call whose update flips the row decrements, concurrent setSeen or bulk mark-seen calls match nothing
+        if(this.notificationRepository.markSeenById(notificationId) == 1)
+        {
+            this.unseenNotificationCounter.add(notification.getReceiver().getId(), -1);
+        }
+
+        this.notificationPublisher.publishUnseenCount(notification.getReceiver().getId(), notification.getReceiver().getEmail());
+    }
+
+
+
+    @Override
+    @Transactional
+    public int markAllSeen(Long receiverId)
+    {
+        int markedNotifications = this.notificationRepository.markAllSeenByReceiverId(receiverId);
+        this.onMarkedSeen(receiverId, markedNotifications);
+
+        return markedNotifications;
+    }
+
+
+
+    @Override
+    @Transactional
+    public int markSeenUpTo(Long receiverId, Long notificationId)
+    {
+        int markedNotifications = this.notificationRepository.markSeenByReceiverIdUpToId(receiverId, notificationId);
+        this.onMarkedSeen(receiverId, markedNotifications);
+
+        return markedNotifications;
+    }
+
+    // -the updates only touch unseen rows, so the affected count is exactly what the counter has to drop by
+    private void onMarkedSeen(Long receiverId, int markedNotifications)
+    {
+        if(markedNotifications == 0)
+        {
+            return;
+        }
+
+        this.unseenNotificationCounter.add(receiverId, -markedNotifications);
+
+        User receiver = this.userService.getUserEntityById(receiverId);
+        if(receiver != null)
+        {
+            this.notificationPublisher.publishUnseenCount(receiverId, receiver.getEmail());
+        }
     }
 
 
 
     @Override
-    public Page<NotificationDTO> getNotificationsByReceiverId(Long receiverId, int page, int size)
+    public Slice<NotificationDTO> getNotificationsByReceiverId(Long receiverId, int page, int size, PaginationMode mode)
     {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Notification> entitiesPage = this.notificationRepository.getNotificationsByReceiverIdOrderBySendDateDesc(receiverId, pageable);
+        Slice<Notification> entities = getSlice(mode, pageable,
+                pageRequest -> this.notificationRepository.getNotificationsByReceiverIdOrderBySendDateDesc(receiverId, pageRequest),
+                pageRequest -> this.notificationRepository.getNotificationSliceByReceiverIdOrderBySendDateDesc(receiverId, pageRequest));
 
-        return entitiesPage.map(this.notificationDTOMapper);
+        return entities.map(this.notificationDTOMapper);
     }
 
 
@@ -99,8 +237,10 @@ public class NotificationServiceImpl implements NotificationService
     }
 
 
+    // -read-write so that a counter miss is loaded from the primary, a lagging replica could miss freshly dispatched rows
     @Override
-    public int getCountNotificationsUnseen(Long receiverId) {return this.notificationRepository.countAllByReceiverIdAndSeen(receiverId, false);}
+    @Transactional
+    public int getCountNotificationsUnseen(Long receiverId) {return this.unseenNotificationCounter.get(receiverId);}
 
 
     @Override
@@ -3,8 +3,9 @@ package com.company.service;
 import com.company.dto.ProjectDTO;
 import com.company.entity.Project;
 import com.company.entity.User;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.*;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -13,17 +14,20 @@ public interface ProjectService
     ProjectDTO addOrUpdate(Long projectLeaderId,
                            String currentName,
                            String name,
-                           String description) throws ProjectDoesNotExistException, ProjectAlreadyExistsException, UserNotFoundException;
+                           String description,
+                           Long expectedVersion) throws ProjectDoesNotExistException, ProjectAlreadyExistsException, UserNotFoundException;
 
-    ProjectDTO deleteProject(Long projectId) throws ProjectDoesNotExistException, UserNotFoundException;
+    ProjectDTO deleteProject(Long projectId) throws ProjectDoesNotExistException;
+
+    int purgeDeletedProjects() throws UserNotFoundException;
 
     void addParticipants(Long projectId, List<User> participants) throws ProjectDoesNotExistException, UserNotFoundException, UserAlreadyAssignedException;
 
     void unassignParticipant(Long projectId, Long participantId) throws ProjectDoesNotExistException, UserNotFoundException, UserNotAssignedException;
 
-    Page<ProjectDTO> getProjectsByParticipantId(Long userId, int page, int size, String sortOrder, boolean ascending);
+    Slice<ProjectDTO> getProjectsByParticipantId(Long userId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode);
 
-    Page<ProjectDTO> getProjectsByProjectLeaderId(Long projectLeaderId, int page, int size, String sortOrder, boolean ascending);
+    Slice<ProjectDTO> getProjectsByProjectLeaderId(Long projectLeaderId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode);
 
     List<Project> getProjectEntitiesByProjectLeaderId(Long projectLeaderId);
 
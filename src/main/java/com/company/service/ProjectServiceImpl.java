@@ -1,23 +1,31 @@
 package com.company.service;
 
+import com.company.domain.NotificationRequest;
 import com.company.dto.ProjectDTO;
 import com.company.entity.Project;
 import com.company.entity.User;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.*;
 import com.company.repository.ProjectRepository;
 import com.company.service.mapper.ProjectDTOMapper;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.company.constant.ProjectConstant.*;
+import static com.company.constant.PurgeConstant.PURGE_PROJECT_CHUNK_SIZE;
 import static com.company.utils.PaginationUtils.getPageable;
+import static com.company.utils.PaginationUtils.getSlice;
+import static com.company.utils.VersionUtils.checkVersion;
 
 @Service
 @Transactional(readOnly = true)
@@ -26,37 +34,43 @@ public class ProjectServiceImpl implements ProjectService
     private final ProjectRepository projectRepository;
     private final UserService userService;
     private final NotificationService notificationService;
+    private final BugCounterService bugCounterService;
     private final ProjectDTOMapper projectDTOMapper;
 
     @Autowired
     public ProjectServiceImpl(ProjectRepository projectRepository,
                               UserService userService,
                               NotificationService notificationService,
+                              BugCounterService bugCounterService,
                               ProjectDTOMapper projectDTOMapper)
     {
         this.projectRepository = projectRepository;
         this.userService = userService;
         this.notificationService = notificationService;
+        this.bugCounterService = bugCounterService;
         this.projectDTOMapper = projectDTOMapper;
     }
 
 
     @Override
     @Transactional
-    public ProjectDTO addOrUpdate(Long projectLeaderId, String currentName, String newName, String newDescription) throws ProjectDoesNotExistException,
-                                                                                                                          ProjectAlreadyExistsException,
-                                                                                                                          UserNotFoundException
+    public ProjectDTO addOrUpdate(Long projectLeaderId, String currentName, String newName, String newDescription, Long expectedVersion) throws ProjectDoesNotExistException,
+                                                                                                                                                 ProjectAlreadyExistsException,
+                                                                                                                                                 UserNotFoundException
     {
         Project project = this.validateProject(currentName, newName);
         if(project == null)
         {
             project = this.initializeProject(projectLeaderId);
+        } else
+        {
+            checkVersion(expectedVersion, project.getVersion());
         }
 
         project.setName(newName);
         project.setDescription(newDescription);
 
-        this.projectRepository.save(project);
+        this.projectRepository.saveAndFlush(project);
 
         return this.projectDTOMapper.apply(project);
     }
@@ -108,7 +122,7 @@ public class ProjectServiceImpl implements ProjectService
 
     @Override
     @Transactional
-    public ProjectDTO deleteProject(Long projectId) throws ProjectDoesNotExistException, UserNotFoundException
+    public ProjectDTO deleteProject(Long projectId) throws ProjectDoesNotExistException
     {
         Project project = this.projectRepository.findProjectById(projectId);
         if(project == null)
@@ -116,23 +130,52 @@ public class ProjectServiceImpl implements ProjectService
             throw new ProjectDoesNotExistException(PROJECT_DOES_NOT_EXIST);
         }
 
-        List<User> participants = project.getParticipants();
-        this.projectRepository.delete(project);
+        // -the project and its bugs are hidden from now on, purgeDeletedProjects removes them and notifies the participants later
+        this.bugCounterService.removeProject(projectId);
+        project.setDeleted(true);
 
-        for(User participant: participants)
+        return this.projectDTOMapper.apply(project);
+    }
+
+
+
+    @Override
+    @Transactional
+    public int purgeDeletedProjects() throws UserNotFoundException
+    {
+        List<Project> projects = this.projectRepository.findPurgeableProjects(PURGE_PROJECT_CHUNK_SIZE);
+        if(projects.isEmpty())
         {
-            this.notifyAboutDeleting(participant, project);
+            return 0;
         }
 
-        return this.projectDTOMapper.apply(project);
+        List<NotificationRequest> notificationRequests = new ArrayList<>();
+        for(Project project: projects)
+        {
+            notificationRequests.addAll(this.getDeletionNotifications(project.getParticipants(), project));
+        }
+
+        List<Long> projectIds = projects.stream().map(Project::getId).toList();
+        this.projectRepository.deleteParticipantsByProjectIdIn(projectIds);
+        int purgedProjects = this.projectRepository.purgeProjectsByIdIn(projectIds);
+
+        this.notificationService.sendNotifications(notificationRequests);
+
+        return purgedProjects;
     }
 
-    private void notifyAboutDeleting(User participant, Project project) throws UserNotFoundException
+    private List<NotificationRequest> getDeletionNotifications(List<User> participants, Project project)
     {
-        User projectLeader = project.getProjectLeader();
-        this.notificationService.sendNotificationFromTo(projectLeader.getId(), participant.getId(),
-                PROJECT_HAS_BEEN_DELETED,
-                PROJECT + project.getName() + UNASSIGNED_AUTOMATICALLY);
+        Long projectLeaderId = project.getProjectLeader().getId();
+        List<NotificationRequest> notificationRequests = new ArrayList<>();
+        for(User participant: participants)
+        {
+            notificationRequests.add(new NotificationRequest(projectLeaderId, participant.getId(),
+                    PROJECT_HAS_BEEN_DELETED,
+                    PROJECT + project.getName() + UNASSIGNED_AUTOMATICALLY));
+        }
+
+        return notificationRequests;
     }
 
 
@@ -141,7 +184,7 @@ public class ProjectServiceImpl implements ProjectService
     @Transactional
     public void addParticipants(Long projectId, List<User> participants) throws ProjectDoesNotExistException, UserNotFoundException, UserAlreadyAssignedException
     {
-        if(participants == null)
+        if(participants == null || participants.isEmpty())
         {
             throw new EmptyListException(NO_PARTICIPANTS_SELECTED);
         }
@@ -152,34 +195,23 @@ public class ProjectServiceImpl implements ProjectService
             throw new ProjectDoesNotExistException(PROJECT_DOES_NOT_EXIST);
         }
 
-        List<User> currentParticipants = project.getParticipants();
-        if(currentParticipants == null)
+        // -the current participants are never loaded, only the new ones are looked up in the join table
+        Set<Long> participantIds = participants.stream()
+                .map(User::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if(this.userService.getUserEntitiesByIds(participantIds).size() != participantIds.size())
         {
-           currentParticipants = new ArrayList<>();
+            throw new UserNotFoundException(PARTICIPANT_NOT_FOUND);
         }
 
-        for(User participant: participants)
+        if(!this.projectRepository.findParticipantIdsIn(projectId, participantIds).isEmpty())
         {
-            if(currentParticipants.contains(participant))
-            {
-                throw new UserAlreadyAssignedException(PARTICIPANT_ALREADY_ASSIGNED);
-            }
+            throw new UserAlreadyAssignedException(PARTICIPANT_ALREADY_ASSIGNED);
         }
 
-        currentParticipants.addAll(participants);
-        project.setParticipants(currentParticipants);
-        this.projectRepository.save(project);
-
-        for(User participant: participants)
-        {
-            this.notifyAboutAssignment(participant, project);
-        }
-    }
+        this.projectRepository.insertParticipants(projectId, participantIds);
 
-    private void notifyAboutAssignment(User participant, Project project) throws UserNotFoundException
-    {
-        User projectLeader = project.getProjectLeader();
-        this.notificationService.sendNotificationFromTo(projectLeader.getId(), participant.getId(),
+        this.notificationService.sendNotificationToAll(project.getProjectLeader().getId(), participantIds,
                 NEW_ASSIGNMENT_TO_PROJECT,
                 YOU_VE_BEEN_ASSIGNED_TO + project.getName());
     }
@@ -203,23 +235,15 @@ public class ProjectServiceImpl implements ProjectService
             throw new UserNotFoundException(PARTICIPANT_NOT_FOUND);
         }
 
-        List<User> participants = project.getParticipants();
-        if(participants == null)
-        {
-            throw new EmptyListException(CONTAINS_NO_PARTICIPANTS);
-        }
-
-        if(participants.remove(participant))
-        {
-            this.notifyAboutCancellingAssignment(participant, project);
-            this.projectRepository.save(project);
-        } else
+        if(this.projectRepository.deleteParticipants(projectId, List.of(participantId)) == 0)
         {
             throw new UserNotAssignedException(USER_IS_NOT_ASSIGNED_TO_PROJECT);
         }
+
+        this.notifyAboutCancellingAssignment(participant, project);
     }
 
-    private void notifyAboutCancellingAssignment(User participant, Project project) throws UserNotFoundException
+    private void notifyAboutCancellingAssignment(User participant, Project project)
     {
         User projectLeader = project.getProjectLeader();
         this.notificationService.sendNotificationFromTo(projectLeader.getId(), participant.getId(), YOU_VE_BEEN_UNASSIGNED_FROM_PROJECT,
@@ -231,23 +255,23 @@ public class ProjectServiceImpl implements ProjectService
 
 
     @Override
-    public Page<ProjectDTO> getProjectsByParticipantId(Long participantId, int page, int size, String sortOrder, boolean ascending)
+    public Slice<ProjectDTO> getProjectsByParticipantId(Long participantId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode)
     {
         Pageable pageable = getPageable(page, size, sortOrder, ascending);
-        Page<Project> entitiesPage = this.projectRepository.findProjectsByParticipantsId(participantId, pageable);
-
-        return entitiesPage.map(this.projectDTOMapper);
+        return getSlice(mode, pageable,
+                pageRequest -> this.projectRepository.findProjectDTOsByParticipantId(participantId, pageRequest),
+                pageRequest -> this.projectRepository.findProjectDTOSliceByParticipantId(participantId, pageRequest));
     }
 
 
 
     @Override
-    public Page<ProjectDTO> getProjectsByProjectLeaderId(Long projectLeaderId, int page, int size, String sortOrder, boolean ascending)
+    public Slice<ProjectDTO> getProjectsByProjectLeaderId(Long projectLeaderId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode)
     {
         Pageable pageable = getPageable(page, size, sortOrder, ascending);
-        Page<Project> entitiesPage = this.projectRepository.findProjectsByProjectLeaderId(projectLeaderId, pageable);
-
-        return entitiesPage.map(this.projectDTOMapper);
+        return getSlice(mode, pageable,
+                pageRequest -> this.projectRepository.findProjectDTOsByProjectLeaderId(projectLeaderId, pageRequest),
+                pageRequest -> this.projectRepository.findProjectDTOSliceByProjectLeaderId(projectLeaderId, pageRequest));
     }
 
 
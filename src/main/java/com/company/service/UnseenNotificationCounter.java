@@ -0,0 +1,242 @@
+package com.company.service;
+
+import com.company.repository.NotificationRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+import static com.company.constant.NotificationConstant.*;
+
+
+// -the counters live in this JVM only: a dispatch or setSeen on another instance never reaches them,
+// -so with several instances a count may lag behind until the periodic reconcile
+@Service
+public class UnseenNotificationCounter
+{
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, Counter> counters;
+    private final Striped<Lock> locks;
+    private final Map<Long, Integer> committingDeltas;
+
+    @Autowired
+    public UnseenNotificationCounter(NotificationRepository notificationRepository)
+    {
+        this.notificationRepository = notificationRepository;
+        this.counters = CacheBuilder
+                .newBuilder()
+                .maximumSize(UNSEEN_COUNTER_MAXIMUM_SIZE)
+                .build();
+        this.locks = Striped.lock(UNSEEN_COUNTER_LOCK_STRIPES);
+        this.committingDeltas = new ConcurrentHashMap<>();
+    }
+
+
+    public int get(Long receiverId)
+    {
+        Counter counter = this.counters.getIfPresent(receiverId);
+        if(counter != null)
+        {
+            return counter.count;
+        }
+
+        Lock lock = this.locks.get(receiverId);
+        lock.lock();
+        try
+        {
+            counter = this.counters.getIfPresent(receiverId);
+            if(counter != null)
+            {
+                return counter.count;
+            }
+
+            // -while a delta is committing the count may or may not hold its rows yet, so it is not cached
+            int count = this.notificationRepository.countAllByReceiverIdAndSeen(receiverId, false);
+            if(!this.committingDeltas.containsKey(receiverId))
+            {
+                this.counters.put(receiverId, new Counter(count));
+            }
+
+            return count;
+        } finally
+        {
+            lock.unlock();
+        }
+    }
+
+    // -the receiver is marked from before the commit until the delta lands, a miss meanwhile is not cached, so any counter
+    // -the delta finds was loaded before the commit and lacks its rows; a receiver that is not cached is skipped
+    public void add(Long receiverId, int delta)
+    {
+        if(!TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            this.apply(receiverId, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+        {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly)
+            {
+                withLock(receiverId, () -> committingDeltas.merge(receiverId, 1, Integer::sum));
+                this.committing = true;
+            }
+
+            @Override
+            public void afterCommit()
+            {
+                withLock(receiverId, () ->
+                {
+                    unmark(receiverId);
+                    apply(receiverId, delta);
+                });
+                this.committing = false;
+            }
+
+            @Override
+            public void afterCompletion(int status)
+            {
+                if(this.committing)
+                {
+                    withLock(receiverId, () -> unmark(receiverId));
+                }
+            }
+        });
+    }
+
+    // -only the cached receivers are recounted, with a few chunked GROUP BY queries instead of one count per receiver;
+    // -a counter modified while its chunk was being counted is left alone, the count read for it may already be outdated
+    public int reconcile()
+    {
+        List<Long> receiverIds = new ArrayList<>(this.counters.asMap().keySet());
+        int repairedCounters = 0;
+        for(int from = 0; from < receiverIds.size(); from += UNSEEN_COUNTER_RECONCILIATION_CHUNK_SIZE)
+        {
+            List<Long> chunk = receiverIds.subList(from, Math.min(from + UNSEEN_COUNTER_RECONCILIATION_CHUNK_SIZE, receiverIds.size()));
+            Map<Long, Stamp> stamps = new HashMap<>();
+            chunk.forEach(receiverId -> stamps.put(receiverId, this.stamp(receiverId)));
+
+            Map<Long, Integer> unseenCounts = this.notificationRepository.countUnseenByReceiverIdIn(chunk)
+                    .stream()
+                    .collect(Collectors.toMap(
+                            tuple -> tuple.get("receiverId", Long.class),
+                            tuple -> tuple.get("unseen", Long.class).intValue()));
+
+            for(Long receiverId : chunk)
+            {
+                if(this.repair(receiverId, stamps.get(receiverId), unseenCounts.getOrDefault(receiverId, 0)))
+                {
+                    repairedCounters++;
+                }
+            }
+        }
+
+        return repairedCounters;
+    }
+
+    public void clear()
+    {
+        this.counters.invalidateAll();
+    }
+
+
+    private void apply(Long receiverId, int delta)
+    {
+        this.withLock(receiverId, () ->
+        {
+            Counter counter = this.counters.getIfPresent(receiverId);
+            if(counter != null)
+            {
+                counter.count = Math.max(0, counter.count + delta);
+                counter.modifications++;
+            }
+        });
+    }
+
+    private void unmark(Long receiverId)
+    {
+        this.committingDeltas.computeIfPresent(receiverId, (id, deltas) -> deltas == 1 ? null : deltas - 1);
+    }
+
+    private void withLock(Long receiverId, Runnable action)
+    {
+        Lock lock = this.locks.get(receiverId);
+        lock.lock();
+        try
+        {
+            action.run();
+        } finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private Stamp stamp(Long receiverId)
+    {
+        Lock lock = this.locks.get(receiverId);
+        lock.lock();
+        try
+        {
+            Counter counter = this.counters.getIfPresent(receiverId);
+            return counter == null ? null : new Stamp(counter, counter.modifications);
+        } finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private boolean repair(Long receiverId, Stamp stamp, int unseen)
+    {
+        if(stamp == null)
+        {
+            return false;
+        }
+
+        Lock lock = this.locks.get(receiverId);
+        lock.lock();
+        try
+        {
+            // -a reloaded counter is a new instance, so it is skipped as well, and so is a receiver with a committing delta
+            // -whose rows the count may already hold
+            Counter counter = this.counters.getIfPresent(receiverId);
+            if(counter != stamp.counter() || counter.modifications != stamp.modifications() || counter.count == unseen
+                    || this.committingDeltas.containsKey(receiverId))
+            {
+                return false;
+            }
+
+            counter.count = unseen;
+            return true;
+        } finally
+        {
+            lock.unlock();
+        }
+    }
+
+
+
+    // -count is read without the stripe lock, every write holds it
+    private static class Counter
+    {
+        private volatile int count;
+        private long modifications;
+
+        Counter(int count)
+        {
+            this.count = count;
+        }
+    }
+
+    private record Stamp(Counter counter, long modifications) {}
+}
@@ -2,15 +2,18 @@ package com.company.service;
 
 import com.company.dto.UserDTO;
 import com.company.entity.User;
+import com.company.enumeration.PaginationMode;
 import com.company.enumeration.RoleEnum;
 import com.company.enumeration.UserSpeciality;
 import com.company.exception.*;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.mail.MessagingException;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 
 public interface UserService extends UserDetailsService
 {
@@ -34,30 +37,32 @@ public interface UserService extends UserDetailsService
 
     void deleteUser(Long userId);
 
-    Page<UserDTO> getUsers(int page, int size);
+    Slice<UserDTO> getUsers(int page, int size, PaginationMode mode);
 
-    Page<UserDTO> getUserByFullNameContaining(String name, int page, int size);
+    Slice<UserDTO> getUserByFullNameContaining(String name, int page, int size, PaginationMode mode);
 
-    Page<UserDTO> getUsersByRole(RoleEnum role, int page, int size);
+    Slice<UserDTO> getUsersByRole(RoleEnum role, int page, int size, PaginationMode mode);
 
-    Page<UserDTO> getUsersByRoleAndFullName(RoleEnum role, String fullName, int page, int size);
+    Slice<UserDTO> getUsersByRoleAndFullName(RoleEnum role, String fullName, int page, int size, PaginationMode mode);
 
-    Page<UserDTO> getUsersNotInProject(Long projectId, int page, int size);
+    Slice<UserDTO> getUsersNotInProject(Long projectId, int page, int size, PaginationMode mode);
 
-    Page<UserDTO> getUsersByFullNameAndNotInProject(String fullName, Long projectId, int page, int size);
+    Slice<UserDTO> getUsersByFullNameAndNotInProject(String fullName, Long projectId, int page, int size, PaginationMode mode);
 
-    Page<UserDTO> getParticipantsByProjectId(Long projectId, int page, int size, String sortOrder, boolean ascending);
+    Slice<UserDTO> getParticipantsByProjectId(Long projectId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode);
 
-    Page<UserDTO> getParticipantsByFullNameAndProjectId(String fullName, Long projectId, int page, int size);
+    Slice<UserDTO> getParticipantsByFullNameAndProjectId(String fullName, Long projectId, int page, int size, PaginationMode mode);
 
-    Page<UserDTO> getParticipantsByProjectIdAndExcludeParticipant(Long projectId, Long participantId, int page, int size, String sortOrder, boolean ascending);
+    Slice<UserDTO> getParticipantsByProjectIdAndExcludeParticipant(Long projectId, Long participantId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode);
 
-    Page<UserDTO> getParticipantsByFullNameAndProjectIdExcludeParticipant(String fullName, Long projectId, Long userId, int page, int size);
+    Slice<UserDTO> getParticipantsByFullNameAndProjectIdExcludeParticipant(String fullName, Long projectId, Long userId, int page, int size, PaginationMode mode);
 
     UserDTO getUserById(long id);
 
     User getUserEntityById(Long id);
 
+    List<User> getUserEntitiesByIds(Collection<Long> ids);
+
     User getUserEntityByEmail(String username);
 
     UserDTO updateProfileImage(String username, MultipartFile profileImage) throws UserNotFoundException, EmailExistsException, IOException;
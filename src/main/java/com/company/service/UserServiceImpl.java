@@ -6,10 +6,12 @@ import com.company.dto.UserDTO;
 import com.company.entity.EmailToken;
 import com.company.entity.Role;
 import com.company.entity.User;
+import com.company.enumeration.PaginationMode;
 import com.company.enumeration.RoleEnum;
 import com.company.enumeration.TokenPurpose;
 import com.company.enumeration.UserSpeciality;
 import com.company.exception.*;
+import com.company.repository.ProjectRepository;
 import com.company.repository.UserRepository;
 import com.company.service.mapper.UserDTOMapper;
 import org.apache.commons.lang3.StringUtils;
@@ -33,6 +35,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -43,6 +46,7 @@ import static com.company.constant.FileConstant.*;
 import static com.company.constant.UserConstant.*;
 import static com.company.service.LoginAttemptService.LOCK_DURATION_TIME_MINUTES;
 import static com.company.utils.PaginationUtils.getPageable;
+import static com.company.utils.PaginationUtils.getSlice;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 @Service
@@ -52,6 +56,7 @@ public class UserServiceImpl implements UserService
 {
     private final Logger LOGGER = LoggerFactory.getLogger(getClass());
     private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
     private final RoleService roleService;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final LoginAttemptService loginAttemptService;
@@ -62,6 +67,7 @@ public class UserServiceImpl implements UserService
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository,
+                           ProjectRepository projectRepository,
                            RoleService roleService,
                            BCryptPasswordEncoder bCryptPasswordEncoder,
                            LoginAttemptService loginAttemptService,
@@ -70,6 +76,7 @@ public class UserServiceImpl implements UserService
                            UserDTOMapper userDTOMapper)
     {
         this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
         this.roleService = roleService;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
         this.loginAttemptService = loginAttemptService;
@@ -343,6 +350,8 @@ public class UserServiceImpl implements UserService
     @Transactional
     public void deleteUser(Long userId)
     {
+        // -projects own the participation, so the user's rows in the join table are not removed along with the user
+        this.projectRepository.deleteParticipantFromAllProjects(userId);
         this.userRepository.deleteById(userId);
     }
 
@@ -350,135 +359,155 @@ public class UserServiceImpl implements UserService
 
 
     @Override
-    public Page<UserDTO> getUsers(int page, int size)
+    public Slice<UserDTO> getUsers(int page, int size, PaginationMode mode)
     {
         Pageable pageable = PageRequest.of(page, size);
-        Page<User> entitiesPage = this.userRepository.findAllByOrderByFirstNameAsc(pageable);
-
-        return entitiesPage.map(this.userDTOMapper);
+        return getSlice(mode, pageable, this.userRepository::findAllUserDTOs, this.userRepository::findUserDTOSlice);
     }
 
 
 
 
     @Override
-    public Page<UserDTO> getUserByFullNameContaining(String fullName, int page, int size)
+    public Slice<UserDTO> getUserByFullNameContaining(String fullName, int page, int size, PaginationMode mode)
     {
         Pageable pageable = PageRequest.of(page, size);
-        Page<User> entitiesPage = this.userRepository.findUserByFirstNameAndLastNameContaining(fullName, pageable);
+        Slice<User> entities = getSlice(mode, pageable,
+                pageRequest -> this.userRepository.findUserByFirstNameAndLastNameContaining(fullName, pageRequest),
+                pageRequest -> this.userRepository.findUserSliceByFirstNameAndLastNameContaining(fullName, pageRequest));
 
-        return entitiesPage.map(this.userDTOMapper);
+        return entities.map(this.userDTOMapper);
     }
 
 
 
 
     @Override
-    public Page<UserDTO> getUsersByRole(RoleEnum role, int page, int size)
+    public Slice<UserDTO> getUsersByRole(RoleEnum role, int page, int size, PaginationMode mode)
     {
         Pageable pageable = PageRequest.of(page, size);
-        Page<User> entitiesPage = this.userRepository.findUsersByRoleNameOrderByFirstName(role, pageable);
-        return entitiesPage.map(this.userDTOMapper);
+        Slice<User> entities = getSlice(mode, pageable,
+                pageRequest -> this.userRepository.findUsersByRoleNameOrderByFirstName(role, pageRequest),
+                pageRequest -> this.userRepository.findUserSliceByRoleNameOrderByFirstName(role, pageRequest));
+        return entities.map(this.userDTOMapper);
     }
 
 
     @Override
-    public Page<UserDTO> getUsersByRoleAndFullName(RoleEnum role, String fullName, int page, int size)
+    public Slice<UserDTO> getUsersByRoleAndFullName(RoleEnum role, String fullName, int page, int size, PaginationMode mode)
     {
         Pageable pageable = PageRequest.of(page, size);
-        Page<User> entitiesPage = this.userRepository.findUsersByRoleAndFullName(role, fullName, pageable);
+        Slice<User> entities = getSlice(mode, pageable,
+                pageRequest -> this.userRepository.findUsersByRoleAndFullName(role, fullName, pageRequest),
+                pageRequest -> this.userRepository.findUserSliceByRoleAndFullName(role, fullName, pageRequest));
 
-        return entitiesPage.map(this.userDTOMapper);
+        return entities.map(this.userDTOMapper);
     }
 
 
 
 
     @Override
-    public Page<UserDTO> getUsersNotInProject(Long projectId, int page, int size)
+    public Slice<UserDTO> getUsersNotInProject(Long projectId, int page, int size, PaginationMode mode)
     {
         List<User> participants = this.userRepository.findUsersByProjectsAssignedId(projectId);
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<User> entitiesPage;
+        Slice<User> entities;
         if(participants.size() != 0)
         {
             List<Long> usersIds = participants.stream().map(User::getId).toList();
-            entitiesPage = this.userRepository.findUsersByRoleNameAndIdNotInOrderByFirstName(RoleEnum.ROLE_USER, usersIds, pageable);
+            entities = getSlice(mode, pageable,
+                    pageRequest -> this.userRepository.findUsersByRoleNameAndIdNotInOrderByFirstName(RoleEnum.ROLE_USER, usersIds, pageRequest),
+                    pageRequest -> this.userRepository.findUserSliceByRoleNameAndIdNotInOrderByFirstName(RoleEnum.ROLE_USER, usersIds, pageRequest));
         } else
         {
-            entitiesPage = this.userRepository.findUsersByRoleNameOrderByFirstName(RoleEnum.ROLE_USER, pageable);
+            entities = getSlice(mode, pageable,
+                    pageRequest -> this.userRepository.findUsersByRoleNameOrderByFirstName(RoleEnum.ROLE_USER, pageRequest),
+                    pageRequest -> this.userRepository.findUserSliceByRoleNameOrderByFirstName(RoleEnum.ROLE_USER, pageRequest));
         }
 
-        return entitiesPage.map(this.userDTOMapper);
+        return entities.map(this.userDTOMapper);
     }
 
 
 
 
     @Override
-    public Page<UserDTO> getUsersByFullNameAndNotInProject(String fullName, Long projectId, int page, int size)
+    public Slice<UserDTO> getUsersByFullNameAndNotInProject(String fullName, Long projectId, int page, int size, PaginationMode mode)
     {
         List<User> participants = this.userRepository.findUsersByProjectsAssignedId(projectId);
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<User> entitiesPage;
+        Slice<User> entities;
         if(participants.size() != 0)
         {
             List<Long> userIds = participants.stream().map(User::getId).toList();
-            entitiesPage = this.userRepository.findUsersByRoleAndFullNameAndNotInProject(RoleEnum.ROLE_USER, fullName, userIds, pageable);
+            entities = getSlice(mode, pageable,
+                    pageRequest -> this.userRepository.findUsersByRoleAndFullNameAndNotInProject(RoleEnum.ROLE_USER, fullName, userIds, pageRequest),
+                    pageRequest -> this.userRepository.findUserSliceByRoleAndFullNameAndNotInProject(RoleEnum.ROLE_USER, fullName, userIds, pageRequest));
         } else
         {
-            entitiesPage = this.userRepository.findUsersByRoleAndFullName(RoleEnum.ROLE_USER, fullName, pageable);
+            entities = getSlice(mode, pageable,
+                    pageRequest -> this.userRepository.findUsersByRoleAndFullName(RoleEnum.ROLE_USER, fullName, pageRequest),
+                    pageRequest -> this.userRepository.findUserSliceByRoleAndFullName(RoleEnum.ROLE_USER, fullName, pageRequest));
         }
 
-        return entitiesPage.map(this.userDTOMapper);
+        return entities.map(this.userDTOMapper);
     }
 
 
 
 
     @Override
-    public Page<UserDTO> getParticipantsByProjectId(Long projectId, int page, int size, String sortOrder, boolean ascending)
+    public Slice<UserDTO> getParticipantsByProjectId(Long projectId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode)
     {
         Pageable pageable = getPageable(page, size, sortOrder, ascending);
-        Page<User> entitiesPage = this.userRepository.findUsersByProjectsAssignedId(projectId, pageable);
+        Slice<User> entities = getSlice(mode, pageable,
+                pageRequest -> this.userRepository.findUsersByProjectsAssignedId(projectId, pageRequest),
+                pageRequest -> this.userRepository.findUserSliceByProjectsAssignedId(projectId, pageRequest));
 
-        return entitiesPage.map(this.userDTOMapper);
+        return entities.map(this.userDTOMapper);
     }
 
 
 
 
     @Override
-    public Page<UserDTO> getParticipantsByFullNameAndProjectId(String fullName, Long projectId, int page, int size)
+    public Slice<UserDTO> getParticipantsByFullNameAndProjectId(String fullName, Long projectId, int page, int size, PaginationMode mode)
     {
         Pageable pageable = PageRequest.of(page, size);
-        Page<User> entitiesPage = this.userRepository.findUsersByFullNameAndProjectsAssignedId(fullName, projectId, pageable);
+        Slice<User> entities = getSlice(mode, pageable,
+                pageRequest -> this.userRepository.findUsersByFullNameAndProjectsAssignedId(fullName, projectId, pageRequest),
+                pageRequest -> this.userRepository.findUserSliceByFullNameAndProjectsAssignedId(fullName, projectId, pageRequest));
 
-        return entitiesPage.map(this.userDTOMapper);
+        return entities.map(this.userDTOMapper);
     }
 
 
 
 
     @Override
-    public Page<UserDTO> getParticipantsByProjectIdAndExcludeParticipant(Long projectId, Long participantId, int page, int size, String sortOrder, boolean ascending)
+    public Slice<UserDTO> getParticipantsByProjectIdAndExcludeParticipant(Long projectId, Long participantId, int page, int size, String sortOrder, boolean ascending, PaginationMode mode)
     {
         Pageable pageable = getPageable(page, size, sortOrder, ascending);
-        Page<User> entitiesPage = this.userRepository.findUsersByProjectsAssignedIdAndIdNot(projectId, participantId, pageable);
-        return entitiesPage.map(this.userDTOMapper);
+        Slice<User> entities = getSlice(mode, pageable,
+                pageRequest -> this.userRepository.findUsersByProjectsAssignedIdAndIdNot(projectId, participantId, pageRequest),
+                pageRequest -> this.userRepository.findUserSliceByProjectsAssignedIdAndIdNot(projectId, participantId, pageRequest));
+        return entities.map(this.userDTOMapper);
     }
 
 
 
 
     @Override
-    public Page<UserDTO> getParticipantsByFullNameAndProjectIdExcludeParticipant(String fullName, Long projectId, Long userId, int page, int size)
+    public Slice<UserDTO> getParticipantsByFullNameAndProjectIdExcludeParticipant(String fullName, Long projectId, Long userId, int page, int size, PaginationMode mode)
     {
         Pageable pageable = PageRequest.of(page, size);
-        Page<User> entitiesPage = this.userRepository.findUsersByFullNameAndProjectsAssignedIdAndIdNot(projectId, userId, fullName, pageable);
-        return entitiesPage.map(this.userDTOMapper);
+        Slice<User> entities = getSlice(mode, pageable,
+                pageRequest -> this.userRepository.findUsersByFullNameAndProjectsAssignedIdAndIdNot(projectId, userId, fullName, pageRequest),
+                pageRequest -> this.userRepository.findUserSliceByFullNameAndProjectsAssignedIdAndIdNot(projectId, userId, fullName, pageRequest));
+        return entities.map(this.userDTOMapper);
     }
 
 
@@ -487,8 +516,7 @@ public class UserServiceImpl implements UserService
     @Override
     public UserDTO getUserById(long id)
     {
-        User user = this.userRepository.findUserById(id);
-        return this.userDTOMapper.apply(user);
+        return this.userRepository.findUserDTOById(id);
     }
 
 
@@ -500,6 +528,12 @@ public class UserServiceImpl implements UserService
         return this.userRepository.findUserById(id);
     }
 
+    @Override
+    public List<User> getUserEntitiesByIds(Collection<Long> ids)
+    {
+        return this.userRepository.findAllById(ids);
+    }
+
 
 
 
@@ -38,6 +38,7 @@ public class BugDTOMapper implements Function<Bug, BugDTO>
                 bug.getCreationDate(),
                 this.userDTOMapper.apply(bug.getCreator()),
                 this.userDTOMapper.apply(bug.getAssignee()),
-                this.projectDTOMapper.apply(bug.getProject()));
+                this.projectDTOMapper.apply(bug.getProject()),
+                bug.getVersion());
     }
 }
@@ -0,0 +1,66 @@
+package com.company.service.mapper;
+
+import com.company.dto.BugDTO;
+import com.company.dto.ProjectDTO;
+import com.company.dto.UserDTO;
+import com.company.enumeration.BugClassification;
+import com.company.enumeration.BugSeverity;
+import com.company.enumeration.BugStatus;
+import com.company.enumeration.UserSpeciality;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.Tuple;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+@Service
+public class BugTupleDTOMapper implements Function<Tuple, BugDTO>
+{
+    private static final String CREATOR = "creator";
+    private static final String ASSIGNEE = "assignee";
+    private static final String PROJECT_LEADER = "projectLeader";
+
+    @Override
+    public BugDTO apply(Tuple tuple)
+    {
+        if(tuple == null)
+        {
+            return null;
+        }
+
+        return new BugDTO(
+                tuple.get("id", Long.class),
+                tuple.get("name", String.class),
+                tuple.get("description", String.class),
+                tuple.get("classification", BugClassification.class).getName(),
+                tuple.get("status", BugStatus.class).getName(),
+                tuple.get("severity", BugSeverity.class).getName(),
+                tuple.get("creationDate", LocalDateTime.class),
+                this.getUserDTO(tuple, CREATOR),
+                this.getUserDTO(tuple, ASSIGNEE),
+                new ProjectDTO(
+                        tuple.get("projectId", Long.class),
+                        tuple.get("projectName", String.class),
+                        tuple.get("projectDescription", String.class),
+                        this.getUserDTO(tuple, PROJECT_LEADER),
+                        tuple.get("projectVersion", Long.class)),
+                tuple.get("version", Long.class));
+    }
+
+    private UserDTO getUserDTO(Tuple tuple, String prefix)
+    {
+        Long id = tuple.get(prefix + "Id", Long.class);
+        if(id == null)
+        {
+            return null;
+        }
+
+        return new UserDTO(
+                id,
+                tuple.get(prefix + "FirstName", String.class),
+                tuple.get(prefix + "LastName", String.class),
+                tuple.get(prefix + "Email", String.class),
+                tuple.get(prefix + "Speciality", UserSpeciality.class),
+                tuple.get(prefix + "ProfileImageUrl", String.class));
+    }
+}
@@ -30,6 +30,7 @@ public class ProjectDTOMapper implements Function<Project, ProjectDTO>
                 project.getId(),
                 project.getName(),
                 project.getDescription(),
-                this.userDTOMapper.apply(project.getProjectLeader()));
+                this.userDTOMapper.apply(project.getProjectLeader()),
+                project.getVersion());
     }
 }
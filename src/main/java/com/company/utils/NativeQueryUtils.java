@@ -0,0 +1,29 @@
+package com.company.utils;
+
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+public class NativeQueryUtils
+{
+    // -a native statement evicts the whole second-level cache unless hibernate is told what it touches,
+    // -so these name the affected entities or table and only their regions are evicted
+    public static Query createSynchronizedNativeQuery(EntityManager entityManager, String sql, Class<?>... entityClasses)
+    {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        for(Class<?> entityClass : entityClasses)
+        {
+            query.addSynchronizedEntityClass(entityClass);
+        }
+
+        return query;
+    }
+
+    public static Query createSynchronizedNativeQuery(EntityManager entityManager, String sql, String querySpace)
+    {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(querySpace);
+    }
+}
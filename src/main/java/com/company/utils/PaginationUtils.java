@@ -1,9 +1,14 @@
 package com.company.utils;
 
+import com.company.enumeration.PaginationMode;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.function.Function;
+
 public class PaginationUtils
 {
     public static Pageable getPageable(int page, int size, String sortOrder, boolean ascending)
@@ -12,6 +17,19 @@ public class PaginationUtils
         return PageRequest.of(page, size, sort);
     }
 
+    // -a slice reads one row more than requested to know whether there is a next page, so it skips the count query a page needs
+    public static <T> Slice<T> getSlice(PaginationMode mode, Pageable pageable,
+                                        Function<Pageable, Page<T>> pageQuery,
+                                        Function<Pageable, Slice<T>> sliceQuery)
+    {
+        if(mode == PaginationMode.SLICE)
+        {
+            return sliceQuery.apply(pageable);
+        }
+
+        return pageQuery.apply(pageable);
+    }
+
     private static Sort getSortOption(String sortOrder, boolean ascending)
     {
         if(ascending)
@@ -0,0 +1,26 @@
+package com.company.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtils
+{
+    // -runs the update right away when there is no transaction, otherwise only once the transaction has committed
+    public static void afterCommit(Runnable update)
+    {
+        if(!TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            update.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+        {
+            @Override
+            public void afterCommit()
+            {
+                update.run();
+            }
+        });
+    }
+}
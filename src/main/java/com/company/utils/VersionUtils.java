@@ -0,0 +1,37 @@
+package com.company.utils;
+
+import com.company.exception.VersionConflictException;
+import org.apache.commons.lang3.StringUtils;
+
+import static com.company.constant.ExceptionConstant.VERSION_CONFLICT;
+
+public class VersionUtils
+{
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String QUOTE = "\"";
+
+    public static Long parseIfMatch(String ifMatch)
+    {
+        if(StringUtils.isBlank(ifMatch) || ifMatch.trim().equals(ANY))
+        {
+            return null;
+        }
+
+        String tag = StringUtils.removeStart(ifMatch.trim(), WEAK_PREFIX);
+        return Long.valueOf(StringUtils.strip(tag, QUOTE));
+    }
+
+    public static String toETag(Long version)
+    {
+        return QUOTE + version + QUOTE;
+    }
+
+    public static void checkVersion(Long expectedVersion, long currentVersion)
+    {
+        if(expectedVersion != null && expectedVersion != currentVersion)
+        {
+            throw new VersionConflictException(VERSION_CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- ProjectParticipantRepository: membership rows are written directly, so the join table itself rejects duplicates.
+-- Rows duplicated by the former collection re-saves are collapsed first.
+create table users_projects_distinct as select distinct user_id, project_id from users_projects;
+delete from users_projects;
+insert into users_projects (user_id, project_id) select user_id, project_id from users_projects_distinct;
+drop table users_projects_distinct;
+
+alter table users_projects add primary key (project_id, user_id);
+
+-- Prefix of the primary key above
+drop index idx_users_projects_project_id_user_id on users_projects;
@@ -0,0 +1,12 @@
+-- Notifications requested by the bug and project writes (NotificationOutboxRepository)
+-- Rows are written in the requesting transaction and turned into notification rows by NotificationOutboxScheduler
+create table notification_outbox
+(
+    id           bigint       not null auto_increment,
+    sender_id    bigint,
+    receiver_id  bigint       not null,
+    title        varchar(255),
+    description  varchar(255),
+    created_date datetime(6)  not null,
+    primary key (id)
+);
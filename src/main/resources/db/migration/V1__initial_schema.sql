@@ -0,0 +1,103 @@
+create table role
+(
+    id   bigint not null auto_increment,
+    name varchar(255),
+    primary key (id)
+);
+
+create table authority
+(
+    id      bigint not null auto_increment,
+    name    varchar(255),
+    role_id bigint not null,
+    primary key (id)
+);
+
+create table users
+(
+    id                bigint not null auto_increment,
+    email             varchar(255),
+    first_name        varchar(255),
+    is_active         bit    not null,
+    is_not_locked     bit    not null,
+    join_date         datetime(6),
+    last_login_date   datetime(6),
+    last_name         varchar(255),
+    lock_date         datetime(6),
+    password          varchar(255),
+    profile_image_url varchar(255),
+    speciality        varchar(255),
+    role_id           bigint not null,
+    primary key (id)
+);
+
+create table project
+(
+    id                bigint not null auto_increment,
+    description       varchar(255),
+    name              varchar(255),
+    project_leader_id bigint not null,
+    primary key (id)
+);
+
+create table users_projects
+(
+    user_id    bigint not null,
+    project_id bigint not null
+);
+
+create table bug
+(
+    id             bigint not null auto_increment,
+    classification varchar(255),
+    creation_date  datetime(6),
+    description    varchar(255),
+    name           varchar(255),
+    severity       varchar(255),
+    status         varchar(255),
+    assignee_id    bigint,
+    creator_id     bigint not null,
+    project_id     bigint not null,
+    primary key (id)
+);
+
+create table notification
+(
+    id          bigint not null auto_increment,
+    description varchar(255),
+    seen        bit    not null,
+    send_date   datetime(6),
+    title       varchar(255),
+    receiver_id bigint not null,
+    sender_id   bigint,
+    primary key (id)
+);
+
+create table email_token
+(
+    id            bigint not null auto_increment,
+    creation_date datetime(6),
+    expiry_date   datetime(6),
+    purpose       varchar(255),
+    token         varchar(255),
+    used_date     datetime(6),
+    user_id       bigint not null,
+    primary key (id)
+);
+
+alter table bug add constraint UK_qyj1bc4m02b6d1wapxa36f6mu unique (creator_id);
+alter table email_token add constraint UK_jpt3yx7gldvj3lhdn9g3b00iq unique (token);
+alter table project add constraint UK_97t0ufuepwkcoir5ed7wghefb unique (project_leader_id);
+alter table users add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table authority add constraint FKm3ayk11jc13258isylu5wpney foreign key (role_id) references role (id);
+alter table bug add constraint FKdtn2s7vrkj7rcvyvpdpsrk82 foreign key (assignee_id) references users (id);
+alter table bug add constraint FKsdm6qnir12nw5rte7gn6e3vcf foreign key (creator_id) references users (id);
+alter table bug add constraint FKi91cmp5c6v9yv26iow1g0emxc foreign key (project_id) references project (id);
+alter table email_token add constraint FKpnii9y1irxajhpost9fjubflx foreign key (user_id) references users (id);
+alter table notification add constraint FKdammjl0v5xfaegi926ugx6254 foreign key (receiver_id) references users (id);
+alter table notification add constraint FKrg0atx075rr68et2rqrh34qwj foreign key (sender_id) references users (id);
+alter table project add constraint FKqem24uonc58r4ektjyupwhcbk foreign key (project_leader_id) references users (id);
+alter table users add constraint FK4qu1gr772nnf6ve5af002rwya foreign key (role_id) references role (id);
+alter table users_projects add constraint FK5gka63hbj8siyiahiqs0kupe2 foreign key (project_id) references project (id);
+alter table users_projects add constraint FKen924y69h6d6chaojjgqfaow8 foreign key (user_id) references users (id);
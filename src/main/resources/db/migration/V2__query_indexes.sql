@@ -0,0 +1,36 @@
+-- BugRepository: creator listings and counters by creation date
+create index idx_bug_creator_id_creation_date on bug (creator_id, creation_date);
+-- BugRepository: assignee listings and counters by status
+create index idx_bug_assignee_id_status on bug (assignee_id, status);
+-- BugRepository: findByNameAndProjectId, project listings and keyset pages sorted by name (id is the implicit suffix)
+create index idx_bug_project_id_name on bug (project_id, name);
+-- BugRepository: getAllByProjectIdOrderByCreationDateDesc
+create index idx_bug_project_id_creation_date on bug (project_id, creation_date);
+-- BugRepository: project leader counters by status (joined through project)
+create index idx_bug_project_id_status on bug (project_id, status);
+-- BugRepository: global counters
+create index idx_bug_status on bug (status);
+create index idx_bug_creation_date on bug (creation_date);
+
+-- ProjectRepository: findProjectByName and project leader listings
+create index idx_project_name on project (name);
+create index idx_project_project_leader_id_name on project (project_leader_id, name);
+
+-- Project participants are looked up from both sides of the join table
+create index idx_users_projects_project_id_user_id on users_projects (project_id, user_id);
+create index idx_users_projects_user_id_project_id on users_projects (user_id, project_id);
+
+-- UserRepository: listings ordered by first name, globally and per role
+create index idx_users_first_name on users (first_name);
+create index idx_users_role_id_first_name on users (role_id, first_name);
+
+-- NotificationRepository: unseen counter and paged listing by send date
+create index idx_notification_receiver_id_seen on notification (receiver_id, seen);
+create index idx_notification_receiver_id_send_date on notification (receiver_id, send_date);
+
+-- EmailTokenRepository: findByUserAndPurpose (findByToken uses the unique key on token)
+create index idx_email_token_user_id_purpose on email_token (user_id, purpose);
+
+-- Creator and project leader are many-to-one; the composite indexes above now back their foreign keys
+alter table bug drop constraint UK_qyj1bc4m02b6d1wapxa36f6mu;
+alter table project drop constraint UK_97t0ufuepwkcoir5ed7wghefb;
@@ -0,0 +1,12 @@
+create table id_generator (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+);
+
+-- pooled-lo optimizer: next_val is the first id of the next block, so continue right after the existing rows
+insert into id_generator (sequence_name, next_val) select 'bug', coalesce(max(id), 0) + 1 from bug;
+insert into id_generator (sequence_name, next_val) select 'email_token', coalesce(max(id), 0) + 1 from email_token;
+insert into id_generator (sequence_name, next_val) select 'notification', coalesce(max(id), 0) + 1 from notification;
+insert into id_generator (sequence_name, next_val) select 'project', coalesce(max(id), 0) + 1 from project;
+insert into id_generator (sequence_name, next_val) select 'users', coalesce(max(id), 0) + 1 from users;
@@ -0,0 +1,3 @@
+alter table bug add column version bigint not null default 0;
+alter table project add column version bigint not null default 0;
+alter table users add column version bigint not null default 0;
@@ -0,0 +1,6 @@
+alter table bug add column deleted bit not null default 0;
+alter table project add column deleted bit not null default 0;
+
+-- Tombstones are few, so these single column indexes let the purger find them without a scan
+create index idx_bug_deleted on bug (deleted);
+create index idx_project_deleted on project (deleted);
@@ -0,0 +1,9 @@
+-- Written on the primary and read back from the replica to measure its lag (ReplicaLagMonitor)
+create table replication_heartbeat
+(
+    id   int         not null,
+    beat datetime(6) not null,
+    primary key (id)
+);
+
+insert into replication_heartbeat (id, beat) values (1, current_timestamp(6));
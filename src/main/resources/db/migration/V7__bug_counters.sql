@@ -0,0 +1,40 @@
+-- Bug counts per (scope, scope id, status), kept up to date by the bug writes (BugCounterService)
+-- The ALL scope uses scope id 0; bugs that are deleted or belong to a deleted project are not counted
+create table bug_counter
+(
+    scope     varchar(20)  not null,
+    scope_id  bigint       not null,
+    status    varchar(255) not null,
+    bug_count bigint       not null,
+    primary key (scope, scope_id, status)
+);
+
+insert into bug_counter (scope, scope_id, status, bug_count)
+select 'ALL', 0, b.status, count(*)
+from bug b join project p on p.id = b.project_id
+where b.deleted = false and p.deleted = false and b.status is not null
+group by b.status;
+
+insert into bug_counter (scope, scope_id, status, bug_count)
+select 'PROJECT', b.project_id, b.status, count(*)
+from bug b join project p on p.id = b.project_id
+where b.deleted = false and p.deleted = false and b.status is not null
+group by b.project_id, b.status;
+
+insert into bug_counter (scope, scope_id, status, bug_count)
+select 'CREATOR', b.creator_id, b.status, count(*)
+from bug b join project p on p.id = b.project_id
+where b.deleted = false and p.deleted = false and b.status is not null
+group by b.creator_id, b.status;
+
+insert into bug_counter (scope, scope_id, status, bug_count)
+select 'ASSIGNEE', b.assignee_id, b.status, count(*)
+from bug b join project p on p.id = b.project_id
+where b.deleted = false and p.deleted = false and b.status is not null and b.assignee_id is not null
+group by b.assignee_id, b.status;
+
+insert into bug_counter (scope, scope_id, status, bug_count)
+select 'PROJECT_LEADER', p.project_leader_id, b.status, count(*)
+from bug b join project p on p.id = b.project_id
+where b.deleted = false and p.deleted = false and b.status is not null
+group by p.project_leader_id, b.status;
@@ -0,0 +1,20 @@
+-- Bugs created per day, project, creator and status, kept up to date by the bug writes (BugCounterService)
+-- Days older than the daily retention are compacted every night into the first day of their month
+create table bug_daily_rollup
+(
+    creation_day date         not null,
+    project_id   bigint       not null,
+    creator_id   bigint       not null,
+    status       varchar(255) not null,
+    bug_count    bigint       not null,
+    primary key (creation_day, project_id, creator_id, status)
+);
+
+create index idx_bug_daily_rollup_creator_id_creation_day on bug_daily_rollup (creator_id, creation_day);
+create index idx_bug_daily_rollup_project_id_creation_day on bug_daily_rollup (project_id, creation_day);
+
+insert into bug_daily_rollup (creation_day, project_id, creator_id, status, bug_count)
+select cast(b.creation_date as date), b.project_id, b.creator_id, b.status, count(*)
+from bug b join project p on p.id = b.project_id
+where b.deleted = false and p.deleted = false and b.status is not null and b.creation_date is not null
+group by cast(b.creation_date as date), b.project_id, b.creator_id, b.status;
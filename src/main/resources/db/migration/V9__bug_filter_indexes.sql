@@ -0,0 +1,11 @@
+-- BugRepository: filter endpoint (BugSpecifications). Each id filter leads an index followed by status and creation
+-- date, so status lists and date ranges are narrowed inside the index; severity and classification have only a few
+-- values each and are checked on the rows found. Creator filters use idx_bug_creator_id_creation_date.
+create index idx_bug_project_id_status_creation_date on bug (project_id, status, creation_date);
+create index idx_bug_assignee_id_status_creation_date on bug (assignee_id, status, creation_date);
+create index idx_bug_status_creation_date on bug (status, creation_date);
+
+-- Prefixes of the indexes above
+drop index idx_bug_project_id_status on bug;
+drop index idx_bug_assignee_id_status on bug;
+drop index idx_bug_status on bug;
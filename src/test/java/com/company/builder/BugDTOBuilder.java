@@ -24,6 +24,7 @@ public class BugDTOBuilder
     private UserDTO creator;
     private UserDTO assignee;
     private ProjectDTO project;
+    private Long version;
 
     @Singular
     private final List<BugDTO> bugDTOList = new ArrayList<>();
@@ -40,6 +41,7 @@ public class BugDTOBuilder
         this.creator = null;
         this.assignee = null;
         this.project = null;
+        this.version = 0L;
     }
 
 
@@ -104,6 +106,12 @@ public class BugDTOBuilder
         return this;
     }
 
+    public BugDTOBuilder withVersion(Long version)
+    {
+        this.version = version;
+        return this;
+    }
+
     public void addBugDTOItem(BugDTO bugDTO)
     {
         this.bugDTOList.add(bugDTO);
@@ -120,14 +128,15 @@ public class BugDTOBuilder
                 (
                         this.id,
                         this.name,
+                        this.description,
                         this.classification.name(),
                         this.status.name(),
-                        this.description,
                         this.severity.name(),
                         this.creationDate,
                         this.creator,
                         this.assignee,
-                        this.project
+                        this.project,
+                        this.version
                 );
     }
 }
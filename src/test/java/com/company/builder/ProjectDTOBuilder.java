@@ -9,6 +9,7 @@ public class ProjectDTOBuilder
     private String name;
     private String description;
     private UserDTO projectLeader;
+    private Long version;
 
     public ProjectDTOBuilder()
     {
@@ -17,6 +18,7 @@ public class ProjectDTOBuilder
         this.name = "PROJECT_" + id;
         this.description = "PROJECT_DESCRIPTION_" + id;
         this.projectLeader = null;
+        this.version = 0L;
     }
 
     public ProjectDTOBuilder withId(Long id)
@@ -43,6 +45,12 @@ public class ProjectDTOBuilder
         return this;
     }
 
+    public ProjectDTOBuilder withVersion(Long version)
+    {
+        this.version = version;
+        return this;
+    }
+
     public ProjectDTO build()
     {
         return new ProjectDTO
@@ -50,7 +58,8 @@ public class ProjectDTOBuilder
                         this.id,
                         this.name,
                         this.description,
-                        this.projectLeader
+                        this.projectLeader,
+                        this.version
                 );
     }
 }
@@ -1,16 +1,29 @@
 package com.company.controller;
 
 import com.company.builder.*;
+import com.company.domain.BugBulkRequest;
+import com.company.domain.BugFilter;
+import com.company.domain.CursorPage;
 import com.company.dto.BugDTO;
+import com.company.dto.BugReportDTO;
+import com.company.dto.BugStatisticsDTO;
+import com.company.dto.BugTrendPointDTO;
 import com.company.dto.ProjectDTO;
 import com.company.dto.UserDTO;
 import com.company.entity.Bug;
 import com.company.entity.Project;
 import com.company.entity.User;
+import com.company.enumeration.BugBulkOperation;
 import com.company.enumeration.BugClassification;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugScope;
 import com.company.enumeration.BugSeverity;
 import com.company.enumeration.BugStatus;
+import com.company.enumeration.PaginationMode;
 import com.company.enumeration.RoleEnum;
+import com.company.exception.BugDoesNotExistException;
+import com.company.exception.InvalidStatusTransitionException;
+import com.company.exception.VersionConflictException;
 import com.company.jwt.JwtTokenProvider;
 import com.company.jwt.filter.JwtAccessDeniedHandler;
 import com.company.jwt.filter.JwtAuthenticationEntryPoint;
@@ -29,6 +42,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -37,9 +54,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.company.constant.BugConstant.*;
 import static com.company.constant.BugConstant.NOTIFICATION_WAS_SENT;
@@ -181,8 +202,9 @@ public class BugControllerTest
                         creatorId, null, projectId, null, newName, newDescription,
                         BugClassification.valueOf(classification),
                         BugStatus.NEW,
-                        BugSeverity.valueOf(severity)
-                )).thenReturn(this.bugDTO);
+                        BugSeverity.valueOf(severity),
+                        null
+                )).thenReturn(new BugReportDTO(this.bugDTO, List.of(this.bugDTOList.get(1))));
 
         ResultActions response = this.mockMvc.perform(post("/bug/" + creatorId + "/" + projectId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -195,7 +217,8 @@ public class BugControllerTest
                 .andExpect(MockMvcResultMatchers.jsonPath("$.project.id", CoreMatchers.is(projectId.intValue())))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.classification", CoreMatchers.is(classification)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(BugStatus.NEW.name())))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.severity", CoreMatchers.is(severity)));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.severity", CoreMatchers.is(severity)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.possibleDuplicates[0].id", CoreMatchers.is(this.bugDTOList.get(1).id().intValue())));
     }
 
 
@@ -215,8 +238,9 @@ public class BugControllerTest
                         creatorId, null, projectId, null, newName, newDescription,
                         BugClassification.valueOf(classification),
                         BugStatus.NEW,
-                        BugSeverity.valueOf(severity)
-                )).thenReturn(this.bugDTO);
+                        BugSeverity.valueOf(severity),
+                        null
+                )).thenReturn(new BugReportDTO(this.bugDTO, List.of()));
 
         ResultActions response = this.mockMvc.perform(post("/bug/" + creatorId + "/" + projectId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -268,8 +292,9 @@ public class BugControllerTest
                         null, editorId, projectId, currentBugId, newName, newDescription,
                         BugClassification.valueOf(classification),
                         BugStatus.valueOf(status),
-                        BugSeverity.valueOf(severity)
-                )).thenReturn(this.editedBugDTO);
+                        BugSeverity.valueOf(severity),
+                        null
+                )).thenReturn(new BugReportDTO(this.editedBugDTO, List.of()));
 
         ResultActions response = this.mockMvc.perform(put("/bug/" + currentBugId + "/" + editorId + "/" + projectId)
                 .param("name", newName)
@@ -309,8 +334,9 @@ public class BugControllerTest
                         null, editorId, projectId, currentBugId, newName, newDescription,
                         BugClassification.valueOf(classification),
                         BugStatus.valueOf(status),
-                        BugSeverity.valueOf(severity)
-                )).thenReturn(this.editedBugDTO);
+                        BugSeverity.valueOf(severity),
+                        null
+                )).thenReturn(new BugReportDTO(this.editedBugDTO, List.of()));
 
         ResultActions response = this.mockMvc.perform(put("/bug/" + currentBugId + "/" + editorId + "/" + projectId)
                 .param("name", newName)
@@ -416,7 +442,7 @@ public class BugControllerTest
         Long bugId = this.bugDTO.id();
         Long assigneeId = this.assignee.getId();
 
-        doNothing().when(this.bugService).setAssignee(bugId, assigneeId);
+        doNothing().when(this.bugService).setAssignee(bugId, assigneeId, null);
 
         ResultActions response = this.mockMvc.perform(put("/bug/" + bugId + "/" + assigneeId + "/assignee"));
 
@@ -507,7 +533,7 @@ public class BugControllerTest
         Long bugId = this.bugDTO.id();
         BugStatus status = BugStatus.FIXED;
 
-        doNothing().when(this.bugService).setStatus(bugId, status);
+        doNothing().when(this.bugService).setStatus(bugId, status, null);
 
         ResultActions response = this.mockMvc.perform(put("/bug/" + bugId + "/status")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -526,7 +552,7 @@ public class BugControllerTest
         Long bugId = this.bugDTO.id();
         BugStatus status = BugStatus.FIXED;
 
-        doNothing().when(this.bugService).setStatus(bugId, status);
+        doNothing().when(this.bugService).setStatus(bugId, status, null);
 
         ResultActions response = this.mockMvc.perform(put("/bug/" + bugId + "/status")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -538,6 +564,100 @@ public class BugControllerTest
 
 
 
+    @Test
+    @WithMockUser(authorities = "user:update")
+    public void testSetStatus_Should_PassIfMatchVersion() throws Exception
+    {
+        Long bugId = this.bugDTO.id();
+        BugStatus status = BugStatus.FIXED;
+
+        ResultActions response = this.mockMvc.perform(put("/bug/" + bugId + "/status")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(status.name()));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk());
+        verify(this.bugService).setStatus(bugId, status, 3L);
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:update")
+    public void testSetStatus_Should_Return409_When_VersionConflict() throws Exception
+    {
+        Long bugId = this.bugDTO.id();
+        BugStatus status = BugStatus.FIXED;
+
+        doThrow(new VersionConflictException(VERSION_CONFLICT)).when(this.bugService).setStatus(bugId, status, 3L);
+
+        ResultActions response = this.mockMvc.perform(put("/bug/" + bugId + "/status")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(status.name()));
+
+        response.andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(VERSION_CONFLICT)));
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:update")
+    public void testSetStatus_Should_Return400_When_TransitionIsNotAllowed() throws Exception
+    {
+        Long bugId = this.bugDTO.id();
+        BugStatus status = BugStatus.CLOSED;
+        String message = STATUS_CANNOT_BE_CHANGED_FROM + BugStatus.NEW.getName() + TO + status.getName();
+
+        doThrow(new InvalidStatusTransitionException(message)).when(this.bugService).setStatus(bugId, status, null);
+
+        ResultActions response = this.mockMvc.perform(put("/bug/" + bugId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(status.name()));
+
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(message)));
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:update")
+    public void testSetStatus_Should_Return400_When_BugDoesNotExist() throws Exception
+    {
+        Long bugId = this.bugDTO.id();
+        BugStatus status = BugStatus.OPEN;
+
+        doThrow(new BugDoesNotExistException(BUG_DOES_NOT_EXIST)).when(this.bugService).setStatus(bugId, status, null);
+
+        ResultActions response = this.mockMvc.perform(put("/bug/" + bugId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(status.name()));
+
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(BUG_DOES_NOT_EXIST)));
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:update")
+    public void testSetStatus_Should_Return400_When_IfMatchIsNotAVersion() throws Exception
+    {
+        Long bugId = this.bugDTO.id();
+
+        ResultActions response = this.mockMvc.perform(put("/bug/" + bugId + "/status")
+                .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BugStatus.FIXED.name()));
+
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+        verifyNoInteractions(this.bugService);
+    }
+
+
+
     @Test
     @WithMockUser(authorities = "invalid:update")
     public void testSetStatus_For_Invalid_Should_Return_403() throws Exception
@@ -642,7 +762,7 @@ public class BugControllerTest
         boolean ascending = true;
 
         Page<BugDTO> bugDTOPage = new PageImpl<>(this.bugDTOList.subList(0, size));
-        when(this.bugService.getBugsByProjectId(projectId, page, size, sortOrder, ascending)).thenReturn(bugDTOPage);
+        when(this.bugService.getBugsByProjectId(projectId, page, size, sortOrder, ascending, PaginationMode.PAGE)).thenReturn(bugDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/bug/bugs/project")
                 .param("projectId", projectId.toString())
@@ -669,7 +789,7 @@ public class BugControllerTest
         boolean ascending = true;
 
         Page<BugDTO> bugDTOPage = new PageImpl<>(this.bugDTOList.subList(0, size));
-        when(this.bugService.getBugsByProjectId(projectId, page, size, sortOrder, ascending)).thenReturn(bugDTOPage);
+        when(this.bugService.getBugsByProjectId(projectId, page, size, sortOrder, ascending, PaginationMode.PAGE)).thenReturn(bugDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/bug/bugs/project")
                 .param("projectId", projectId.toString())
@@ -685,6 +805,92 @@ public class BugControllerTest
 
 
 
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testGetBugsByProjectId_InSliceMode_Should_Return_200_And_BugDTOSlice_WithoutTotal() throws Exception
+    {
+        Long projectId = this.bugDTO.project().id();
+        int page = 0;
+        int size = 5;
+        String sortOrder = "name";
+        boolean ascending = true;
+
+        Slice<BugDTO> bugDTOSlice = new SliceImpl<>(this.bugDTOList.subList(0, size), PageRequest.of(page, size), true);
+        when(this.bugService.getBugsByProjectId(projectId, page, size, sortOrder, ascending, PaginationMode.SLICE)).thenReturn(bugDTOSlice);
+
+        ResultActions response = this.mockMvc.perform(get("/bug/bugs/project")
+                .param("projectId", projectId.toString())
+                .param("page", Integer.toString(page))
+                .param("size", Integer.toString(size))
+                .param("sortOrder", sortOrder)
+                .param("ascending", Boolean.toString(ascending))
+                .param("mode", PaginationMode.SLICE.name()));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.size()", CoreMatchers.is(size)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.last", CoreMatchers.is(false)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist());
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "project_leader:read")
+    public void testGetBugsByFilter_Should_Return_200_And_BugDTOPage() throws Exception
+    {
+        Long projectId = this.bugDTO.project().id();
+        LocalDateTime createdFrom = LocalDateTime.of(2022, 11, 1, 0, 0);
+        int page = 0;
+        int size = 5;
+        String sortOrder = "creationDate";
+        boolean ascending = false;
+
+        BugFilter filter = new BugFilter(Set.of(BugStatus.NEW, BugStatus.ASSIGNED), Set.of(BugSeverity.HIGH), null,
+                projectId, null, null, createdFrom, null);
+        Page<BugDTO> bugDTOPage = new PageImpl<>(this.bugDTOList.subList(0, size), PageRequest.of(page, size), this.bugDTOList.size());
+        when(this.bugService.getBugsByFilter(filter, page, size, sortOrder, ascending, PaginationMode.PAGE)).thenReturn(bugDTOPage);
+
+        ResultActions response = this.mockMvc.perform(get("/bug/bugs/filter")
+                .param("status", BugStatus.NEW.name(), BugStatus.ASSIGNED.name())
+                .param("severity", BugSeverity.HIGH.name())
+                .param("projectId", projectId.toString())
+                .param("createdFrom", createdFrom.toString())
+                .param("page", Integer.toString(page))
+                .param("size", Integer.toString(size))
+                .param("sortOrder", sortOrder)
+                .param("ascending", Boolean.toString(ascending)));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.size()", CoreMatchers.is(size)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements", CoreMatchers.is(this.bugDTOList.size())));
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testGetBugsByFilter_Should_Return400_When_DateRangeIsEmpty() throws Exception
+    {
+        LocalDateTime date = LocalDateTime.of(2022, 11, 1, 0, 0);
+        BugFilter filter = new BugFilter(null, null, null, null, null, null, date, date);
+        when(this.bugService.getBugsByFilter(filter, 0, 5, "id", true, PaginationMode.PAGE))
+                .thenThrow(new IllegalArgumentException(INVALID_DATE_RANGE));
+
+        ResultActions response = this.mockMvc.perform(get("/bug/bugs/filter")
+                .param("createdFrom", date.toString())
+                .param("createdBefore", date.toString())
+                .param("page", "0")
+                .param("size", "5")
+                .param("sortOrder", "id")
+                .param("ascending", "true"));
+
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(ILLEGAL_ARGUMENT)));
+    }
+
+
+
     @Test
     @WithMockUser(authorities = "invalid:read")
     public void testGetBugsByProjectId_For_InvalidUser_Should_Return_403() throws Exception
@@ -720,7 +926,7 @@ public class BugControllerTest
         boolean ascending = true;
 
         Page<BugDTO> bugDTOPage = new PageImpl<>(this.bugDTOList.subList(0, size));
-        when(this.bugService.getBugsByCreatorId(creatorId, page, size, sortOrder, ascending)).thenReturn(bugDTOPage);
+        when(this.bugService.getBugsByCreatorId(creatorId, page, size, sortOrder, ascending, PaginationMode.PAGE)).thenReturn(bugDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/bug/bugs/creator")
                 .param("creatorId", creatorId.toString())
@@ -748,7 +954,7 @@ public class BugControllerTest
         boolean ascending = true;
 
         Page<BugDTO> bugDTOPage = new PageImpl<>(this.bugDTOList.subList(0, size));
-        when(this.bugService.getBugsByCreatorId(creatorId, page, size, sortOrder, ascending)).thenReturn(bugDTOPage);
+        when(this.bugService.getBugsByCreatorId(creatorId, page, size, sortOrder, ascending, PaginationMode.PAGE)).thenReturn(bugDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/bug/bugs/creator")
                 .param("creatorId", creatorId.toString())
@@ -799,7 +1005,7 @@ public class BugControllerTest
         boolean ascending = true;
 
         Page<BugDTO> bugDTOPage = new PageImpl<>(this.bugDTOList.subList(0, size));
-        when(this.bugService.getBugsByAssigneeId(assigneeId, page, size, sortOrder, ascending)).thenReturn(bugDTOPage);
+        when(this.bugService.getBugsByAssigneeId(assigneeId, page, size, sortOrder, ascending, PaginationMode.PAGE)).thenReturn(bugDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/bug/bugs/assignee")
                 .param("assigneeId", assigneeId.toString())
@@ -850,7 +1056,7 @@ public class BugControllerTest
         boolean ascending = true;
 
         Page<BugDTO> bugDTOPage = new PageImpl<>(this.bugDTOList.subList(0, size));
-        when(this.bugService.getBugsByProjectLeaderId(projectLeaderId, page, size, sortOrder, ascending)).thenReturn(bugDTOPage);
+        when(this.bugService.getBugsByProjectLeaderId(projectLeaderId, page, size, sortOrder, ascending, PaginationMode.PAGE)).thenReturn(bugDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/bug/bugs/project-leader")
                 .param("projectLeaderId", projectLeaderId.toString())
@@ -890,6 +1096,133 @@ public class BugControllerTest
 
 
 
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testGetBugsByProjectIdAfterCursor_Should_Return200_And_CursorPage() throws Exception
+    {
+        Long projectId = this.project.getId();
+        String cursor = "cursor";
+        int size = 5;
+        String sortOrder = "name";
+        boolean ascending = true;
+
+        CursorPage<BugDTO> bugDTOPage = new CursorPage<>(this.bugDTOList.subList(0, size), size, true, "nextCursor");
+        when(this.bugService.getBugsByScopeAfterCursor(BugScope.PROJECT, projectId, cursor, size, sortOrder, ascending)).thenReturn(bugDTOPage);
+
+        ResultActions response = this.mockMvc.perform(get("/bug/bugs/project/cursor")
+                .param("projectId", projectId.toString())
+                .param("cursor", cursor)
+                .param("size", Integer.toString(size))
+                .param("sortOrder", sortOrder)
+                .param("ascending", Boolean.toString(ascending)));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.size()", CoreMatchers.is(size)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", CoreMatchers.is(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", CoreMatchers.is("nextCursor")));
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "project_leader:read")
+    public void testGetBugsByProjectLeaderIdAfterCursor_For_FirstPage_Should_Return200_And_CursorPage() throws Exception
+    {
+        Long projectLeaderId = this.projectLeader.getId();
+        int size = 5;
+        String sortOrder = "creationDate";
+        boolean ascending = false;
+
+        CursorPage<BugDTO> bugDTOPage = new CursorPage<>(this.bugDTOList.subList(0, 2), size, false, null);
+        when(this.bugService.getBugsByScopeAfterCursor(BugScope.PROJECT_LEADER, projectLeaderId, null, size, sortOrder, ascending)).thenReturn(bugDTOPage);
+
+        ResultActions response = this.mockMvc.perform(get("/bug/bugs/project-leader/cursor")
+                .param("projectLeaderId", projectLeaderId.toString())
+                .param("size", Integer.toString(size))
+                .param("sortOrder", sortOrder)
+                .param("ascending", Boolean.toString(ascending)));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.size()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", CoreMatchers.is(false)));
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testGetBugsByProjectLeaderIdAfterCursor_For_User_Should_Return_403() throws Exception
+    {
+        ResultActions response = this.mockMvc.perform(get("/bug/bugs/project-leader/cursor")
+                .param("projectLeaderId", this.projectLeader.getId().toString())
+                .param("size", "5")
+                .param("sortOrder", "name")
+                .param("ascending", "true"));
+
+        response.andExpect(MockMvcResultMatchers.status().isForbidden())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(NOT_ENOUGH_PERMISSION)));
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "project_leader:update")
+    public void testApplyBulkOperation_Should_Return200_And_UpdatedCount() throws Exception
+    {
+        List<Long> bugIds = List.of(1L, 2L, 3L);
+        BugBulkRequest bugBulkRequest = new BugBulkRequest(bugIds, BugBulkOperation.SET_STATUS, BugStatus.CLOSED, null);
+
+        when(this.bugService.applyBulkOperation(bugIds, BugBulkOperation.SET_STATUS, BugStatus.CLOSED, null)).thenReturn(3);
+
+        ResultActions response = this.mockMvc.perform(put("/bug/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(bugBulkRequest)));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(3 + BUGS_SUCCESSFULLY_UPDATED)));
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:update")
+    public void testApplyBulkOperation_For_User_Should_Return403() throws Exception
+    {
+        BugBulkRequest bugBulkRequest = new BugBulkRequest(List.of(1L), BugBulkOperation.UNASSIGN, null, null);
+
+        ResultActions response = this.mockMvc.perform(put("/bug/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(bugBulkRequest)));
+
+        response.andExpect(MockMvcResultMatchers.status().isForbidden());
+        verifyNoInteractions(this.bugService);
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testSearchBugs_Should_Return200_And_RankedBugs() throws Exception
+    {
+        Long projectId = this.project.getId();
+        String query = "login error";
+        int size = 3;
+
+        when(this.bugService.searchBugs(projectId, query, size)).thenReturn(this.bugDTOList.subList(0, size));
+
+        ResultActions response = this.mockMvc.perform(get("/bug/bugs/project/search")
+                .param("projectId", projectId.toString())
+                .param("query", query)
+                .param("size", Integer.toString(size)));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.size()", CoreMatchers.is(size)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", CoreMatchers.is(this.bugDTOList.get(0).id().intValue())));
+    }
+
+
+
+
     @Test
     @WithMockUser(authorities = "user:read")
     public void testGetCount_For_User_Should_Return200_And_Count() throws Exception
@@ -1293,4 +1626,96 @@ public class BugControllerTest
         response.andExpect(MockMvcResultMatchers.status().isBadRequest())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(ILLEGAL_ARGUMENT)));
     }
+
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testGetStatistics_Should_Return200_And_Statistics_For_DefaultDays() throws Exception
+    {
+        Map<String, Long> countsByStatus = new LinkedHashMap<>();
+        countsByStatus.put(BugStatus.NEW.name(), 4L);
+        countsByStatus.put(BugStatus.FIXED.name(), 6L);
+
+        when(this.bugService.getStatistics(BugCounterScope.ALL, null, 30))
+                .thenReturn(new BugStatisticsDTO(10L, countsByStatus, 30, 3L));
+
+        ResultActions response = this.mockMvc.perform(get("/bug/stats"));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", CoreMatchers.is(10)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.countsByStatus.FIXED", CoreMatchers.is(6)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.days", CoreMatchers.is(30)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.createdInLastDays", CoreMatchers.is(3)));
+    }
+
+
+
+
+    @Test
+    @WithMockUser(authorities = "project_leader:read")
+    public void testGetStatisticsByProjectLeader_Should_Return200_And_Statistics() throws Exception
+    {
+        Long projectLeaderId = this.projectLeader.getId();
+
+        when(this.bugService.getStatistics(BugCounterScope.PROJECT_LEADER, projectLeaderId, 7))
+                .thenReturn(new BugStatisticsDTO(2L, Map.of(BugStatus.OPEN.name(), 2L), 7, 1L));
+
+        ResultActions response = this.mockMvc.perform(get("/bug/stats/project-leader")
+                .param("projectLeaderId", projectLeaderId.toString())
+                .param("days", "7"));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.createdInLastDays", CoreMatchers.is(1)));
+    }
+
+
+
+
+    @Test
+    @WithMockUser(authorities = "project_leader:read")
+    public void testGetStatisticsByCreator_For_InvalidAuthority_403() throws Exception
+    {
+        ResultActions response = this.mockMvc.perform(get("/bug/stats/creator")
+                .param("creatorId", this.creatorUser.getId().toString()));
+
+        response.andExpect(MockMvcResultMatchers.status().isForbidden())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(NOT_ENOUGH_PERMISSION)));
+    }
+
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testGetCreationTrendByCreator_Should_Return200_And_Trend() throws Exception
+    {
+        Long creatorId = this.creatorUser.getId();
+
+        when(this.bugService.getCreationTrend(BugCounterScope.CREATOR, creatorId, 30))
+                .thenReturn(List.of(new BugTrendPointDTO(LocalDate.of(2022, 11, 5), 3L)));
+
+        ResultActions response = this.mockMvc.perform(get("/bug/trend/creator")
+                .param("creatorId", creatorId.toString()));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].day", CoreMatchers.is("2022-11-05")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].count", CoreMatchers.is(3)));
+    }
+
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testGetCreationTrendByProjectLeader_For_InvalidAuthority_403() throws Exception
+    {
+        ResultActions response = this.mockMvc.perform(get("/bug/trend/project-leader")
+                .param("projectLeaderId", this.projectLeader.getId().toString()));
+
+        response.andExpect(MockMvcResultMatchers.status().isForbidden())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(NOT_ENOUGH_PERMISSION)));
+    }
 }
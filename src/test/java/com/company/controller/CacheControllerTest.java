@@ -0,0 +1,82 @@
+package com.company.controller;
+
+import com.company.dto.CacheRegionStatisticsDTO;
+import com.company.jwt.JwtTokenProvider;
+import com.company.jwt.filter.JwtAccessDeniedHandler;
+import com.company.jwt.filter.JwtAuthenticationEntryPoint;
+import com.company.jwt.filter.JwtAuthorizationFilter;
+import com.company.service.CacheStatisticsService;
+import com.company.service.UserService;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@WebMvcTest(controllers = CacheController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ExtendWith(SpringExtension.class)
+public class CacheControllerTest
+{
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheStatisticsService cacheStatisticsService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private JwtAuthorizationFilter authorizationFilter;
+
+    @MockBean
+    private JwtAccessDeniedHandler jwtAccessDeniedHandler;
+
+    @MockBean
+    private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+
+
+    @Test
+    @WithMockUser(authorities = "admin:create")
+    public void testGetCacheStatistics_For_Admin_Should_Return200_And_RegionStatistics() throws Exception
+    {
+        when(this.cacheStatisticsService.getRegionStatistics())
+                .thenReturn(List.of(new CacheRegionStatisticsDTO("com.company.entity.Role", 3, 1, 1, 0.75)));
+
+        this.mockMvc.perform(get("/cache/statistics"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].region", CoreMatchers.is("com.company.entity.Role")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].hitCount", CoreMatchers.is(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].hitRatio", CoreMatchers.is(0.75)));
+    }
+
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testGetCacheStatistics_For_User_Should_Return403() throws Exception
+    {
+        this.mockMvc.perform(get("/cache/statistics"))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+
+        verifyNoInteractions(this.cacheStatisticsService);
+    }
+}
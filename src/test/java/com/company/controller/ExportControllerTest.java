@@ -0,0 +1,115 @@
+package com.company.controller;
+
+import com.company.enumeration.ExportFormat;
+import com.company.jwt.JwtTokenProvider;
+import com.company.jwt.filter.JwtAccessDeniedHandler;
+import com.company.jwt.filter.JwtAuthenticationEntryPoint;
+import com.company.jwt.filter.JwtAuthorizationFilter;
+import com.company.service.BugExportService;
+import com.company.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.company.constant.ExportConstant.ATTACHMENT_FILENAME;
+import static com.company.constant.ExportConstant.HEADER_KEY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@WebMvcTest(controllers = ExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ExtendWith(SpringExtension.class)
+public class ExportControllerTest
+{
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BugExportService bugExportService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private JwtAuthorizationFilter authorizationFilter;
+
+    @MockBean
+    private JwtAccessDeniedHandler jwtAccessDeniedHandler;
+
+    @MockBean
+    private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+
+
+    @Test
+    @WithMockUser(authorities = "project_leader:read")
+    public void testExportBugsByProjectId_Should_Return200_And_StreamCsv() throws Exception
+    {
+        doAnswer(invocation ->
+        {
+            invocation.getArgument(2, OutputStream.class).write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(this.bugExportService).exportBugsByProjectId(eq(1L), eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = this.mockMvc.perform(get("/export/bugs/project")
+                        .param("projectId", "1")
+                        .param("format", "CSV"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HEADER_KEY, ATTACHMENT_FILENAME + "1.csv"))
+                .andExpect(MockMvcResultMatchers.content().contentType(ExportFormat.CSV.getContentType()))
+                .andExpect(MockMvcResultMatchers.content().string("id\n1\n"));
+    }
+
+
+    @Test
+    @WithMockUser(authorities = "user:read")
+    public void testExportBugsByProjectId_Should_DefaultToNdjson() throws Exception
+    {
+        MvcResult result = this.mockMvc.perform(get("/export/bugs/project")
+                        .param("projectId", "1"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(ExportFormat.NDJSON.getContentType()));
+
+        verify(this.bugExportService).exportBugsByProjectId(eq(1L), eq(ExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+
+    @Test
+    @WithMockUser(authorities = "invalid:read")
+    public void testExportBugsByProjectId_For_InvalidAuthority_Should_Return403() throws Exception
+    {
+        this.mockMvc.perform(get("/export/bugs/project")
+                        .param("projectId", "1"))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+
+        verifyNoInteractions(this.bugExportService);
+    }
+}
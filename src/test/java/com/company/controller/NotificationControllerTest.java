@@ -6,6 +6,7 @@ import com.company.builder.UserDTOBuilder;
 import com.company.dto.NotificationDTO;
 import com.company.dto.UserDTO;
 import com.company.entity.User;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.NotificationNotFoundException;
 import com.company.jwt.JwtTokenProvider;
 import com.company.jwt.filter.JwtAccessDeniedHandler;
@@ -36,7 +37,10 @@ import java.util.List;
 
 import static com.company.constant.ExceptionConstant.NOT_ENOUGH_PERMISSION;
 import static com.company.constant.NotificationConstant.NOTIFICATION_NOT_FOUND;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -124,7 +128,7 @@ public class NotificationControllerTest
         int size = 5;
 
         Page<NotificationDTO> notificationDTOPage = new PageImpl<>(this.notificationDTOList.subList(0, size));
-        when(this.notificationService.getNotificationsByReceiverId(receiverId, page, size)).thenReturn(notificationDTOPage);
+        when(this.notificationService.getNotificationsByReceiverId(receiverId, page, size, PaginationMode.PAGE)).thenReturn(notificationDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/notification")
                 .param("receiverId", "2")
@@ -147,7 +151,7 @@ public class NotificationControllerTest
         int size = 5;
 
         Page<NotificationDTO> notificationDTOPage = new PageImpl<>(this.notificationDTOList.subList(0, size));
-        when(this.notificationService.getNotificationsByReceiverId(receiverId, page, size)).thenReturn(notificationDTOPage);
+        when(this.notificationService.getNotificationsByReceiverId(receiverId, page, size, PaginationMode.PAGE)).thenReturn(notificationDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/notification")
                 .param("receiverId", "2")
@@ -171,7 +175,7 @@ public class NotificationControllerTest
         int size = 5;
 
         Page<NotificationDTO> notificationDTOPage = new PageImpl<>(this.notificationDTOList.subList(0, size));
-        when(this.notificationService.getNotificationsByReceiverId(receiverId, page, size)).thenReturn(notificationDTOPage);
+        when(this.notificationService.getNotificationsByReceiverId(receiverId, page, size, PaginationMode.PAGE)).thenReturn(notificationDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/notification")
                 .param("receiverId", "2")
@@ -400,4 +404,54 @@ public class NotificationControllerTest
         response.andExpect(MockMvcResultMatchers.status().isBadRequest())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(NOTIFICATION_NOT_FOUND)));
     }
+
+
+
+    @Test
+    @WithMockUser(authorities = "user:update")
+    public void testMarkAllSeen_For_User_Should_Return200_And_MarkedCount() throws Exception
+    {
+        Long receiverId = this.receiver.getId();
+
+        when(this.notificationService.markAllSeen(receiverId)).thenReturn(300);
+
+        ResultActions response = this.mockMvc.perform(put("/notification/" + receiverId + "/seen/all")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", CoreMatchers.is(300)));
+    }
+
+
+    @Test
+    @WithMockUser(authorities = "invalid:update")
+    public void testMarkAllSeen_For_Invalid_Should_Return403() throws Exception
+    {
+        Long receiverId = this.receiver.getId();
+
+        ResultActions response = this.mockMvc.perform(put("/notification/" + receiverId + "/seen/all")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().isForbidden())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(NOT_ENOUGH_PERMISSION)));
+        verify(this.notificationService, never()).markAllSeen(any());
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "project_leader:update")
+    public void testMarkSeenUpTo_For_ProjectLeader_Should_Return200_And_MarkedCount() throws Exception
+    {
+        Long receiverId = this.receiver.getId();
+        Long notificationId = this.notificationDTO.id();
+
+        when(this.notificationService.markSeenUpTo(receiverId, notificationId)).thenReturn(12);
+
+        ResultActions response = this.mockMvc.perform(put("/notification/" + receiverId + "/seen/up-to/" + notificationId)
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", CoreMatchers.is(12)));
+    }
 }
@@ -15,6 +15,7 @@ import com.company.jwt.filter.JwtAuthorizationFilter;
 import com.company.service.ProjectService;
 import com.company.service.UserService;
 import com.company.builder.ProjectDTOBuilder;
+import com.company.enumeration.PaginationMode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +27,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -38,6 +41,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static com.company.constant.ExceptionConstant.NOT_ENOUGH_PERMISSION;
+import static com.company.constant.ExceptionConstant.VERSION_CONFLICT;
 import static com.company.constant.ProjectConstant.PARTICIPANTS_ADDED_SUCCESSFULLY;
 import static com.company.constant.ProjectConstant.PARTICIPANT_UNASSIGNED_SUCCESSFULLY;
 import static org.mockito.Mockito.doNothing;
@@ -152,7 +156,7 @@ public class ProjectControllerTest
         String newDescription = this.projectDTO.description();
 
         when(this.projectService.addOrUpdate
-                (projectLeaderId, null, newName, newDescription)).thenReturn(this.projectDTO);
+                (projectLeaderId, null, newName, newDescription, null)).thenReturn(this.projectDTO);
 
         ResultActions response = this.mockMvc.perform(post("/project/" + projectLeaderId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -193,7 +197,7 @@ public class ProjectControllerTest
         String newName = this.editedProjectDTO.name();
         String newDescription = this.editedProjectDTO.description();
 
-        when(this.projectService.addOrUpdate(projectLeaderId, currentName, newName, newDescription)).thenReturn(this.editedProjectDTO);
+        when(this.projectService.addOrUpdate(projectLeaderId, currentName, newName, newDescription, null)).thenReturn(this.editedProjectDTO);
 
         ResultActions response = this.mockMvc.perform(put("/project/" + projectLeaderId)
                 .param("currentName", currentName)
@@ -208,6 +212,60 @@ public class ProjectControllerTest
 
 
 
+    @Test
+    @WithMockUser(authorities = "project_leader:update")
+    public void testUpdateProject_Should_Return200_And_NewETag_When_IfMatchVersionIsCurrent() throws Exception
+    {
+        Long projectLeaderId = this.projectLeader.getId();
+        String currentName = this.projectDTO.name();
+        String newName = "PROJECT_2";
+        String newDescription = "PROJECT_DESCRIPTION_2";
+
+        ProjectDTO editedProjectDTO = new ProjectDTOBuilder()
+                .withName(newName)
+                .withDescription(newDescription)
+                .withVersion(4L)
+                .build();
+
+        when(this.projectService.addOrUpdate(projectLeaderId, currentName, newName, newDescription, 3L)).thenReturn(editedProjectDTO);
+
+        ResultActions response = this.mockMvc.perform(put("/project/" + projectLeaderId)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .param("currentName", currentName)
+                .param("newName", newName)
+                .param("newDescription", newDescription));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version", CoreMatchers.is(4)));
+    }
+
+
+
+    @Test
+    @WithMockUser(authorities = "project_leader:update")
+    public void testUpdateProject_Should_Return409_When_ConcurrentUpdateWins() throws Exception
+    {
+        Long projectLeaderId = this.projectLeader.getId();
+        String currentName = this.projectDTO.name();
+        String newName = "PROJECT_2";
+        String newDescription = "PROJECT_DESCRIPTION_2";
+
+        when(this.projectService.addOrUpdate(projectLeaderId, currentName, newName, newDescription, 3L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Project.class, 1L));
+
+        ResultActions response = this.mockMvc.perform(put("/project/" + projectLeaderId)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .param("currentName", currentName)
+                .param("newName", newName)
+                .param("newDescription", newDescription));
+
+        response.andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(VERSION_CONFLICT)));
+    }
+
+
+
 
     @Test
     @WithMockUser(authorities = "invalid:create")
@@ -340,7 +398,7 @@ public class ProjectControllerTest
         boolean ascending = true;
 
         Page<ProjectDTO> projectDTOPage = new PageImpl<>(this.projectDTOList.subList(0, size));
-        when(this.projectService.getProjectsByParticipantId(participantId, page, size, sortOrder, ascending)).thenReturn(projectDTOPage);
+        when(this.projectService.getProjectsByParticipantId(participantId, page, size, sortOrder, ascending, PaginationMode.PAGE)).thenReturn(projectDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/project/projects/participant")
                 .param("participantId", participantId.toString())
@@ -392,7 +450,7 @@ public class ProjectControllerTest
         boolean ascending = true;
 
         Page<ProjectDTO> projectDTOPage = new PageImpl<>(this.projectDTOList.subList(0, size));
-        when(this.projectService.getProjectsByProjectLeaderId(projectLeaderId, page, size, sortOrder, ascending)).thenReturn(projectDTOPage);
+        when(this.projectService.getProjectsByProjectLeaderId(projectLeaderId, page, size, sortOrder, ascending, PaginationMode.PAGE)).thenReturn(projectDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/project/projects/project-leader")
                 .param("projectLeaderId", projectLeaderId.toString())
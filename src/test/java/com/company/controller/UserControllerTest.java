@@ -4,6 +4,7 @@ import com.company.builder.UserBuilder;
 import com.company.builder.UserDTOBuilder;
 import com.company.dto.UserDTO;
 import com.company.entity.User;
+import com.company.enumeration.PaginationMode;
 import com.company.enumeration.RoleEnum;
 import com.company.enumeration.UserSpeciality;
 import com.company.jwt.JwtTokenProvider;
@@ -367,7 +368,7 @@ public class UserControllerTest
         int size = 5;
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getUserByFullNameContaining(fullName, page, size)).thenReturn(userDTOPage);
+        when(this.userService.getUserByFullNameContaining(fullName, page, size, PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/users/name")
                 .param("fullName", fullName)
@@ -391,7 +392,7 @@ public class UserControllerTest
         int size = 5;
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getUserByFullNameContaining(fullName, page, size)).thenReturn(userDTOPage);
+        when(this.userService.getUserByFullNameContaining(fullName, page, size, PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/users/name")
                 .param("fullName", fullName)
@@ -415,7 +416,7 @@ public class UserControllerTest
         int size = 5;
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getUsersByRole(RoleEnum.valueOf(role), page, size)).thenReturn(userDTOPage);
+        when(this.userService.getUsersByRole(RoleEnum.valueOf(role), page, size, PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/users/role")
                 .param("role", role)
@@ -439,7 +440,7 @@ public class UserControllerTest
         int size = 5;
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getUsersByRole(RoleEnum.valueOf(role), page, size)).thenReturn(userDTOPage);
+        when(this.userService.getUsersByRole(RoleEnum.valueOf(role), page, size, PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/users/role")
                 .param("role", role)
@@ -464,7 +465,7 @@ public class UserControllerTest
         int size = 5;
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getUsersByRoleAndFullName(RoleEnum.valueOf(role), fullName, page, size)).thenReturn(userDTOPage);
+        when(this.userService.getUsersByRoleAndFullName(RoleEnum.valueOf(role), fullName, page, size, PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/users/role/name")
                 .param("role", role)
@@ -489,7 +490,7 @@ public class UserControllerTest
         int size = 5;
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getUsersNotInProject(projectId, page, size)).thenReturn(userDTOPage);
+        when(this.userService.getUsersNotInProject(projectId, page, size, PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/users/not-participants")
                 .param("projectId", projectId.toString())
@@ -514,7 +515,7 @@ public class UserControllerTest
         int size = 5;
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getUsersByFullNameAndNotInProject(fullName, projectId, page, size)).thenReturn(userDTOPage);
+        when(this.userService.getUsersByFullNameAndNotInProject(fullName, projectId, page, size, PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/users/name/not-participants")
                 .param("fullName", fullName)
@@ -541,7 +542,7 @@ public class UserControllerTest
         String ascending = "true";
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getParticipantsByProjectId(projectId, page, size, sortOrder, Boolean.parseBoolean(ascending))).thenReturn(userDTOPage);
+        when(this.userService.getParticipantsByProjectId(projectId, page, size, sortOrder, Boolean.parseBoolean(ascending), PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/participants")
                 .param("projectId", projectId.toString())
@@ -568,7 +569,7 @@ public class UserControllerTest
         int size = 5;
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getParticipantsByFullNameAndProjectId(fullName, projectId, page, size)).thenReturn(userDTOPage);
+        when(this.userService.getParticipantsByFullNameAndProjectId(fullName, projectId, page, size, PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/participants/name")
                 .param("fullName", fullName)
@@ -596,7 +597,7 @@ public class UserControllerTest
         String ascending = "true";
 
         Page<UserDTO> userDTOPage = new PageImpl<>(this.userDTOList.subList(0, size));
-        when(this.userService.getParticipantsByProjectIdAndExcludeParticipant(projectId, participantId, page, size, sortOrder, Boolean.parseBoolean(ascending))).thenReturn(userDTOPage);
+        when(this.userService.getParticipantsByProjectIdAndExcludeParticipant(projectId, participantId, page, size, sortOrder, Boolean.parseBoolean(ascending), PaginationMode.PAGE)).thenReturn(userDTOPage);
 
         ResultActions response = this.mockMvc.perform(get("/user/participants/exclude")
                 .param("projectId", projectId.toString())
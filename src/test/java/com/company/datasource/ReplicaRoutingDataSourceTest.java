@@ -0,0 +1,212 @@
+package com.company.datasource;
+
+import com.company.configuration.DataSourceConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ContextConfiguration(classes = {DataSourceConfiguration.class, ReplicaRoutingDataSourceTest.TransactionConfiguration.class})
+@ExtendWith(SpringExtension.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.jdbc-url=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1"})
+public class ReplicaRoutingDataSourceTest
+{
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private JdbcTemplate jdbcTemplate;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.initializeDatabase(this.primaryDataSource, PRIMARY);
+        this.initializeDatabase(this.replicaDataSource, REPLICA);
+        this.setReplicaHeartbeat(Instant.now());
+        this.replicaLagMonitor.checkReplicaLag();
+
+        this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        SecurityContextHolder.clearContext();
+    }
+
+
+    @Test
+    public void testReadOnlyTransaction_Should_UseReplica()
+    {
+        assertTrue(this.replicaLagMonitor.isReplicaUpToDate());
+        assertEquals(REPLICA, this.readDatabaseName(true));
+    }
+
+
+    @Test
+    public void testWriteTransaction_Should_UsePrimary()
+    {
+        assertEquals(PRIMARY, this.readDatabaseName(false));
+    }
+
+
+    @Test
+    public void testQueryOutsideTransaction_Should_UsePrimary()
+    {
+        assertEquals(PRIMARY, this.jdbcTemplate.queryForObject("SELECT name FROM database_name", String.class));
+    }
+
+
+    @Test
+    public void testReadOnlyTransaction_Should_UsePrimary_After_OwnWrite()
+    {
+        this.authenticate("writer@email.com");
+        this.write();
+
+        assertEquals(PRIMARY, this.readDatabaseName(true));
+
+        this.authenticate("reader@email.com");
+        assertEquals(REPLICA, this.readDatabaseName(true));
+    }
+
+
+    @Test
+    public void testReadOnlyTransaction_Should_UseReplica_When_OwnWriteWasRolledBack()
+    {
+        this.authenticate("rollback@email.com");
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status ->
+        {
+            this.jdbcTemplate.update("UPDATE database_name SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(REPLICA, this.readDatabaseName(true));
+    }
+
+
+    @Test
+    public void testReadOnlyTransaction_Should_UsePrimary_When_ReplicaLags()
+    {
+        this.setReplicaHeartbeat(Instant.now().minus(1, ChronoUnit.MINUTES));
+        this.replicaLagMonitor.checkReplicaLag();
+
+        assertFalse(this.replicaLagMonitor.isReplicaUpToDate());
+        assertEquals(PRIMARY, this.readDatabaseName(true));
+    }
+
+
+    @Test
+    public void testReadOnlyTransaction_Should_UsePrimary_When_ReplicaCannotBeChecked()
+    {
+        new JdbcTemplate(this.replicaDataSource).execute("DROP TABLE replication_heartbeat");
+        this.replicaLagMonitor.checkReplicaLag();
+
+        assertFalse(this.replicaLagMonitor.isReplicaUpToDate());
+        assertEquals(PRIMARY, this.readDatabaseName(true));
+    }
+
+
+    @Test
+    public void testCheckReplicaLag_Should_WriteHeartbeat_ToPrimary()
+    {
+        Instant before = Instant.now().minus(1, ChronoUnit.SECONDS);
+
+        this.replicaLagMonitor.checkReplicaLag();
+
+        Timestamp heartbeat = new JdbcTemplate(this.primaryDataSource)
+                .queryForObject("SELECT beat FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+        assertNotNull(heartbeat);
+        assertTrue(heartbeat.toInstant().isAfter(before));
+    }
+
+
+    private String readDatabaseName(boolean readOnly)
+    {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status ->
+                this.jdbcTemplate.queryForObject("SELECT name FROM database_name", String.class));
+    }
+
+    private void write()
+    {
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status ->
+                this.jdbcTemplate.update("UPDATE database_name SET name = name"));
+    }
+
+    private void authenticate(String username)
+    {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private void initializeDatabase(DataSource dataSource, String name)
+    {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS database_name");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS replication_heartbeat");
+        jdbcTemplate.execute("CREATE TABLE database_name (name varchar(20))");
+        jdbcTemplate.execute("CREATE TABLE replication_heartbeat (id int not null primary key, beat timestamp(6) not null)");
+        jdbcTemplate.update("INSERT INTO database_name (name) VALUES (?)", name);
+        jdbcTemplate.update("INSERT INTO replication_heartbeat (id, beat) VALUES (1, ?)", Timestamp.from(Instant.now()));
+    }
+
+    private void setReplicaHeartbeat(Instant beat)
+    {
+        new JdbcTemplate(this.replicaDataSource).update("UPDATE replication_heartbeat SET beat = ? WHERE id = 1", Timestamp.from(beat));
+    }
+
+
+    @Configuration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class TransactionConfiguration
+    {
+        @Bean
+        public PlatformTransactionManager transactionManager(DataSource dataSource)
+        {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+}
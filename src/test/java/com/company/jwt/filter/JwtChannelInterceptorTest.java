@@ -0,0 +1,121 @@
+package com.company.jwt.filter;
+
+import com.company.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static com.company.constant.SecurityConstant.TOKEN_PREFIX;
+import static com.company.constant.WebSocketConstant.ONLY_OWN_QUEUES_CAN_BE_SUBSCRIBED;
+import static com.company.constant.WebSocketConstant.ONLY_SUBSCRIPTIONS_ARE_ALLOWED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ContextConfiguration(classes = {JwtChannelInterceptor.class})
+@ExtendWith(SpringExtension.class)
+public class JwtChannelInterceptorTest
+{
+    private static final String TOKEN = "TOKEN";
+    private static final String USERNAME = "user@test.com";
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JwtChannelInterceptor underTest;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+
+    @Test
+    public void testPreSend_Should_AuthenticateUser_On_Connect()
+    {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader(HttpHeaders.AUTHORIZATION, TOKEN_PREFIX + TOKEN);
+        accessor.setLeaveMutable(true);
+
+        when(this.jwtTokenProvider.getSubject(TOKEN)).thenReturn(USERNAME);
+        when(this.jwtTokenProvider.isTokenValid(USERNAME, TOKEN)).thenReturn(true);
+        when(this.jwtTokenProvider.getAuthorities(TOKEN)).thenReturn(List.of());
+
+        Message<?> result = this.underTest.preSend(this.createMessage(accessor), this.channel);
+
+        assertEquals(USERNAME, StompHeaderAccessor.wrap(result).getUser().getName());
+    }
+
+
+    @Test
+    public void testPreSend_Should_AllowSubscription_To_OwnQueue()
+    {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/user/queue/notifications");
+
+        Message<?> message = this.createMessage(accessor);
+
+        assertSame(message, this.underTest.preSend(message, this.channel));
+    }
+
+
+    @Test
+    public void testPreSend_Should_RejectSubscription_To_BrokerQueue()
+    {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/queue/notifications");
+
+        Exception exception = assertThrows
+                (AccessDeniedException.class, () -> this.underTest.preSend(this.createMessage(accessor), this.channel));
+        assertEquals(ONLY_OWN_QUEUES_CAN_BE_SUBSCRIBED, exception.getMessage());
+    }
+
+
+    @Test
+    public void testPreSend_Should_RejectSend_To_QueueOfAnotherUser()
+    {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/user/victim@test.com/queue/notifications");
+
+        Exception exception = assertThrows
+                (AccessDeniedException.class, () -> this.underTest.preSend(this.createMessage(accessor), this.channel));
+        assertEquals(ONLY_SUBSCRIPTIONS_ARE_ALLOWED, exception.getMessage());
+    }
+
+
+    @Test
+    public void testPreSend_Should_RejectSend_To_BrokerQueue()
+    {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/queue/notifications/unseen");
+
+        assertThrows(AccessDeniedException.class, () -> this.underTest.preSend(this.createMessage(accessor), this.channel));
+    }
+
+
+    @Test
+    public void testPreSend_Should_AllowHeartbeat_And_Disconnect()
+    {
+        Message<?> heartbeat = this.createMessage(StompHeaderAccessor.createForHeartbeat());
+        Message<?> disconnect = this.createMessage(StompHeaderAccessor.create(StompCommand.DISCONNECT));
+
+        assertSame(heartbeat, this.underTest.preSend(heartbeat, this.channel));
+        assertSame(disconnect, this.underTest.preSend(disconnect, this.channel));
+    }
+
+
+    private Message<byte[]> createMessage(StompHeaderAccessor accessor)
+    {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,144 @@
+package com.company.repository;
+
+import com.company.entity.*;
+import com.company.enumeration.RoleEnum;
+import com.company.enumeration.UserSpeciality;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batch-insert-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+public class BatchInsertBenchmarkTest
+{
+    private static final int ROWS = 2000;
+
+    private final Logger LOGGER = LoggerFactory.getLogger(getClass());
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private User receiver;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        Role role = new Role();
+        role.setName(RoleEnum.ROLE_USER);
+        role.setAuthorities(new ArrayList<>());
+        this.entityManager.persist(role);
+
+        this.receiver = new User();
+        this.receiver.setFirstName("Receiver");
+        this.receiver.setLastName("Receiver");
+        this.receiver.setEmail("receiver@test.com");
+        this.receiver.setPassword("password");
+        this.receiver.setSpeciality(UserSpeciality.BACKEND);
+        this.receiver.setRole(role);
+        this.entityManager.persist(this.receiver);
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+
+    @Test
+    public void testPooledTableIds_Should_InsertInBatches_When_IdentityIdsInsertRowByRow()
+    {
+        Role identityRole = new Role();
+        identityRole.setName(RoleEnum.ROLE_PROJECT_LEADER);
+        identityRole.setAuthorities(new ArrayList<>());
+        for(int i = 0; i < ROWS; i++)
+        {
+            Authority authority = new Authority();
+            authority.setName("authority:" + i);
+            identityRole.getAuthorities().add(authority);
+        }
+
+        Measurement identity = this.measure(() -> this.entityManager.persist(identityRole));
+
+        User receiverReference = this.entityManager.getReference(User.class, this.receiver.getId());
+        List<Notification> notifications = new ArrayList<>();
+        for(int i = 0; i < ROWS; i++)
+        {
+            notifications.add(new Notification("Title " + i, "Description " + i, null, receiverReference));
+        }
+
+        Measurement pooled = this.measure(() -> this.notificationRepository.saveAll(notifications));
+
+        LOGGER.info("{} IDENTITY inserts: {} round trips, {} ms", ROWS, identity.roundTrips(), identity.millis());
+        LOGGER.info("{} pooled table id inserts: {} round trips, {} ms", ROWS, pooled.roundTrips(), pooled.millis());
+
+        assertEquals(ROWS, this.notificationRepository.count());
+        assertTrue(identity.roundTrips() > ROWS);
+        assertTrue(pooled.roundTrips() * 10 < identity.roundTrips());
+    }
+
+
+    private Measurement measure(Runnable inserts)
+    {
+        RoundTripCounter roundTripCounter = new RoundTripCounter();
+        this.entityManager.unwrap(SessionImplementor.class)
+                .getEventListenerManager()
+                .addListener(roundTripCounter);
+
+        long start = System.nanoTime();
+        inserts.run();
+        this.entityManager.flush();
+        this.entityManager.clear();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        roundTripCounter.enabled = false;
+        return new Measurement(roundTripCounter.roundTrips, millis);
+    }
+
+    private record Measurement(long roundTrips, long millis) {}
+
+    private static class RoundTripCounter extends BaseSessionEventListener
+    {
+        private boolean enabled = true;
+        private long roundTrips;
+
+        @Override
+        public void jdbcExecuteStatementStart()
+        {
+            this.count();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart()
+        {
+            this.count();
+        }
+
+        private void count()
+        {
+            if(this.enabled)
+            {
+                this.roundTrips++;
+            }
+        }
+    }
+}
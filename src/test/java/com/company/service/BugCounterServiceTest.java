@@ -0,0 +1,272 @@
+package com.company.service;
+
+import com.company.domain.BugCounterSnapshot;
+import com.company.dto.BugTrendPointDTO;
+import com.company.entity.BugCounter;
+import com.company.entity.BugCounterId;
+import com.company.entity.BugDailyRollup;
+import com.company.entity.BugDailyRollupId;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugStatus;
+import com.company.repository.BugCounterRepository;
+import com.company.repository.BugDailyRollupRepository;
+import com.company.repository.BugRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.Tuple;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.company.constant.BugCounterConstant.GLOBAL_SCOPE_ID;
+import static com.company.constant.BugCounterConstant.ROLLUP_DAILY_RETENTION_DAYS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ContextConfiguration(classes = {BugCounterServiceImpl.class})
+@ExtendWith(SpringExtension.class)
+public class BugCounterServiceTest
+{
+    @MockBean
+    private BugCounterRepository bugCounterRepository;
+
+    @MockBean
+    private BugDailyRollupRepository bugDailyRollupRepository;
+
+    @MockBean
+    private BugRepository bugRepository;
+
+    @Autowired
+    private BugCounterService underTest;
+
+
+    @Test
+    public void testGetCount_Should_Return0_When_CounterDoesNotExist()
+    {
+        BugCounterId id = new BugCounterId(BugCounterScope.ASSIGNEE, 3L, BugStatus.FIXED);
+        when(this.bugCounterRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertEquals(0L, this.underTest.getCount(BugCounterScope.ASSIGNEE, 3L, BugStatus.FIXED));
+    }
+
+
+    @Test
+    public void testGetCount_Should_SumStatuses_When_StatusIsNotGiven()
+    {
+        when(this.bugCounterRepository.sumCountsByScope(BugCounterScope.CREATOR, 1L)).thenReturn(5L);
+
+        assertEquals(5L, this.underTest.getCount(BugCounterScope.CREATOR, 1L));
+    }
+
+
+    @Test
+    public void testUpdate_Should_MoveBugBetweenStatuses_InKeyOrder()
+    {
+        BugCounterSnapshot previous = new BugCounterSnapshot(1L, 2L, 3L, null, BugStatus.NEW, null);
+
+        this.underTest.update(List.of(previous), List.of(previous.withStatus(BugStatus.OPEN)));
+
+        InOrder inOrder = inOrder(this.bugCounterRepository);
+        inOrder.verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.ALL, GLOBAL_SCOPE_ID, BugStatus.NEW), -1);
+        inOrder.verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.ALL, GLOBAL_SCOPE_ID, BugStatus.OPEN), 1);
+        inOrder.verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.PROJECT, 1L, BugStatus.NEW), -1);
+        inOrder.verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.PROJECT, 1L, BugStatus.OPEN), 1);
+        inOrder.verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.CREATOR, 3L, BugStatus.NEW), -1);
+        inOrder.verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.CREATOR, 3L, BugStatus.OPEN), 1);
+        inOrder.verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.PROJECT_LEADER, 2L, BugStatus.NEW), -1);
+        inOrder.verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.PROJECT_LEADER, 2L, BugStatus.OPEN), 1);
+        verify(this.bugCounterRepository, times(8)).addToCount(any(), anyLong());
+    }
+
+
+    @Test
+    public void testUpdate_Should_OnlyTouchChangedCounters_When_BugIsAssigned()
+    {
+        BugCounterSnapshot previous = new BugCounterSnapshot(1L, 2L, 3L, null, BugStatus.OPEN, LocalDate.now());
+
+        this.underTest.update(List.of(previous), List.of(new BugCounterSnapshot(1L, 2L, 3L, 4L, BugStatus.OPEN, LocalDate.now())));
+
+        verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.ASSIGNEE, 4L, BugStatus.OPEN), 1);
+        verify(this.bugCounterRepository, times(1)).addToCount(any(), anyLong());
+        verify(this.bugDailyRollupRepository, never()).addToCount(any(), anyLong());
+    }
+
+
+    @Test
+    public void testUpdate_Should_MoveBugBetweenStatuses_InDailyRollup()
+    {
+        LocalDate today = LocalDate.now();
+        BugCounterSnapshot previous = new BugCounterSnapshot(1L, 2L, 3L, null, BugStatus.NEW, today);
+
+        this.underTest.update(List.of(previous), List.of(previous.withStatus(BugStatus.OPEN)));
+
+        verify(this.bugDailyRollupRepository).addToCount(new BugDailyRollupId(today, 1L, 3L, BugStatus.NEW), -1);
+        verify(this.bugDailyRollupRepository).addToCount(new BugDailyRollupId(today, 1L, 3L, BugStatus.OPEN), 1);
+        verify(this.bugDailyRollupRepository, times(2)).addToCount(any(), anyLong());
+    }
+
+
+    @Test
+    public void testUpdate_Should_UseMonthRow_When_BugIsOlderThanDailyRetention()
+    {
+        LocalDate creationDay = LocalDate.now().minusDays(ROLLUP_DAILY_RETENTION_DAYS + 40);
+
+        this.underTest.update(List.of(), List.of(new BugCounterSnapshot(1L, 2L, 3L, null, BugStatus.NEW, creationDay)));
+
+        verify(this.bugDailyRollupRepository).addToCount(new BugDailyRollupId(creationDay.withDayOfMonth(1), 1L, 3L, BugStatus.NEW), 1);
+    }
+
+
+    @Test
+    public void testGetCountCreatedAfter_Should_CountRestOfFirstDayFromBugs()
+    {
+        LocalDateTime dateTime = LocalDate.now().minusDays(7).atTime(15, 30);
+        LocalDate nextDay = dateTime.toLocalDate().plusDays(1);
+        when(this.bugRepository.countBugsCreatedBetween(BugCounterScope.CREATOR, 3L, dateTime, nextDay.atStartOfDay())).thenReturn(1L);
+        when(this.bugDailyRollupRepository.sumCountsSince(BugCounterScope.CREATOR, 3L, nextDay)).thenReturn(4L);
+
+        assertEquals(5L, this.underTest.getCountCreatedAfter(BugCounterScope.CREATOR, 3L, dateTime));
+    }
+
+
+    @Test
+    public void testGetCountCreatedAfter_Should_CountRestOfFirstMonthFromBugs_When_WindowReachesMonthRows()
+    {
+        LocalDateTime dateTime = LocalDate.now().minusDays(ROLLUP_DAILY_RETENTION_DAYS + 40).withDayOfMonth(10).atTime(15, 30);
+        LocalDate nextMonth = dateTime.toLocalDate().withDayOfMonth(1).plusMonths(1);
+        when(this.bugRepository.countBugsCreatedBetween(BugCounterScope.ALL, GLOBAL_SCOPE_ID, dateTime, nextMonth.atStartOfDay())).thenReturn(2L);
+        when(this.bugDailyRollupRepository.sumCountsSince(BugCounterScope.ALL, GLOBAL_SCOPE_ID, nextMonth)).thenReturn(4L);
+
+        assertEquals(6L, this.underTest.getCountCreatedAfter(BugCounterScope.ALL, GLOBAL_SCOPE_ID, dateTime));
+    }
+
+
+    @Test
+    public void testGetCreationTrend_Should_MapRollupRows()
+    {
+        LocalDate day = LocalDate.now().minusDays(7);
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("creationDay", LocalDate.class)).thenReturn(day);
+        when(tuple.get("bugCount", Long.class)).thenReturn(2L);
+        when(this.bugDailyRollupRepository.sumCountsByDaySince(BugCounterScope.ALL, GLOBAL_SCOPE_ID, day)).thenReturn(List.of(tuple));
+
+        assertEquals(List.of(new BugTrendPointDTO(day, 2L)), this.underTest.getCreationTrend(BugCounterScope.ALL, GLOBAL_SCOPE_ID, day));
+    }
+
+
+    @Test
+    public void testRemoveProject_Should_SubtractAllBugsOfProject()
+    {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("projectId", Long.class)).thenReturn(1L);
+        when(tuple.get("projectLeaderId", Long.class)).thenReturn(2L);
+        when(tuple.get("creatorId", Long.class)).thenReturn(3L);
+        when(tuple.get("status", BugStatus.class)).thenReturn(BugStatus.NEW);
+        when(tuple.get("bugCount", Long.class)).thenReturn(7L);
+        when(this.bugRepository.countBugCounterSnapshotsByProjectId(1L)).thenReturn(List.of(tuple));
+
+        this.underTest.removeProject(1L);
+
+        verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.ALL, GLOBAL_SCOPE_ID, BugStatus.NEW), -7);
+        verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.PROJECT, 1L, BugStatus.NEW), -7);
+        verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.CREATOR, 3L, BugStatus.NEW), -7);
+        verify(this.bugCounterRepository).addToCount(new BugCounterId(BugCounterScope.PROJECT_LEADER, 2L, BugStatus.NEW), -7);
+        verify(this.bugCounterRepository, times(4)).addToCount(any(), anyLong());
+        verify(this.bugDailyRollupRepository).deleteByProjectId(1L);
+    }
+
+
+    @Test
+    public void testReconcile_Should_ApplyDifferenceBetweenBaseTableAndCounters()
+    {
+        BugCounterId fixed = new BugCounterId(BugCounterScope.ALL, GLOBAL_SCOPE_ID, BugStatus.FIXED);
+        BugCounterId open = new BugCounterId(BugCounterScope.ALL, GLOBAL_SCOPE_ID, BugStatus.OPEN);
+        BugCounterId closed = new BugCounterId(BugCounterScope.ALL, GLOBAL_SCOPE_ID, BugStatus.CLOSED);
+
+        when(this.bugCounterRepository.countBugsByScope(any())).thenReturn(Map.of());
+        when(this.bugCounterRepository.countBugsByScope(BugCounterScope.ALL)).thenReturn(Map.of(fixed, 4L, open, 2L));
+        when(this.bugCounterRepository.findAllByIdScope(BugCounterScope.ALL))
+                .thenReturn(List.of(this.getCounter(fixed, 4L), this.getCounter(open, 3L), this.getCounter(closed, 1L)));
+
+        int result = this.underTest.reconcile();
+
+        assertEquals(2, result);
+        verify(this.bugCounterRepository).addToCount(open, -1);
+        verify(this.bugCounterRepository).addToCount(closed, -1);
+        verify(this.bugCounterRepository, never()).addToCount(eq(fixed), anyLong());
+    }
+
+
+    @Test
+    public void testReconcile_Should_ApplyDifferenceBetweenBaseTableAndDailyRollup()
+    {
+        LocalDate boundary = LocalDate.now().minusDays(ROLLUP_DAILY_RETENTION_DAYS);
+        BugDailyRollupId today = new BugDailyRollupId(LocalDate.now(), 1L, 3L, BugStatus.NEW);
+        BugDailyRollupId yesterday = new BugDailyRollupId(LocalDate.now().minusDays(1), 1L, 3L, BugStatus.NEW);
+        BugDailyRollupId missing = new BugDailyRollupId(LocalDate.now().minusDays(1), 1L, 3L, BugStatus.FIXED);
+
+        when(this.bugCounterRepository.countBugsByScope(any())).thenReturn(Map.of());
+        when(this.bugDailyRollupRepository.countBugsByDaySince(boundary)).thenReturn(Map.of(today, 2L, missing, 1L));
+        when(this.bugDailyRollupRepository.findAllByIdCreationDayGreaterThanEqual(boundary))
+                .thenReturn(List.of(this.getRollup(today, 2L), this.getRollup(yesterday, 1L)));
+
+        int result = this.underTest.reconcile();
+
+        assertEquals(2, result);
+        verify(this.bugDailyRollupRepository).addToCount(yesterday, -1);
+        verify(this.bugDailyRollupRepository).addToCount(missing, 1);
+        verify(this.bugDailyRollupRepository, never()).addToCount(eq(today), anyLong());
+    }
+
+
+    @Test
+    public void testCompactRollups_Should_FoldOldDaysIntoMonthRows()
+    {
+        LocalDate month = LocalDate.now().minusDays(ROLLUP_DAILY_RETENTION_DAYS).minusMonths(1).withDayOfMonth(1);
+        BugDailyRollupId firstDay = new BugDailyRollupId(month.plusDays(1), 1L, 3L, BugStatus.NEW);
+        BugDailyRollupId secondDay = new BugDailyRollupId(month.plusDays(2), 1L, 3L, BugStatus.NEW);
+        BugDailyRollupId otherStatus = new BugDailyRollupId(month.plusDays(2), 1L, 3L, BugStatus.FIXED);
+
+        when(this.bugDailyRollupRepository.findDailyRowsBefore(any()))
+                .thenReturn(List.of(this.getRollup(firstDay, 2L), this.getRollup(secondDay, 3L), this.getRollup(otherStatus, 1L)));
+        when(this.bugDailyRollupRepository.deleteEmptyRows()).thenReturn(1);
+
+        int result = this.underTest.compactRollups();
+
+        assertEquals(4, result);
+        InOrder inOrder = inOrder(this.bugDailyRollupRepository);
+        inOrder.verify(this.bugDailyRollupRepository).deleteDailyRowsBefore(LocalDate.now().minusDays(ROLLUP_DAILY_RETENTION_DAYS));
+        inOrder.verify(this.bugDailyRollupRepository).addToCount(new BugDailyRollupId(month, 1L, 3L, BugStatus.NEW), 5);
+        inOrder.verify(this.bugDailyRollupRepository).addToCount(new BugDailyRollupId(month, 1L, 3L, BugStatus.FIXED), 1);
+        inOrder.verify(this.bugDailyRollupRepository).deleteEmptyRows();
+    }
+
+
+    private BugCounter getCounter(BugCounterId id, long count)
+    {
+        BugCounter counter = new BugCounter();
+        counter.setId(id);
+        counter.setCount(count);
+
+        return counter;
+    }
+
+    private BugDailyRollup getRollup(BugDailyRollupId id, long count)
+    {
+        BugDailyRollup rollup = new BugDailyRollup();
+        rollup.setId(id);
+        rollup.setCount(count);
+
+        return rollup;
+    }
+}
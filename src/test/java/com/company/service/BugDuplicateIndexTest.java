@@ -0,0 +1,102 @@
+package com.company.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ContextConfiguration(classes = {BugDuplicateIndex.class})
+@ExtendWith(SpringExtension.class)
+public class BugDuplicateIndexTest
+{
+    @Autowired
+    private BugDuplicateIndex underTest;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.underTest.clear();
+
+        this.underTest.index(1L, 1L, "Application crashes on login", "Application crashes after clicking the login button");
+        this.underTest.index(2L, 1L, "Report export", "Exported reports are missing the project leader");
+        this.underTest.index(3L, 1L, "Slow dashboard", "Dashboard takes seconds to load");
+        this.underTest.index(4L, 2L, "Application crashes on login", "Application crashes after clicking the login button");
+    }
+
+
+    @Test
+    public void testShingles_Should_SplitTermsIntoCharacterShingles()
+    {
+        Set<String> shingles = BugDuplicateIndex.shingles("Crash", "in NPE");
+
+        assertEquals(Set.of("cra", "ras", "ash", "in", "npe"), shingles);
+    }
+
+
+    @Test
+    public void testSimilarity_Should_EstimateJaccardSimilarity()
+    {
+        int[] first = BugDuplicateIndex.signature(BugDuplicateIndex.shingles("login button crash", null));
+        int[] second = BugDuplicateIndex.signature(BugDuplicateIndex.shingles("login button crashes", null));
+        int[] third = BugDuplicateIndex.signature(BugDuplicateIndex.shingles("slow dashboard", null));
+
+        assertEquals(1.0, BugDuplicateIndex.similarity(first, first));
+        assertTrue(BugDuplicateIndex.similarity(first, second) > BugDuplicateIndex.SIMILARITY_THRESHOLD);
+        assertTrue(BugDuplicateIndex.similarity(first, third) < BugDuplicateIndex.SIMILARITY_THRESHOLD);
+    }
+
+
+    @Test
+    public void testFindPossibleDuplicates_Should_FindSlightlyDifferentReport_OfSameProject()
+    {
+        List<Long> result = this.underTest.findPossibleDuplicates(1L, null,
+                "App crash on login", "Application crashed after clicking login button", 5);
+
+        assertEquals(List.of(1L), result);
+    }
+
+
+    @Test
+    public void testFindPossibleDuplicates_Should_NotFindUnrelatedBugs()
+    {
+        assertTrue(this.underTest.findPossibleDuplicates(1L, null, "Wrong avatar", "Profile image is not shown", 5).isEmpty());
+        assertTrue(this.underTest.findPossibleDuplicates(3L, null, "Application crashes on login", null, 5).isEmpty());
+    }
+
+
+    @Test
+    public void testFindPossibleDuplicates_Should_SkipGivenBug()
+    {
+        List<Long> result = this.underTest.findPossibleDuplicates(1L, 1L,
+                "Application crashes on login", "Application crashes after clicking the login button", 5);
+
+        assertTrue(result.isEmpty());
+    }
+
+
+    @Test
+    public void testIndex_Should_ReplacePreviousVersionOfBug()
+    {
+        this.underTest.index(3L, 1L, "Application crashes on login", "Application crashes after clicking the login button");
+
+        List<Long> result = this.underTest.findPossibleDuplicates(1L, null, "Application crashes on login", null, 5);
+        assertEquals(List.of(3L, 1L), result);
+        assertTrue(this.underTest.findPossibleDuplicates(1L, null, "Slow dashboard", "Dashboard takes seconds to load", 5).isEmpty());
+    }
+
+
+    @Test
+    public void testRemove_Should_RemoveBugFromIndex()
+    {
+        this.underTest.remove(1L);
+
+        assertTrue(this.underTest.findPossibleDuplicates(1L, null, "Application crashes on login", null, 5).isEmpty());
+    }
+}
@@ -0,0 +1,142 @@
+package com.company.service;
+
+import com.company.builder.BugDTOBuilder;
+import com.company.builder.ProjectDTOBuilder;
+import com.company.builder.UserDTOBuilder;
+import com.company.dto.BugDTO;
+import com.company.dto.ProjectDTO;
+import com.company.dto.UserDTO;
+import com.company.enumeration.ExportFormat;
+import com.company.repository.BugRepository;
+import com.company.service.mapper.BugTupleDTOMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.Tuple;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static com.company.constant.ExportConstant.CSV_HEADER;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ContextConfiguration(classes = {BugExportServiceImpl.class, JacksonAutoConfiguration.class})
+@ExtendWith(SpringExtension.class)
+public class BugExportServiceTest
+{
+    @MockBean
+    private BugRepository bugRepository;
+
+    @MockBean
+    private BugTupleDTOMapper bugTupleDTOMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BugExportService underTest;
+
+    private final Long projectId = 1L;
+    private List<Tuple> tuples;
+    private AtomicBoolean streamClosed;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        UserDTO creator = new UserDTOBuilder()
+                .build();
+
+        ProjectDTO project = new ProjectDTOBuilder()
+                .withName("Project, \"quoted\"")
+                .withProjectLeader(creator)
+                .build();
+
+        this.tuples = new ArrayList<>();
+        for(long id = 1; id <= 3; id++)
+        {
+            BugDTO bugDTO = new BugDTOBuilder()
+                    .withId(id)
+                    .withName("BUG_" + id)
+                    .withDescription("First line\nsecond line")
+                    .withCreator(creator)
+                    .withProject(project)
+                    .build();
+
+            Tuple tuple = mock(Tuple.class);
+            when(this.bugTupleDTOMapper.apply(tuple)).thenReturn(bugDTO);
+            this.tuples.add(tuple);
+        }
+
+        this.streamClosed = new AtomicBoolean(false);
+    }
+
+
+    @Test
+    public void testExportBugsByProjectId_Should_WriteOneJsonObjectPerLine_When_FormatIsNdjson() throws IOException
+    {
+        when(this.bugRepository.streamBugDTOsByProjectId(this.projectId)).thenReturn(this.streamOf(this.tuples));
+
+        String[] lines = this.export(ExportFormat.NDJSON).split("\n");
+
+        assertEquals(this.tuples.size(), lines.length);
+        for(int i = 0; i < lines.length; i++)
+        {
+            JsonNode bug = this.objectMapper.readTree(lines[i]);
+            assertEquals(i + 1, bug.get("id").asLong());
+            assertEquals("First line\nsecond line", bug.get("description").asText());
+        }
+
+        assertTrue(this.streamClosed.get());
+    }
+
+
+    @Test
+    public void testExportBugsByProjectId_Should_WriteHeaderAndEscapedRows_When_FormatIsCsv() throws IOException
+    {
+        when(this.bugRepository.streamBugDTOsByProjectId(this.projectId)).thenReturn(this.streamOf(this.tuples.subList(0, 1)));
+
+        String result = this.export(ExportFormat.CSV);
+
+        assertTrue(result.startsWith(CSV_HEADER + "\n"));
+        assertTrue(result.contains("1,BUG_1,\"First line\nsecond line\","));
+        assertTrue(result.endsWith(",\"Project, \"\"quoted\"\"\"\n"));
+        assertTrue(this.streamClosed.get());
+    }
+
+
+    @Test
+    public void testExportBugsByProjectId_Should_WriteOnlyHeader_When_ProjectHasNoBugs() throws IOException
+    {
+        when(this.bugRepository.streamBugDTOsByProjectId(this.projectId)).thenReturn(this.streamOf(List.of()));
+
+        assertEquals(CSV_HEADER + "\n", this.export(ExportFormat.CSV));
+    }
+
+
+    private String export(ExportFormat format) throws IOException
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.underTest.exportBugsByProjectId(this.projectId, format, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private Stream<Tuple> streamOf(List<Tuple> tuples)
+    {
+        return tuples.stream().onClose(() -> this.streamClosed.set(true));
+    }
+}
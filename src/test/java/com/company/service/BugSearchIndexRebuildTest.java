@@ -0,0 +1,102 @@
+package com.company.service;
+
+import com.company.repository.BugRepository;
+import com.company.service.mapper.BugDTOMapper;
+import com.company.service.mapper.BugTupleDTOMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.Tuple;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ContextConfiguration(classes = {BugServiceImpl.class, BugSearchIndex.class, BugDuplicateIndex.class})
+@ExtendWith(SpringExtension.class)
+public class BugSearchIndexRebuildTest
+{
+    @MockBean
+    private ProjectService projectService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private BugRepository bugRepository;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @MockBean
+    private BugDTOMapper bugDTOMapper;
+
+    @MockBean
+    private BugTupleDTOMapper bugTupleDTOMapper;
+
+    @MockBean
+    private BugCounterService bugCounterService;
+
+    @Autowired
+    private BugSearchIndex bugSearchIndex;
+
+    @Autowired
+    private BugDuplicateIndex bugDuplicateIndex;
+
+    @Autowired
+    private BugService underTest;
+
+
+    @AfterEach
+    public void tearDown()
+    {
+        if(TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+
+    @Test
+    public void testRebuildSearchIndex_Should_CountIndexedBugs_When_RunningInsideTransaction()
+    {
+        List<Tuple> documents = List.of(
+                this.getSearchDocument(1L, "Login button", "Nothing happens after clicking the login button"),
+                this.getSearchDocument(2L, "Login page", "Login page does not load"),
+                this.getSearchDocument(3L, "Slow dashboard", "Dashboard takes seconds to load"));
+        when(this.bugRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(documents);
+
+        // -as in the read-only service transaction, where index() would only queue the bugs until commit
+        TransactionSynchronizationManager.initSynchronization();
+        int result = this.underTest.rebuildSearchIndex();
+
+        assertEquals(3, result);
+        assertEquals(3, this.bugSearchIndex.size());
+        assertEquals(List.of(2L, 1L), this.bugSearchIndex.search(1L, "login", 10));
+        assertEquals(List.of(1L), this.bugDuplicateIndex.findPossibleDuplicates(1L, 4L, "Login button",
+                "Nothing happens after clicking the login button", 10));
+        assertEquals(List.of(), TransactionSynchronizationManager.getSynchronizations());
+    }
+
+
+    private Tuple getSearchDocument(Long bugId, String name, String description)
+    {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("id", Long.class)).thenReturn(bugId);
+        when(tuple.get("projectId", Long.class)).thenReturn(1L);
+        when(tuple.get("name", String.class)).thenReturn(name);
+        when(tuple.get("description", String.class)).thenReturn(description);
+
+        return tuple;
+    }
+}
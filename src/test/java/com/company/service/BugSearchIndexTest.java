@@ -0,0 +1,103 @@
+package com.company.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ContextConfiguration(classes = {BugSearchIndex.class})
+@ExtendWith(SpringExtension.class)
+public class BugSearchIndexTest
+{
+    @Autowired
+    private BugSearchIndex underTest;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.underTest.clear();
+
+        this.underTest.index(1L, 1L, "Login button", "Nothing happens after clicking the login button");
+        this.underTest.index(2L, 1L, "Report export", "Export fails after login as project leader");
+        this.underTest.index(3L, 1L, "Slow dashboard", "Dashboard takes seconds to load");
+        this.underTest.index(4L, 2L, "Login page", "Login page of another project");
+    }
+
+
+    @Test
+    public void testTokenize_Should_LowerCase_And_SkipShortTerms()
+    {
+        List<String> terms = BugSearchIndex.tokenize("Login-Button, a NPE in v2!");
+
+        assertEquals(List.of("login", "button", "npe", "in", "v2"), terms);
+    }
+
+
+    @Test
+    public void testSearch_Should_RankNameMatches_AboveDescriptionMatches()
+    {
+        List<Long> result = this.underTest.search(1L, "login", 10);
+
+        assertEquals(List.of(1L, 2L), result);
+    }
+
+
+    @Test
+    public void testSearch_Should_OnlyReturnBugsOfGivenProject()
+    {
+        assertEquals(List.of(4L), this.underTest.search(2L, "login", 10));
+        assertTrue(this.underTest.search(3L, "login", 10).isEmpty());
+    }
+
+
+    @Test
+    public void testSearch_Should_MatchLastTermAsPrefix()
+    {
+        assertEquals(List.of(3L), this.underTest.search(1L, "dashb", 10));
+        assertTrue(this.underTest.search(1L, "dashb unknown", 10).isEmpty());
+    }
+
+
+    @Test
+    public void testSearch_Should_LimitResults()
+    {
+        assertEquals(List.of(1L), this.underTest.search(1L, "login", 1));
+    }
+
+
+    @Test
+    public void testIndex_Should_ReplacePreviousVersionOfBug()
+    {
+        this.underTest.index(3L, 1L, "Slow login", "Login takes seconds");
+
+        assertTrue(this.underTest.search(1L, "dashboard", 10).isEmpty());
+        assertEquals(3L, this.underTest.search(1L, "login", 10).get(0));
+        assertEquals(4, this.underTest.size());
+    }
+
+
+    @Test
+    public void testIndex_Should_MoveBugToNewProject()
+    {
+        this.underTest.index(3L, 2L, "Slow dashboard", "Dashboard takes seconds to load");
+
+        assertTrue(this.underTest.search(1L, "dashboard", 10).isEmpty());
+        assertEquals(List.of(3L), this.underTest.search(2L, "dashboard", 10));
+    }
+
+
+    @Test
+    public void testRemove_Should_RemoveBugFromIndex()
+    {
+        this.underTest.remove(1L);
+
+        assertEquals(List.of(2L), this.underTest.search(1L, "login", 10));
+        assertEquals(3, this.underTest.size());
+    }
+}
@@ -1,36 +1,59 @@
 package com.company.service;
 
 import com.company.builder.*;
+import com.company.domain.BugCounterSnapshot;
+import com.company.domain.BugCursor;
+import com.company.domain.BugFilter;
+import com.company.domain.CursorPage;
+import com.company.domain.NotificationRequest;
 import com.company.dto.BugDTO;
+import com.company.dto.BugReportDTO;
+import com.company.dto.BugStatisticsDTO;
+import com.company.dto.BugTrendPointDTO;
 import com.company.dto.ProjectDTO;
 import com.company.dto.UserDTO;
 import com.company.entity.Bug;
 import com.company.entity.Project;
 import com.company.entity.User;
+import com.company.enumeration.BugBulkOperation;
 import com.company.enumeration.BugClassification;
+import com.company.enumeration.BugCounterScope;
+import com.company.enumeration.BugScope;
 import com.company.enumeration.BugSeverity;
 import com.company.enumeration.BugStatus;
+import com.company.enumeration.PaginationMode;
 import com.company.enumeration.RoleEnum;
 import com.company.exception.*;
 import com.company.repository.BugRepository;
 import com.company.service.mapper.BugDTOMapper;
+import com.company.service.mapper.BugTupleDTOMapper;
 import com.company.builder.ProjectDTOBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.Tuple;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static com.company.constant.BugConstant.*;
+import static com.company.constant.BugCounterConstant.GLOBAL_SCOPE_ID;
+import static com.company.constant.ExceptionConstant.VERSION_CONFLICT;
+import static com.company.constant.PurgeConstant.PURGE_BUG_CHUNK_SIZE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -54,9 +77,24 @@ public class BugServiceTest
     @MockBean
     private BugDTOMapper bugDTOMapper;
 
+    @MockBean
+    private BugTupleDTOMapper bugTupleDTOMapper;
+
+    @MockBean
+    private BugSearchIndex bugSearchIndex;
+
+    @MockBean
+    private BugDuplicateIndex bugDuplicateIndex;
+
+    @MockBean
+    private BugCounterService bugCounterService;
+
     @Captor
     private ArgumentCaptor<Bug> bugCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<NotificationRequest>> notificationRequestsCaptor;
+
     @Autowired
     private BugService underTest;
 
@@ -155,7 +193,7 @@ public class BugServiceTest
                 (
                         ProjectDoesNotExistException.class,
                         () -> this.underTest.addOrUpdate(creatorId,
-                                null, projectId, null, newName, description, classification, status, severity)
+                                null, projectId, null, newName, description, classification, status, severity, null)
                 );
         assertEquals(PROJECT_DOES_NOT_EXIST, exception.getMessage());
     }
@@ -182,7 +220,7 @@ public class BugServiceTest
         Exception exception = assertThrows
                 (
                         BugDoesNotExistException.class,
-                        () -> this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity)
+                        () -> this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity, null)
                 );
         assertEquals(BUG_DOES_NOT_EXIST, exception.getMessage());
     }
@@ -208,7 +246,7 @@ public class BugServiceTest
         Exception exception = assertThrows
                 (
                         BugAlreadyExistException.class,
-                        () -> this.underTest.addOrUpdate(creatorId, null, projectId, null, newName, description, classification, status, severity)
+                        () -> this.underTest.addOrUpdate(creatorId, null, projectId, null, newName, description, classification, status, severity, null)
                 );
         assertEquals(BUG_ALREADY_EXISTS, exception.getMessage());
     }
@@ -241,7 +279,7 @@ public class BugServiceTest
         Exception exception = assertThrows
                 (
                         BugAlreadyExistException.class,
-                        () -> this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity)
+                        () -> this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity, null)
                 );
         assertEquals(BUG_ALREADY_EXISTS, exception.getMessage());
     }
@@ -267,7 +305,7 @@ public class BugServiceTest
         Exception exception = assertThrows
                 (
                         UserNotFoundException.class,
-                        () -> this.underTest.addOrUpdate(creatorId, null, projectId, null, newName, description, classification, status, severity)
+                        () -> this.underTest.addOrUpdate(creatorId, null, projectId, null, newName, description, classification, status, severity, null)
                 );
         assertEquals(COULD_NOT_FIND_THE_USER, exception.getMessage());
     }
@@ -290,7 +328,7 @@ public class BugServiceTest
 
         when(this.bugDTOMapper.apply(any(Bug.class))).thenReturn(this.bugDTO);
 
-        BugDTO result = this.underTest.addOrUpdate(creatorId, null, projectId, null, newName, description, classification, status, severity);
+        BugDTO result = this.underTest.addOrUpdate(creatorId, null, projectId, null, newName, description, classification, status, severity, null).bug();
 
         // Verify the result
         assertNotNull(result);
@@ -304,7 +342,7 @@ public class BugServiceTest
         assertEquals(creatorId, result.creator().id());
 
         // Verify that the bug was saved
-        verify(this.bugRepository).save(this.bugCaptor.capture());
+        verify(this.bugRepository).saveAndFlush(this.bugCaptor.capture());
         Bug savedBug = this.bugCaptor.getValue();
         assertEquals(newName, savedBug.getName());
         assertEquals(description, savedBug.getDescription());
@@ -313,12 +351,44 @@ public class BugServiceTest
         assertEquals(severity, savedBug.getSeverity());
         assertEquals(this.project, savedBug.getProject());
 
+        // Verify that the bug was added to the search indexes and to the counters
+        verify(this.bugSearchIndex).index(savedBug.getId(), this.project.getId(), newName, description);
+        verify(this.bugDuplicateIndex).index(savedBug.getId(), this.project.getId(), newName, description);
+        verify(this.bugCounterService).update(List.of(), List.of(BugCounterSnapshot.of(savedBug)));
+
         // Verify that the notification was sent
         verify(this.notificationService).sendNotificationFromTo(creatorId, this.projectLeader.getId(), NEW_ISSUE_IN_ONE_OF_YOUR_PROJECTS,
                 NEW_ISSUE + newName + HAS_BEEN_REPORTED_IN + this.project.getName() + BY + this.creator.getFullName());
     }
 
 
+    @Test
+    public void testAddOrUpdate_ForAdd_Should_ReturnPossibleDuplicates_In_SimilarityOrder() throws Exception
+    {
+        Long creatorId = 1L;
+        Long projectId = 3L;
+        String newName = "Crash on login";
+        String description = "The app crashes after logging in";
+        List<Long> duplicateIds = List.of(2L, 1L);
+
+        when(this.projectService.getProjectEntityById(projectId)).thenReturn(this.project);
+        when(this.userService.getUserEntityById(creatorId)).thenReturn(this.creator);
+        when(this.bugDTOMapper.apply(any(Bug.class))).thenReturn(this.bugDTO);
+        when(this.bugDuplicateIndex.findPossibleDuplicates(this.project.getId(), null, newName, description, POSSIBLE_DUPLICATES_LIMIT))
+                .thenReturn(duplicateIds);
+
+        List<Tuple> tuples = this.getTuples(duplicateIds.size());
+        when(this.bugRepository.findBugDTOsByIds(duplicateIds)).thenReturn(tuples);
+        when(this.bugTupleDTOMapper.apply(any(Tuple.class))).thenReturn(this.bugDTOList.get(0), this.bugDTOList.get(1));
+
+        BugReportDTO result = this.underTest.addOrUpdate(creatorId, null, projectId, null, newName, description,
+                BugClassification.FUNCTIONAL, BugStatus.NEW, BugSeverity.HIGH, null);
+
+        assertEquals(this.bugDTO, result.bug());
+        assertEquals(duplicateIds, result.possibleDuplicates().stream().map(BugDTO::id).toList());
+    }
+
+
 
     @Test
     public void testAddOrUpdate_ForAdd_And_CreatorIsProjectLeader_ShouldAddBug() throws Exception
@@ -341,7 +411,7 @@ public class BugServiceTest
 
         when(this.bugDTOMapper.apply(any(Bug.class))).thenReturn(bugDTO);
 
-        BugDTO result = this.underTest.addOrUpdate(creatorId, null, projectId, null, newName, description, classification, status, severity);
+        BugDTO result = this.underTest.addOrUpdate(creatorId, null, projectId, null, newName, description, classification, status, severity, null).bug();
 
         // Verify the result
         assertNotNull(result);
@@ -355,7 +425,7 @@ public class BugServiceTest
         assertEquals(creatorId, result.creator().id());
 
         // Verify that the bug was saved
-        verify(this.bugRepository).save(this.bugCaptor.capture());
+        verify(this.bugRepository).saveAndFlush(this.bugCaptor.capture());
         Bug savedBug = this.bugCaptor.getValue();
         assertEquals(newName, savedBug.getName());
         assertEquals(description, savedBug.getDescription());
@@ -397,7 +467,7 @@ public class BugServiceTest
         when(this.bugDTOMapper.apply(any(Bug.class))).thenReturn(editedBugDto);
 
         String currentBugName = this.bug.getName();
-        BugDTO result = this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity);
+        BugDTO result = this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity, null).bug();
 
         // Verify the result
         assertNotNull(result);
@@ -406,7 +476,7 @@ public class BugServiceTest
         assertEquals(editedBugDto, result);
 
         // Verify that the bug was saved
-        verify(this.bugRepository).save(this.bugCaptor.capture());
+        verify(this.bugRepository).saveAndFlush(this.bugCaptor.capture());
         Bug savedBug = this.bugCaptor.getValue();
         assertEquals(newName, savedBug.getName());
         assertEquals(description, savedBug.getDescription());
@@ -455,7 +525,7 @@ public class BugServiceTest
 
         when(this.bugDTOMapper.apply(any(Bug.class))).thenReturn(editedBugDto);
 
-        BugDTO result = this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity);
+        BugDTO result = this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity, null).bug();
 
         // Verify the result
         assertNotNull(result);
@@ -469,7 +539,7 @@ public class BugServiceTest
         assertEquals(this.projectLeader.getId(), result.creator().id());
 
         // Verify that the bug was saved
-        verify(this.bugRepository).save(this.bugCaptor.capture());
+        verify(this.bugRepository).saveAndFlush(this.bugCaptor.capture());
         Bug savedBug = this.bugCaptor.getValue();
         assertEquals(newName, savedBug.getName());
         assertEquals(description, savedBug.getDescription());
@@ -510,7 +580,7 @@ public class BugServiceTest
 
         when(this.bugDTOMapper.apply(any(Bug.class))).thenReturn(editedBugDto);
 
-        BugDTO result = this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity);
+        BugDTO result = this.underTest.addOrUpdate(null, editorId, projectId, currentBugId, newName, description, classification, status, severity, null).bug();
 
         // Verify the result
         assertNotNull(result);
@@ -524,7 +594,7 @@ public class BugServiceTest
         assertEquals(this.creator.getId(), result.creator().id());
 
         // Verify that the bug was saved
-        verify(this.bugRepository).save(this.bugCaptor.capture());
+        verify(this.bugRepository).saveAndFlush(this.bugCaptor.capture());
         Bug savedBug = this.bugCaptor.getValue();
         assertEquals(newName, savedBug.getName());
         assertEquals(description, savedBug.getDescription());
@@ -541,16 +611,17 @@ public class BugServiceTest
     {
         Long bugId = 1L;
 
-        when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
-        when(this.bugDTOMapper.apply(any(Bug.class))).thenReturn(this.bugDTO);
+        Tuple tuple = mock(Tuple.class);
+        when(this.bugRepository.findBugDTOById(bugId)).thenReturn(tuple);
+        when(this.bugTupleDTOMapper.apply(tuple)).thenReturn(this.bugDTO);
 
         BugDTO result = this.underTest.getBugById(bugId);
 
         assertNotNull(result);
         assertEquals(this.bugDTO, result);
 
-        Bug bugById = this.bugRepository.findBugById(bugId);
-        assertEquals(this.bug, bugById);
+        verify(this.bugRepository).findBugDTOById(bugId);
+        verify(this.bugRepository, never()).findBugById(bugId);
     }
 
 
@@ -564,19 +635,19 @@ public class BugServiceTest
         String sortOrder = "name";
         boolean ascending = true;
 
-        Page<Bug> entitiesPage = new PageImpl<>(this.entitiesList.subList(0, size));
+        Page<Tuple> tuplesPage = new PageImpl<>(this.getTuples(size));
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder).ascending());
 
-        when(this.bugRepository.getBugsByProject_Id(projectId, pageable)).thenReturn(entitiesPage);
-        when(this.bugDTOMapper.apply(any(Bug.class)))
+        when(this.bugRepository.findBugDTOsByProjectId(projectId, pageable)).thenReturn(tuplesPage);
+        when(this.bugTupleDTOMapper.apply(any(Tuple.class)))
                 .thenReturn(this.bugDTOList.get(0), this.bugDTOList.subList(1, size).toArray(new BugDTO[size]));
 
-        Page<BugDTO> result = this.underTest.getBugsByProjectId(projectId, page, size, sortOrder, ascending);
+        Slice<BugDTO> result = this.underTest.getBugsByProjectId(projectId, page, size, sortOrder, ascending, PaginationMode.PAGE);
 
         // Verify that the repository method was called with the correct parameters
-        verify(this.bugRepository).getBugsByProject_Id(projectId, pageable);
-        // Verify that the mapper was called for each entity in the page
-        verify(this.bugDTOMapper, times(size)).apply(any(Bug.class));
+        verify(this.bugRepository).findBugDTOsByProjectId(projectId, pageable);
+        // Verify that the mapper was called for each row in the page
+        verify(this.bugTupleDTOMapper, times(size)).apply(any(Tuple.class));
 
         assertEquals(size, result.getContent().size());
         for (int i = 0; i < size; i++)
@@ -609,6 +680,33 @@ public class BugServiceTest
     }
 
 
+    @Test
+    public void testGetBugsByProjectId_InSliceMode_Should_ReturnBugDTOSlice_WithoutCounting()
+    {
+        Long projectId = 1L;
+        int page = 1;
+        int size = 5;
+        String sortOrder = "name";
+        boolean ascending = true;
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder).ascending());
+        Slice<Tuple> tuplesSlice = new SliceImpl<>(this.getTuples(size), pageable, true);
+
+        when(this.bugRepository.findBugDTOSliceByProjectId(projectId, pageable)).thenReturn(tuplesSlice);
+        when(this.bugTupleDTOMapper.apply(any(Tuple.class)))
+                .thenReturn(this.bugDTOList.get(0), this.bugDTOList.subList(1, size).toArray(new BugDTO[size]));
+
+        Slice<BugDTO> result = this.underTest.getBugsByProjectId(projectId, page, size, sortOrder, ascending, PaginationMode.SLICE);
+
+        verify(this.bugRepository).findBugDTOSliceByProjectId(projectId, pageable);
+        verify(this.bugRepository, never()).findBugDTOsByProjectId(any(), any());
+
+        assertEquals(size, result.getContent().size());
+        assertTrue(result.hasNext());
+        assertFalse(result instanceof Page);
+    }
+
+
     @Test
     public void testGetBugsByCreatorId_Should_ReturnBugDTOPage()
     {
@@ -618,20 +716,20 @@ public class BugServiceTest
         String sortOrder = "name";
         boolean ascending = true;
 
-        Page<Bug> entitiesPage = new PageImpl<>(this.entitiesList.subList(0,size));
+        Page<Tuple> tuplesPage = new PageImpl<>(this.getTuples(size));
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder).ascending());
-        when(this.bugRepository.getBugsByCreatorId(creatorId, pageable)).thenReturn(entitiesPage);
+        when(this.bugRepository.findBugDTOsByCreatorId(creatorId, pageable)).thenReturn(tuplesPage);
 
-        when(this.bugDTOMapper.apply(any(Bug.class)))
+        when(this.bugTupleDTOMapper.apply(any(Tuple.class)))
                 .thenReturn(this.bugDTOList.get(0),this.bugDTOList.subList(1, size).toArray(new BugDTO[size]));
 
-        Page<BugDTO> result = this.underTest.getBugsByCreatorId(creatorId, page, size, sortOrder, ascending);
+        Slice<BugDTO> result = this.underTest.getBugsByCreatorId(creatorId, page, size, sortOrder, ascending, PaginationMode.PAGE);
 
         // Verify that the repository method was called with the correct parameters
-        verify(this.bugRepository).getBugsByCreatorId(creatorId, pageable);
+        verify(this.bugRepository).findBugDTOsByCreatorId(creatorId, pageable);
 
-        // Verify that the mapper was called for each entity in the page
-        verify(this.bugDTOMapper, times(size)).apply(any(Bug.class));
+        // Verify that the mapper was called for each row in the page
+        verify(this.bugTupleDTOMapper, times(size)).apply(any(Tuple.class));
 
         assertEquals(size, result.getContent().size());
         for (int i = 0; i < size; i++)
@@ -653,20 +751,20 @@ public class BugServiceTest
         String sortOrder = "name";
         boolean ascending = true;
 
-        Page<Bug> entitiesPage = new PageImpl<>(this.entitiesList.subList(0, size));
+        Page<Tuple> tuplesPage = new PageImpl<>(this.getTuples(size));
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder).ascending());
-        when(this.bugRepository.getBugsByAssigneeId(assigneeId, pageable)).thenReturn(entitiesPage);
+        when(this.bugRepository.findBugDTOsByAssigneeId(assigneeId, pageable)).thenReturn(tuplesPage);
 
-        when(this.bugDTOMapper.apply(any(Bug.class)))
+        when(this.bugTupleDTOMapper.apply(any(Tuple.class)))
                 .thenReturn(this.bugDTOList.get(0), this.bugDTOList.subList(1, size).toArray(new BugDTO[size]));
 
-        Page<BugDTO> result = this.underTest.getBugsByAssigneeId(assigneeId, page, size, sortOrder, ascending);
+        Slice<BugDTO> result = this.underTest.getBugsByAssigneeId(assigneeId, page, size, sortOrder, ascending, PaginationMode.PAGE);
 
         // Verify that the repository method was called with the correct parameters
-        verify(this.bugRepository).getBugsByAssigneeId(assigneeId, pageable);
+        verify(this.bugRepository).findBugDTOsByAssigneeId(assigneeId, pageable);
 
-        // Verify that the mapper was called for each entity in the page
-        verify(this.bugDTOMapper, times(size)).apply(any(Bug.class));
+        // Verify that the mapper was called for each row in the page
+        verify(this.bugTupleDTOMapper, times(size)).apply(any(Tuple.class));
 
         assertEquals(size, result.getContent().size());
         for (int i = 0; i < size; i++)
@@ -687,20 +785,20 @@ public class BugServiceTest
         String sortOrder = "name";
         boolean ascending = true;
 
-        Page<Bug> entitiesPage = new PageImpl<>(this.entitiesList.subList(0, size));
+        Page<Tuple> tuplesPage = new PageImpl<>(this.getTuples(size));
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder).ascending());
-        when(this.bugRepository.getBugsByProjectProjectLeaderId(projectLeaderId, pageable)).thenReturn(entitiesPage);
+        when(this.bugRepository.findBugDTOsByProjectLeaderId(projectLeaderId, pageable)).thenReturn(tuplesPage);
 
-        when(this.bugDTOMapper.apply(any(Bug.class)))
+        when(this.bugTupleDTOMapper.apply(any(Tuple.class)))
                 .thenReturn(this.bugDTOList.get(0), this.bugDTOList.subList(1, size).toArray(new BugDTO[size]));
 
-        Page<BugDTO> result = this.underTest.getBugsByProjectLeaderId(projectLeaderId, page, size, sortOrder, ascending);
+        Slice<BugDTO> result = this.underTest.getBugsByProjectLeaderId(projectLeaderId, page, size, sortOrder, ascending, PaginationMode.PAGE);
 
         // Verify that the repository method was called with the correct parameters
-        verify(this.bugRepository).getBugsByProjectProjectLeaderId(projectLeaderId, pageable);
+        verify(this.bugRepository).findBugDTOsByProjectLeaderId(projectLeaderId, pageable);
 
-        // Verify that the mapper was called for each entity in the page
-        verify(this.bugDTOMapper, times(size)).apply(any(Bug.class));
+        // Verify that the mapper was called for each row in the page
+        verify(this.bugTupleDTOMapper, times(size)).apply(any(Tuple.class));
 
         assertEquals(size, result.getContent().size());
         for (int i = 0; i < size; i++)
@@ -712,6 +810,452 @@ public class BugServiceTest
     }
 
 
+    @Test
+    public void testGetBugsByScopeAfterCursor_Should_ReturnCursorPage_With_NextCursor()
+    {
+        Long projectId = 1L;
+        int size = 5;
+        String sortOrder = "name";
+        boolean ascending = true;
+
+        when(this.bugRepository.findBugsByScopeAfter(BugScope.PROJECT, projectId, null, sortOrder, ascending, size + 1))
+                .thenReturn(new ArrayList<>(this.entitiesList.subList(0, size + 1)));
+        when(this.bugDTOMapper.apply(any(Bug.class)))
+                .thenReturn(this.bugDTOList.get(0), this.bugDTOList.subList(1, size).toArray(new BugDTO[0]));
+
+        CursorPage<BugDTO> result = this.underTest.getBugsByScopeAfterCursor(BugScope.PROJECT, projectId, null, size, sortOrder, ascending);
+
+        verify(this.bugDTOMapper, times(size)).apply(any(Bug.class));
+
+        assertEquals(size, result.content().size());
+        assertTrue(result.hasNext());
+        assertNotNull(result.nextCursor());
+
+        BugCursor nextCursor = BugCursor.decode(result.nextCursor(), sortOrder, ascending);
+        Bug lastBug = this.entitiesList.get(size - 1);
+        assertEquals(lastBug.getId(), nextCursor.id());
+        assertEquals(lastBug.getName(), nextCursor.sortValue());
+    }
+
+
+    @Test
+    public void testGetBugsByScopeAfterCursor_Should_PassDecodedCursor_And_ReturnLastPage()
+    {
+        Long creatorId = 1L;
+        int size = 5;
+        String sortOrder = "creationDate";
+        boolean ascending = false;
+
+        Bug lastSeen = this.entitiesList.get(4);
+        String cursor = BugCursor.of(lastSeen, sortOrder, ascending).encode();
+        BugCursor expectedCursor = new BugCursor(sortOrder, ascending, lastSeen.getCreationDate(), lastSeen.getId());
+
+        when(this.bugRepository.findBugsByScopeAfter(BugScope.CREATOR, creatorId, expectedCursor, sortOrder, ascending, size + 1))
+                .thenReturn(new ArrayList<>(this.entitiesList.subList(5, 8)));
+        when(this.bugDTOMapper.apply(any(Bug.class))).thenReturn(this.bugDTO);
+
+        CursorPage<BugDTO> result = this.underTest.getBugsByScopeAfterCursor(BugScope.CREATOR, creatorId, cursor, size, sortOrder, ascending);
+
+        assertEquals(3, result.content().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+
+    @Test
+    public void testGetBugsByScopeAfterCursor_Should_ThrowException_When_CursorDoesNotMatchSortOrder()
+    {
+        String cursor = BugCursor.of(this.bug, "name", true).encode();
+
+        assertThrows
+                (
+                        IllegalArgumentException.class,
+                        () -> this.underTest.getBugsByScopeAfterCursor(BugScope.PROJECT, 1L, cursor, 5, "severity", true)
+                );
+        verifyNoInteractions(this.bugRepository);
+    }
+
+
+    @Test
+    public void testGetBugsByScopeAfterCursor_Should_ThrowException_When_SortOrderIsNotSupported()
+    {
+        assertThrows
+                (
+                        IllegalArgumentException.class,
+                        () -> this.underTest.getBugsByScopeAfterCursor(BugScope.PROJECT, 1L, null, 5, "description", true)
+                );
+        verifyNoInteractions(this.bugRepository);
+    }
+
+
+    @Test
+    public void testGetBugsByFilter_Should_ReturnBugDTOPage()
+    {
+        BugFilter filter = new BugFilter(Set.of(BugStatus.NEW, BugStatus.ASSIGNED), null, null,
+                1L, null, null, LocalDateTime.now().minusDays(7), null);
+        int page = 0;
+        int size = 5;
+        String sortOrder = "creationDate";
+        boolean ascending = false;
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder).descending());
+        Page<Bug> bugsPage = new PageImpl<>(this.entitiesList.subList(0, size), pageable, this.entitiesList.size());
+
+        when(this.bugRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(bugsPage);
+        when(this.bugDTOMapper.apply(any(Bug.class)))
+                .thenReturn(this.bugDTOList.get(0), this.bugDTOList.subList(1, size).toArray(new BugDTO[0]));
+
+        Slice<BugDTO> result = this.underTest.getBugsByFilter(filter, page, size, sortOrder, ascending, PaginationMode.PAGE);
+
+        verify(this.bugRepository, never()).findBugSlice(any(), any());
+
+        assertEquals(size, result.getContent().size());
+        assertEquals(this.entitiesList.size(), ((Page<BugDTO>) result).getTotalElements());
+        for(int i = 0; i < size; i++)
+        {
+            assertEquals(this.bugDTOList.get(i), result.getContent().get(i));
+        }
+    }
+
+
+    @Test
+    public void testGetBugsByFilter_InSliceMode_Should_ReturnBugDTOSlice_WithoutCounting()
+    {
+        BugFilter filter = new BugFilter(null, Set.of(BugSeverity.HIGH), null,
+                null, null, 2L, null, null);
+        int page = 1;
+        int size = 5;
+        String sortOrder = "severity";
+        boolean ascending = true;
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder).ascending());
+        Slice<Bug> bugsSlice = new SliceImpl<>(this.entitiesList.subList(0, size), pageable, false);
+
+        when(this.bugRepository.findBugSlice(any(), eq(pageable))).thenReturn(bugsSlice);
+        when(this.bugDTOMapper.apply(any(Bug.class))).thenReturn(this.bugDTO);
+
+        Slice<BugDTO> result = this.underTest.getBugsByFilter(filter, page, size, sortOrder, ascending, PaginationMode.SLICE);
+
+        verify(this.bugRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+
+        assertEquals(size, result.getContent().size());
+        assertFalse(result.hasNext());
+        assertFalse(result instanceof Page);
+    }
+
+
+    @Test
+    public void testGetBugsByFilter_Should_ThrowException_When_DateRangeIsEmpty()
+    {
+        LocalDateTime date = LocalDateTime.now();
+        BugFilter filter = new BugFilter(null, null, null, null, null, null, date, date);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> this.underTest.getBugsByFilter(filter, 0, 5, "id", true, PaginationMode.PAGE));
+
+        assertEquals(INVALID_DATE_RANGE, exception.getMessage());
+        verifyNoInteractions(this.bugRepository);
+    }
+
+
+    @Test
+    public void testGetBugsByFilter_Should_ThrowException_When_SortOrderIsNotSupported()
+    {
+        BugFilter filter = new BugFilter(null, null, null, 1L, null, null, null, null);
+
+        assertThrows
+                (
+                        IllegalArgumentException.class,
+                        () -> this.underTest.getBugsByFilter(filter, 0, 5, "description", true, PaginationMode.PAGE)
+                );
+        verifyNoInteractions(this.bugRepository);
+    }
+
+
+    @Test
+    public void testSearchBugs_Should_ReturnBugDTOs_In_RankingOrder()
+    {
+        Long projectId = 1L;
+        String query = "login";
+        int size = 3;
+        List<Long> rankedIds = List.of(3L, 1L, 2L);
+
+        List<Tuple> tuples = this.getTuples(size);
+        when(this.bugSearchIndex.search(projectId, query, size)).thenReturn(rankedIds);
+        when(this.bugRepository.findBugDTOsByIds(rankedIds)).thenReturn(tuples);
+        when(this.bugTupleDTOMapper.apply(any(Tuple.class)))
+                .thenReturn(this.bugDTOList.get(0), this.bugDTOList.get(1), this.bugDTOList.get(2));
+
+        List<BugDTO> result = this.underTest.searchBugs(projectId, query, size);
+
+        assertEquals(size, result.size());
+        for (int i = 0; i < size; i++)
+        {
+            assertEquals(rankedIds.get(i), result.get(i).id());
+        }
+    }
+
+
+    @Test
+    public void testSearchBugs_Should_NotQueryRepository_When_NothingMatches()
+    {
+        Long projectId = 1L;
+        String query = "unknown";
+
+        when(this.bugSearchIndex.search(projectId, query, 10)).thenReturn(List.of());
+
+        List<BugDTO> result = this.underTest.searchBugs(projectId, query, 10);
+
+        assertTrue(result.isEmpty());
+        verify(this.bugRepository, never()).findBugDTOsByIds(any());
+    }
+
+
+    @Test
+    public void testSearchBugs_Should_ThrowException_When_SizeIsNotPositive()
+    {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> this.underTest.searchBugs(1L, "login", 0));
+
+        assertEquals(INVALID_PAGE_SIZE, exception.getMessage());
+        verifyNoInteractions(this.bugSearchIndex);
+    }
+
+
+    @Test
+    public void testRebuildSearchIndex_Should_IndexAllBugs_InBatches()
+    {
+        List<Tuple> firstBatch = new ArrayList<>();
+        for (int i = 1; i <= SEARCH_INDEX_REBUILD_BATCH_SIZE; i++)
+        {
+            firstBatch.add(this.getSearchDocument((long) i));
+        }
+        List<Tuple> secondBatch = List.of(this.getSearchDocument(SEARCH_INDEX_REBUILD_BATCH_SIZE + 1L));
+
+        when(this.bugRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class))).thenReturn(firstBatch);
+        when(this.bugRepository.findSearchDocumentsAfter(eq((long) SEARCH_INDEX_REBUILD_BATCH_SIZE), any(Pageable.class))).thenReturn(secondBatch);
+        when(this.bugSearchIndex.size()).thenReturn(SEARCH_INDEX_REBUILD_BATCH_SIZE + 1);
+
+        int result = this.underTest.rebuildSearchIndex();
+
+        assertEquals(SEARCH_INDEX_REBUILD_BATCH_SIZE + 1, result);
+        verify(this.bugSearchIndex).clear();
+        verify(this.bugSearchIndex, times(SEARCH_INDEX_REBUILD_BATCH_SIZE + 1)).indexNow(anyLong(), eq(1L), anyString(), anyString());
+        verify(this.bugDuplicateIndex).clear();
+        verify(this.bugDuplicateIndex, times(SEARCH_INDEX_REBUILD_BATCH_SIZE + 1)).indexNow(anyLong(), eq(1L), anyString(), anyString());
+        verify(this.bugRepository, times(2)).findSearchDocumentsAfter(anyLong(), any(Pageable.class));
+    }
+
+
+    @Test
+    public void testPurgeDeletedBugs_Should_Return0_When_NothingWasDeleted()
+    {
+        when(this.bugRepository.findDeletedBugs(PURGE_BUG_CHUNK_SIZE)).thenReturn(List.of());
+        when(this.bugRepository.findBugsOfDeletedProjects(PURGE_BUG_CHUNK_SIZE)).thenReturn(List.of());
+
+        int result = this.underTest.purgeDeletedBugs();
+
+        assertEquals(0, result);
+        verify(this.bugRepository, never()).purgeBugsByIdIn(anyCollection());
+        verifyNoInteractions(this.bugSearchIndex);
+    }
+
+
+    @Test
+    public void testPurgeDeletedBugs_Should_PurgeDeletedBugs_And_BugsOfDeletedProjects()
+    {
+        Bug deletedBug = new BugBuilder().withId(1L).build();
+        Bug bugOfDeletedProject = new BugBuilder().withId(2L).build();
+
+        when(this.bugRepository.findDeletedBugs(PURGE_BUG_CHUNK_SIZE)).thenReturn(List.of(deletedBug));
+        when(this.bugRepository.findBugsOfDeletedProjects(PURGE_BUG_CHUNK_SIZE - 1)).thenReturn(List.of(bugOfDeletedProject));
+        when(this.bugRepository.purgeBugsByIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        int result = this.underTest.purgeDeletedBugs();
+
+        assertEquals(2, result);
+        verify(this.bugSearchIndex).remove(1L);
+        verify(this.bugSearchIndex).remove(2L);
+    }
+
+
+    @Test
+    public void testPurgeDeletedBugs_Should_OnlyPurgeDeletedBugs_When_ChunkIsFull()
+    {
+        List<Bug> deletedBugs = new ArrayList<>();
+        for (long i = 1; i <= PURGE_BUG_CHUNK_SIZE; i++)
+        {
+            deletedBugs.add(new BugBuilder().withId(i).build());
+        }
+
+        when(this.bugRepository.findDeletedBugs(PURGE_BUG_CHUNK_SIZE)).thenReturn(deletedBugs);
+        when(this.bugRepository.purgeBugsByIdIn(anyCollection())).thenReturn(PURGE_BUG_CHUNK_SIZE);
+
+        int result = this.underTest.purgeDeletedBugs();
+
+        assertEquals(PURGE_BUG_CHUNK_SIZE, result);
+        verify(this.bugRepository, never()).findBugsOfDeletedProjects(anyInt());
+        verify(this.bugSearchIndex, times(PURGE_BUG_CHUNK_SIZE)).remove(anyLong());
+    }
+
+
+    @Test
+    public void testApplyBulkOperation_Should_ThrowException_When_NoBugsSelected()
+    {
+        EmptyListException exception = assertThrows(EmptyListException.class,
+                () -> this.underTest.applyBulkOperation(List.of(), BugBulkOperation.SET_STATUS, BugStatus.OPEN, null));
+
+        assertEquals(NO_BUGS_SELECTED, exception.getMessage());
+        verifyNoInteractions(this.bugRepository);
+    }
+
+
+    @Test
+    public void testApplyBulkOperation_Should_ThrowException_When_TooManyBugsSelected()
+    {
+        List<Long> bugIds = LongStream.rangeClosed(1, MAXIMUM_BULK_OPERATION_SIZE + 1).boxed().toList();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> this.underTest.applyBulkOperation(bugIds, BugBulkOperation.SET_STATUS, BugStatus.OPEN, null));
+
+        assertEquals(TOO_MANY_BUGS_SELECTED, exception.getMessage());
+        verifyNoInteractions(this.bugRepository);
+    }
+
+
+    @Test
+    public void testApplyBulkOperation_SetStatus_Should_ThrowException_When_NoStatusSelected()
+    {
+        when(this.bugRepository.findBugsByIdIn(Set.of(1L))).thenReturn(this.entitiesList.subList(0, 1));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> this.underTest.applyBulkOperation(List.of(1L), BugBulkOperation.SET_STATUS, null, null));
+
+        assertEquals(NO_STATUS_SELECTED, exception.getMessage());
+        verify(this.bugRepository, never()).saveAll(any());
+    }
+
+
+    @Test
+    public void testApplyBulkOperation_Should_ThrowException_When_BugDoesNotExist()
+    {
+        List<Long> bugIds = List.of(1L, 2L, 3L);
+
+        when(this.bugRepository.findBugsByIdIn(Set.of(1L, 2L, 3L))).thenReturn(this.entitiesList.subList(0, 2));
+
+        BugDoesNotExistException exception = assertThrows(BugDoesNotExistException.class,
+                () -> this.underTest.applyBulkOperation(bugIds, BugBulkOperation.SET_STATUS, BugStatus.OPEN, null));
+
+        assertEquals(BUG_DOES_NOT_EXIST, exception.getMessage());
+        verify(this.bugRepository, never()).saveAll(any());
+    }
+
+
+    @Test
+    public void testApplyBulkOperation_SetStatus_Should_UpdateBugs_With_OneQuery() throws BugDoesNotExistException, UserNotFoundException
+    {
+        List<Bug> bugs = this.entitiesList.subList(0, 4);
+        bugs.get(0).setStatus(BugStatus.ASSIGNED);
+        bugs.get(1).setStatus(BugStatus.RETEST);
+        bugs.get(2).setStatus(BugStatus.OPEN);
+        bugs.get(3).setStatus(BugStatus.NEW);
+        List<Long> bugIds = List.of(1L, 2L, 3L, 4L, 1L);
+
+        when(this.bugRepository.findBugsByIdIn(Set.of(1L, 2L, 3L, 4L))).thenReturn(bugs);
+
+        int result = this.underTest.applyBulkOperation(bugIds, BugBulkOperation.SET_STATUS, BugStatus.OPEN, null);
+
+        assertEquals(2, result);
+        bugs.subList(0, 3).forEach(bug -> assertEquals(BugStatus.OPEN, bug.getStatus()));
+        assertEquals(BugStatus.NEW, bugs.get(3).getStatus());
+
+        verify(this.bugRepository).findBugsByIdIn(Set.of(1L, 2L, 3L, 4L));
+        verify(this.bugRepository, never()).findBugById(any());
+        verify(this.bugRepository).saveAll(bugs);
+        verify(this.notificationService).sendNotifications(List.of());
+    }
+
+
+    @Test
+    public void testApplyBulkOperation_SetAssignee_Should_AssignBugs_And_SendOneNotificationPerReceiver() throws BugDoesNotExistException, UserNotFoundException
+    {
+        User previousAssignee = new UserBuilder()
+                .withId(4L)
+                .build();
+
+        Bug newBug = new BugBuilder().withId(1L).withName("BUG_1").withCreator(this.creator).withProject(this.project).build();
+        Bug reassignedBug = new BugBuilder().withId(2L).withName("BUG_2").withCreator(this.creator).withProject(this.project)
+                .withStatus(BugStatus.OPEN).withAssignee(previousAssignee).build();
+        Bug alreadyAssignedBug = new BugBuilder().withId(3L).withName("BUG_3").withCreator(this.creator).withProject(this.project)
+                .withStatus(BugStatus.ASSIGNED).withAssignee(this.assignee).build();
+        List<Bug> bugs = List.of(newBug, reassignedBug, alreadyAssignedBug);
+
+        when(this.bugRepository.findBugsByIdIn(Set.of(1L, 2L, 3L))).thenReturn(bugs);
+        when(this.userService.getUserEntityById(this.assignee.getId())).thenReturn(this.assignee);
+
+        int result = this.underTest.applyBulkOperation(List.of(1L, 2L, 3L), BugBulkOperation.SET_ASSIGNEE, null, this.assignee.getId());
+
+        assertEquals(2, result);
+        assertEquals(this.assignee, newBug.getAssignee());
+        assertEquals(BugStatus.ASSIGNED, newBug.getStatus());
+        assertEquals(this.assignee, reassignedBug.getAssignee());
+        assertEquals(BugStatus.OPEN, reassignedBug.getStatus());
+
+        Long projectId = this.project.getId();
+        Long creatorId = this.creator.getId();
+        Long projectLeaderId = this.projectLeader.getId();
+        LocalDate creationDay = newBug.getCreationDate().toLocalDate();
+        verify(this.bugCounterService).update(
+                List.of(new BugCounterSnapshot(projectId, projectLeaderId, creatorId, null, BugStatus.NEW, creationDay),
+                        new BugCounterSnapshot(projectId, projectLeaderId, creatorId, previousAssignee.getId(), BugStatus.OPEN, creationDay),
+                        new BugCounterSnapshot(projectId, projectLeaderId, creatorId, this.assignee.getId(), BugStatus.ASSIGNED, creationDay)),
+                bugs.stream().map(BugCounterSnapshot::of).toList());
+
+        verify(this.notificationService).sendNotifications(this.notificationRequestsCaptor.capture());
+        List<NotificationRequest> requests = this.notificationRequestsCaptor.getValue();
+        assertEquals(2, requests.size());
+
+        assertEquals(new NotificationRequest(projectLeaderId, this.assignee.getId(), NEW_ASSIGNMENT,
+                YOU_VE_BEEN_ASSIGNED_TO + "BUG_1, BUG_2" + PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION), requests.get(0));
+        assertEquals(new NotificationRequest(projectLeaderId, previousAssignee.getId(), ASSIGNMENT_CANCELLED,
+                YOUR_ASSIGNMENT_TO + "BUG_2" + HAS_BEEN_CANCELLED + PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION), requests.get(1));
+    }
+
+
+    @Test
+    public void testApplyBulkOperation_Unassign_Should_UnassignWorkers_And_ShortenLongNotifications() throws BugDoesNotExistException, UserNotFoundException
+    {
+        List<Bug> bugs = new ArrayList<>();
+        Set<Long> bugIds = new LinkedHashSet<>();
+        for (long i = 1; i <= 40; i++)
+        {
+            bugs.add(new BugBuilder().withId(i).withName("LONG_BUG_NAME_" + i).withCreator(this.creator).withProject(this.project)
+                    .withStatus(BugStatus.ASSIGNED).withAssignee(this.assignee).build());
+            bugIds.add(i);
+        }
+
+        when(this.bugRepository.findBugsByIdIn(bugIds)).thenReturn(bugs);
+
+        int result = this.underTest.applyBulkOperation(new ArrayList<>(bugIds), BugBulkOperation.UNASSIGN, null, null);
+
+        assertEquals(40, result);
+        bugs.forEach(bug ->
+        {
+            assertNull(bug.getAssignee());
+            assertEquals(BugStatus.NEW, bug.getStatus());
+        });
+
+        verify(this.notificationService).sendNotifications(this.notificationRequestsCaptor.capture());
+        List<NotificationRequest> requests = this.notificationRequestsCaptor.getValue();
+        assertEquals(1, requests.size());
+
+        String description = requests.get(0).description();
+        assertTrue(description.length() <= MAXIMUM_NOTIFICATION_DESCRIPTION_LENGTH);
+        assertTrue(description.startsWith(YOUR_ASSIGNMENT_TO + "LONG_BUG_NAME_1, "));
+        assertTrue(description.endsWith(MORE + HAS_BEEN_CANCELLED + PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION));
+    }
+
+
     @Test
     public void testDeleteBug_Should_ThrowException_When_BugDoesNotExist()
     {
@@ -754,7 +1298,6 @@ public class BugServiceTest
         this.bug.setAssignee(this.assignee);
 
         when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
-        doNothing().when(this.bugRepository).delete(this.bug);
 
         BugDTO bugDTO = new BugDTOBuilder()
                 .withStatus(BugStatus.ASSIGNED)
@@ -763,12 +1306,15 @@ public class BugServiceTest
 
         BugDTO result = this.underTest.deleteBug(bugId, deleterId);
 
-        verify(this.notificationService).sendNotificationFromTo(this.projectLeader.getId(), this.assignee.getId(), ISSUE_DELETED,
+        verify(this.notificationService).sendNotifications(this.notificationRequestsCaptor.capture());
+        assertTrue(this.notificationRequestsCaptor.getValue().contains(new NotificationRequest(this.projectLeader.getId(), this.assignee.getId(), ISSUE_DELETED,
                 BUG + this.bug.getName() + HAS_BEEN_DELETED_FROM_PROJECT + this.project.getName() +
-                        YOU_VE_BEEN_UNASSIGNED_AUTOMATICALLY);
+                        YOU_VE_BEEN_UNASSIGNED_AUTOMATICALLY)));
 
         verify(this.bugRepository).findBugById(bugId);
-        verify(this.bugRepository).delete(this.bug);
+        verify(this.bugRepository, never()).delete(this.bug);
+        assertTrue(this.bug.isDeleted());
+        verify(this.bugSearchIndex).remove(this.bug.getId());
 
         assertEquals(bugDTO, result);
     }
@@ -782,8 +1328,6 @@ public class BugServiceTest
 
         when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
 
-        doNothing().when(this.bugRepository).delete(this.bug);
-
         BugDTO bugDTO = new BugDTOBuilder()
                 .withStatus(BugStatus.ASSIGNED)
                 .build();
@@ -792,13 +1336,15 @@ public class BugServiceTest
 
         BugDTO result = this.underTest.deleteBug(bugId, deleterId);
 
-        verify(this.notificationService).sendNotificationFromTo(creator.getId(), this.projectLeader.getId(),
+        verify(this.notificationService).sendNotifications(List.of(new NotificationRequest(creator.getId(), this.projectLeader.getId(),
                 ISSUE_DELETED,
                 BUG + this.bug.getName() + HAS_BEEN_DELETED_FROM_PROJECT + this.project.getName() +
-                        PLEASE_CONTACT + creator.getFullName() + FOR_MORE_INFORMATION);
+                        PLEASE_CONTACT + creator.getFullName() + FOR_MORE_INFORMATION)));
 
         verify(this.bugRepository).findBugById(bugId);
-        verify(this.bugRepository).delete(this.bug);
+        verify(this.bugRepository, never()).delete(this.bug);
+        assertTrue(this.bug.isDeleted());
+        verify(this.bugCounterService).update(List.of(BugCounterSnapshot.of(this.bug)), List.of());
 
         assertEquals(bugDTO, result);
     }
@@ -819,8 +1365,6 @@ public class BugServiceTest
 
         when(this.bugRepository.findBugById(bugId)).thenReturn(bugToDelete);
 
-        doNothing().when(this.bugRepository).delete(bugToDelete);
-
         BugDTO bugDTO = new BugDTOBuilder()
                 .withStatus(BugStatus.ASSIGNED)
                 .build();
@@ -829,17 +1373,19 @@ public class BugServiceTest
 
         BugDTO result = this.underTest.deleteBug(bugId, deleterId);
 
-        verify(this.notificationService).sendNotificationFromTo(projectLeader.getId(), this.assignee.getId(), ISSUE_DELETED,
-                BUG + bugToDelete.getName() + HAS_BEEN_DELETED_FROM_PROJECT + this.project.getName() +
-                        YOU_VE_BEEN_UNASSIGNED_AUTOMATICALLY);
-
-        verify(notificationService).sendNotificationFromTo(this.projectLeader.getId(), this.creator.getId(),
-                ISSUE_DELETED,
-                BUG + bugToDelete.getName() + HAS_BEEN_DELETED_FROM_PROJECT + this.project.getName() +
-                        PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION);
+        verify(this.notificationService).sendNotifications(List.of(
+                new NotificationRequest(projectLeader.getId(), this.assignee.getId(), ISSUE_DELETED,
+                        BUG + bugToDelete.getName() + HAS_BEEN_DELETED_FROM_PROJECT + this.project.getName() +
+                                YOU_VE_BEEN_UNASSIGNED_AUTOMATICALLY),
+                new NotificationRequest(this.projectLeader.getId(), this.creator.getId(),
+                        ISSUE_DELETED,
+                        BUG + bugToDelete.getName() + HAS_BEEN_DELETED_FROM_PROJECT + this.project.getName() +
+                                PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION)));
+        verify(this.notificationService, never()).sendNotificationFromTo(any(), any(), any(), any());
 
         verify(this.bugRepository).findBugById(bugId);
-        verify(this.bugRepository).delete(bugToDelete);
+        verify(this.bugRepository, never()).delete(bugToDelete);
+        assertTrue(bugToDelete.isDeleted());
 
         assertEquals(bugDTO, result);
     }
@@ -854,7 +1400,7 @@ public class BugServiceTest
         when(this.userService.getUserEntityById(assigneeId)).thenReturn(null);
         when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
 
-        Exception exception = assertThrows(UserNotFoundException.class, () -> this.underTest.setAssignee(bugId, assigneeId));
+        Exception exception = assertThrows(UserNotFoundException.class, () -> this.underTest.setAssignee(bugId, assigneeId, null));
         assertEquals(COULD_NOT_FIND_THE_USER, exception.getMessage());
     }
 
@@ -868,11 +1414,29 @@ public class BugServiceTest
         when(this.userService.getUserEntityById(assigneeId)).thenReturn(this.assignee);
         when(this.bugRepository.findBugById(bugId)).thenReturn(null);
 
-        Exception exception = assertThrows(BugDoesNotExistException.class, () -> this.underTest.setAssignee(bugId, assigneeId));
+        Exception exception = assertThrows(BugDoesNotExistException.class, () -> this.underTest.setAssignee(bugId, assigneeId, null));
         assertEquals(BUG_DOES_NOT_EXIST, exception.getMessage());
     }
 
 
+    @Test
+    public void testSetAssignee_Should_ThrowException_When_VersionDoesNotMatch()
+    {
+        Long bugId = 1L;
+        Long assigneeId = 3L;
+        Long staleVersion = this.bug.getVersion() + 1;
+
+        when(this.userService.getUserEntityById(assigneeId)).thenReturn(this.assignee);
+        when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
+
+        Exception exception = assertThrows(VersionConflictException.class, () -> this.underTest.setAssignee(bugId, assigneeId, staleVersion));
+        assertEquals(VERSION_CONFLICT, exception.getMessage());
+
+        verify(this.bugRepository, never()).save(any(Bug.class));
+        verifyNoInteractions(this.notificationService);
+    }
+
+
     @Test
     public void testSetAssignee_Should_ThrowException_When_UserAlreadyAssigned()
     {
@@ -884,7 +1448,7 @@ public class BugServiceTest
         when(this.userService.getUserEntityById(assigneeId)).thenReturn(this.assignee);
         when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
 
-        Exception exception = assertThrows(UserAlreadyAssignedException.class, () -> this.underTest.setAssignee(bugId, assigneeId));
+        Exception exception = assertThrows(UserAlreadyAssignedException.class, () -> this.underTest.setAssignee(bugId, assigneeId, null));
         assertEquals(USER_ALREADY_ASSIGNED, exception.getMessage());
     }
 
@@ -901,7 +1465,7 @@ public class BugServiceTest
         when(this.userService.getUserEntityById(assigneeId)).thenReturn(this.assignee);
         when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
 
-        this.underTest.setAssignee(bugId, assigneeId);
+        this.underTest.setAssignee(bugId, assigneeId, null);
 
         verify(this.bugRepository).save(this.bugCaptor.capture());
         Bug savedBug = this.bugCaptor.getValue();
@@ -911,6 +1475,10 @@ public class BugServiceTest
                 YOU_VE_BEEN_ASSIGNED_TO + this.bug.getName() + PLEASE_CONTACT_YOUR_PROJECT_LEADER_FOR_MORE_INFORMATION);
 
         assertEquals(BugStatus.ASSIGNED, this.bug.getStatus());
+
+        BugCounterSnapshot current = BugCounterSnapshot.of(this.bug);
+        BugCounterSnapshot previous = new BugCounterSnapshot(current.projectId(), current.projectLeaderId(), current.creatorId(), null, BugStatus.NEW, current.creationDay());
+        verify(this.bugCounterService).update(List.of(previous), List.of(current));
     }
 
 
@@ -928,7 +1496,7 @@ public class BugServiceTest
         when(this.userService.getUserEntityById(assigneeId)).thenReturn(newAssignee);
         when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
 
-        this.underTest.setAssignee(bugId, assigneeId);
+        this.underTest.setAssignee(bugId, assigneeId, null);
 
         verify(this.bugRepository).save(this.bugCaptor.capture());
         Bug savedBug = this.bugCaptor.getValue();
@@ -957,7 +1525,7 @@ public class BugServiceTest
         when(this.userService.getUserEntityById(assigneeId)).thenReturn(newAssignee);
         when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
 
-        this.underTest.setAssignee(bugId, assigneeId);
+        this.underTest.setAssignee(bugId, assigneeId, null);
 
         verify(this.bugRepository).save(this.bugCaptor.capture());
         Bug savedBug = this.bugCaptor.getValue();
@@ -1054,29 +1622,93 @@ public class BugServiceTest
         Long bugId = 1L;
         BugStatus status = BugStatus.FIXED;
 
-        when(this.bugRepository.findBugById(bugId)).thenReturn(null);
+        when(this.bugRepository.findCounterSnapshotById(bugId)).thenReturn(null);
 
         Exception exception = assertThrows
-                (BugDoesNotExistException.class, () -> this.underTest.setStatus(bugId, status));
+                (BugDoesNotExistException.class, () -> this.underTest.setStatus(bugId, status, null));
         assertEquals(BUG_DOES_NOT_EXIST, exception.getMessage());
     }
 
 
     @Test
-    public void testSetStatus_Should_SetStatus() throws BugDoesNotExistException
+    public void testSetStatus_Should_SetStatus_From_LockedCounterKeys() throws BugDoesNotExistException, InvalidStatusTransitionException
     {
         Long bugId = 1L;
         BugStatus status = BugStatus.FIXED;
 
-        when(this.bugRepository.findBugById(bugId)).thenReturn(this.bug);
+        Tuple current = this.getCounterSnapshot(BugStatus.OPEN);
+        when(this.bugRepository.findCounterSnapshotById(bugId)).thenReturn(current);
 
-        this.underTest.setStatus(bugId, status);
+        this.underTest.setStatus(bugId, status, 3L);
 
-        verify(this.bugRepository).save(this.bugCaptor.capture());
-        Bug savedBug = this.bugCaptor.getValue();
-        assertEquals(status, savedBug.getStatus());
+        InOrder inOrder = inOrder(this.bugRepository, this.bugCounterService);
+        inOrder.verify(this.bugRepository).findCounterSnapshotById(bugId);
+        inOrder.verify(this.bugRepository).updateStatus(bugId, status);
+        BugCounterSnapshot previous = new BugCounterSnapshot(1L, 2L, 3L, 4L, BugStatus.OPEN, LocalDate.of(2022, 11, 5));
+        inOrder.verify(this.bugCounterService).update(List.of(previous), List.of(previous.withStatus(status)));
+        verifyNoMoreInteractions(this.bugRepository);
+    }
+
+
+    @Test
+    public void testSetStatus_Should_NotCheckVersion_When_NoIfMatch() throws BugDoesNotExistException, InvalidStatusTransitionException
+    {
+        Long bugId = 1L;
+        BugStatus status = BugStatus.FIXED;
+
+        Tuple current = this.getCounterSnapshot(BugStatus.OPEN);
+        when(this.bugRepository.findCounterSnapshotById(bugId)).thenReturn(current);
+
+        this.underTest.setStatus(bugId, status, null);
+
+        verify(this.bugRepository).updateStatus(bugId, status);
+        verify(this.bugCounterService).update(anyList(), anyList());
+    }
+
+
+    @Test
+    public void testSetStatus_Should_ThrowException_When_TransitionIsNotAllowed()
+    {
+        Long bugId = 1L;
+        BugStatus status = BugStatus.CLOSED;
+
+        Tuple current = this.getCounterSnapshot(BugStatus.OPEN);
+        when(this.bugRepository.findCounterSnapshotById(bugId)).thenReturn(current);
+
+        Exception exception = assertThrows
+                (InvalidStatusTransitionException.class, () -> this.underTest.setStatus(bugId, status, null));
+        assertEquals(STATUS_CANNOT_BE_CHANGED_FROM + BugStatus.OPEN.getName() + TO + status.getName(), exception.getMessage());
+    }
+
+
+    @Test
+    public void testSetStatus_Should_ThrowException_Without_Update_When_StatusIsNew()
+    {
+        Long bugId = 1L;
+
+        Tuple current = this.getCounterSnapshot(BugStatus.ASSIGNED);
+        when(this.bugRepository.findCounterSnapshotById(bugId)).thenReturn(current);
+
+        assertThrows(InvalidStatusTransitionException.class, () -> this.underTest.setStatus(bugId, BugStatus.NEW, null));
+        verify(this.bugRepository, never()).updateStatus(any(), any());
+        verifyNoInteractions(this.bugCounterService);
+    }
+
+
+    @Test
+    public void testSetStatus_Should_ThrowException_When_VersionDoesNotMatch()
+    {
+        Long bugId = 1L;
+        BugStatus status = BugStatus.FIXED;
+
+        Tuple current = this.getCounterSnapshot(BugStatus.OPEN);
+        when(this.bugRepository.findCounterSnapshotById(bugId)).thenReturn(current);
 
-        assertEquals(status, this.bug.getStatus());
+        Exception exception = assertThrows
+                (VersionConflictException.class, () -> this.underTest.setStatus(bugId, status, 2L));
+        assertEquals(VERSION_CONFLICT, exception.getMessage());
+        verify(this.bugRepository, never()).updateStatus(any(), any());
+        verifyNoInteractions(this.bugCounterService);
     }
 
 
@@ -1085,7 +1717,7 @@ public class BugServiceTest
     {
         long creatorId = 1L;
 
-        when(this.bugRepository.countBugsByCreatorId(creatorId)).thenReturn(5L);
+        when(this.bugCounterService.getCount(BugCounterScope.CREATOR, creatorId)).thenReturn(5L);
 
         Long countByCreator = this.underTest.getCountByCreatorId(creatorId);
         assertEquals(5L, countByCreator);
@@ -1097,7 +1729,7 @@ public class BugServiceTest
     {
         LocalDateTime date = LocalDateTime.now().minusDays(30);
 
-        when(this.bugRepository.countBugsByCreationDateAfter(date)).thenReturn(5L);
+        when(this.bugCounterService.getCountCreatedAfter(BugCounterScope.ALL, GLOBAL_SCOPE_ID, date)).thenReturn(5L);
 
         Long countByCreationDate = this.underTest.getCountByCreationDateAfter(date);
         assertEquals(5L, countByCreationDate);
@@ -1109,7 +1741,7 @@ public class BugServiceTest
     {
         BugStatus status = BugStatus.FIXED;
 
-        when(this.bugRepository.countBugByStatus(status)).thenReturn(5L);
+        when(this.bugCounterService.getCount(BugCounterScope.ALL, GLOBAL_SCOPE_ID, status)).thenReturn(5L);
 
         Long countByStatus = this.underTest.getCountByStatus(status);
         assertEquals(5L, countByStatus);
@@ -1122,7 +1754,7 @@ public class BugServiceTest
         Long creatorId = 1L;
         LocalDateTime date = LocalDateTime.now().minusDays(30);
 
-        when(this.bugRepository.countBugsByCreatorIdAndCreationDateAfter(creatorId, date)).thenReturn(5L);
+        when(this.bugCounterService.getCountCreatedAfter(BugCounterScope.CREATOR, creatorId, date)).thenReturn(5L);
 
         Long countByCreatorAndDate = this.underTest.getCountByCreatorIdAndByCreationDateAfter(creatorId, date);
         assertEquals(5L, countByCreatorAndDate);
@@ -1135,7 +1767,7 @@ public class BugServiceTest
         Long assigneeId = 3L;
         BugStatus status = BugStatus.FIXED;
 
-        when(this.bugRepository.countBugByAssigneeIdAndStatus(assigneeId, status)).thenReturn(5L);
+        when(this.bugCounterService.getCount(BugCounterScope.ASSIGNEE, assigneeId, status)).thenReturn(5L);
 
         Long countByAssigneeAndStatus = this.underTest.getCountByAssigneeIdAndByStatus(assigneeId, status);
         assertEquals(5L, countByAssigneeAndStatus);
@@ -1145,7 +1777,7 @@ public class BugServiceTest
     @Test
     public void testGetCount_ShouldGetCount()
     {
-        when(this.bugRepository.count()).thenReturn(5L);
+        when(this.bugCounterService.getCount(BugCounterScope.ALL, GLOBAL_SCOPE_ID)).thenReturn(5L);
 
         Long count = this.underTest.getCount();
         assertEquals(5L, count);
@@ -1157,7 +1789,7 @@ public class BugServiceTest
     {
         Long projectLeaderId = 2L;
 
-        when(this.bugRepository.countBugsByProjectProjectLeaderId(projectLeaderId)).thenReturn(5L);
+        when(this.bugCounterService.getCount(BugCounterScope.PROJECT_LEADER, projectLeaderId)).thenReturn(5L);
 
         Long countByProjectLeader = this.underTest.getCountByProjectLeaderId(projectLeaderId);
         assertEquals(5L, countByProjectLeader);
@@ -1170,7 +1802,7 @@ public class BugServiceTest
         Long projectLeaderId = 2L;
         LocalDateTime date = LocalDateTime.now().minusDays(30);
 
-        when(this.bugRepository.countBugsByProjectProjectLeaderIdAndCreationDateAfter(projectLeaderId, date)).thenReturn(5L);
+        when(this.bugCounterService.getCountCreatedAfter(BugCounterScope.PROJECT_LEADER, projectLeaderId, date)).thenReturn(5L);
 
         Long countByProjectLeaderAndCreationDate = this.underTest.getCountByProjectLeaderIdAndCreationDateAfter(projectLeaderId, date);
         assertEquals(5L, countByProjectLeaderAndCreationDate);
@@ -1183,9 +1815,105 @@ public class BugServiceTest
         Long projectLeaderId = 2L;
         BugStatus status = BugStatus.FIXED;
 
-        when(this.bugRepository.countBugsByProjectProjectLeaderIdAndStatus(projectLeaderId, status)).thenReturn(5L);
+        when(this.bugCounterService.getCount(BugCounterScope.PROJECT_LEADER, projectLeaderId, status)).thenReturn(5L);
 
         Long countByProjectLeaderAndStatus = this.underTest.getCountByProjectLeaderIdAndStatus(projectLeaderId, status);
         assertEquals(5L, countByProjectLeaderAndStatus);
     }
+
+
+    @Test
+    public void testGetStatistics_Should_Return_StatusHistogram_And_CreatedCount_From_OneQuery()
+    {
+        Long creatorId = 1L;
+        Tuple fixed = this.getStatusCount(BugStatus.FIXED, 6L, 1L);
+        Tuple open = this.getStatusCount(BugStatus.OPEN, 4L, 2L);
+
+        when(this.bugRepository.countBugsByStatusInScope(eq(BugCounterScope.CREATOR), eq(creatorId), any(LocalDateTime.class)))
+                .thenReturn(List.of(fixed, open));
+
+        BugStatisticsDTO result = this.underTest.getStatistics(BugCounterScope.CREATOR, creatorId, 7);
+
+        assertEquals(10L, result.total());
+        assertEquals(3L, result.createdInLastDays());
+        assertEquals(7, result.days());
+        assertEquals(BugStatus.values().length, result.countsByStatus().size());
+        assertEquals(6L, result.countsByStatus().get(BugStatus.FIXED.name()));
+        assertEquals(4L, result.countsByStatus().get(BugStatus.OPEN.name()));
+        assertEquals(0L, result.countsByStatus().get(BugStatus.NEW.name()));
+        verify(this.bugRepository, times(1)).countBugsByStatusInScope(any(), any(), any());
+    }
+
+
+    @Test
+    public void testGetStatistics_Should_ThrowException_When_DaysAreNegative()
+    {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> this.underTest.getStatistics(BugCounterScope.ALL, null, -1));
+
+        assertEquals(INVALID_NUMBER_OF_DAYS, exception.getMessage());
+        verifyNoInteractions(this.bugRepository);
+    }
+
+
+    @Test
+    public void testGetCreationTrend_Should_ReadTrendFromRollup()
+    {
+        Long projectLeaderId = 2L;
+        List<BugTrendPointDTO> trend = List.of(new BugTrendPointDTO(LocalDate.now().minusDays(1), 3L),
+                new BugTrendPointDTO(LocalDate.now(), 1L));
+
+        when(this.bugCounterService.getCreationTrend(BugCounterScope.PROJECT_LEADER, projectLeaderId, LocalDate.now().minusDays(7)))
+                .thenReturn(trend);
+
+        assertEquals(trend, this.underTest.getCreationTrend(BugCounterScope.PROJECT_LEADER, projectLeaderId, 7));
+        verifyNoInteractions(this.bugRepository);
+    }
+
+
+    private List<Tuple> getTuples(int size)
+    {
+        List<Tuple> tuples = new ArrayList<>();
+        for (int i = 0; i < size; i++)
+        {
+            tuples.add(mock(Tuple.class));
+        }
+
+        return tuples;
+    }
+
+    private Tuple getSearchDocument(Long bugId)
+    {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("id", Long.class)).thenReturn(bugId);
+        when(tuple.get("projectId", Long.class)).thenReturn(1L);
+        when(tuple.get("name", String.class)).thenReturn("BUG_" + bugId);
+        when(tuple.get("description", String.class)).thenReturn("BUG_DESCRIPTION_" + bugId);
+
+        return tuple;
+    }
+
+    private Tuple getStatusCount(BugStatus status, Long total, Long created)
+    {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("status", BugStatus.class)).thenReturn(status);
+        when(tuple.get("total", Long.class)).thenReturn(total);
+        when(tuple.get("created", Long.class)).thenReturn(created);
+
+        return tuple;
+    }
+
+    private Tuple getCounterSnapshot(BugStatus status)
+    {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("projectId", Long.class)).thenReturn(1L);
+        when(tuple.get("projectLeaderId", Long.class)).thenReturn(2L);
+        when(tuple.get("creatorId", Long.class)).thenReturn(3L);
+        when(tuple.get("assigneeId", Long.class)).thenReturn(4L);
+        when(tuple.get("status", BugStatus.class)).thenReturn(status);
+        when(tuple.get("creationDate", LocalDateTime.class)).thenReturn(LocalDateTime.of(2022, 11, 5, 14, 30));
+        when(tuple.get("version", Long.class)).thenReturn(3L);
+
+        return tuple;
+    }
 }
@@ -0,0 +1,78 @@
+package com.company.service;
+
+import com.company.dto.CacheRegionStatisticsDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ContextConfiguration(classes = {CacheStatisticsServiceImpl.class})
+@ExtendWith(SpringExtension.class)
+public class CacheStatisticsServiceTest
+{
+    @MockBean
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheStatisticsService underTest;
+
+    private Statistics statistics;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        this.statistics = mock(Statistics.class);
+
+        when(this.entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(this.statistics);
+    }
+
+
+    @Test
+    public void testGetRegionStatistics_Should_ReturnHitRatio_PerRegion_And_ForQueryCache()
+    {
+        CacheRegionStatistics userRegion = this.getRegionStatistics(9, 1, 1);
+        CacheRegionStatistics roleRegion = this.getRegionStatistics(0, 0, 0);
+
+        when(this.statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"com.company.entity.User", "com.company.entity.Role"});
+        when(this.statistics.getCacheRegionStatistics("com.company.entity.User")).thenReturn(userRegion);
+        when(this.statistics.getCacheRegionStatistics("com.company.entity.Role")).thenReturn(roleRegion);
+        when(this.statistics.getQueryCacheHitCount()).thenReturn(3L);
+        when(this.statistics.getQueryCacheMissCount()).thenReturn(1L);
+        when(this.statistics.getQueryCachePutCount()).thenReturn(1L);
+
+        List<CacheRegionStatisticsDTO> result = this.underTest.getRegionStatistics();
+
+        assertEquals(List.of(
+                new CacheRegionStatisticsDTO("com.company.entity.Role", 0, 0, 0, 0),
+                new CacheRegionStatisticsDTO("com.company.entity.User", 9, 1, 1, 0.9),
+                new CacheRegionStatisticsDTO(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, 3, 1, 1, 0.75)),
+                result);
+    }
+
+
+    private CacheRegionStatistics getRegionStatistics(long hitCount, long missCount, long putCount)
+    {
+        CacheRegionStatistics regionStatistics = mock(CacheRegionStatistics.class);
+        when(regionStatistics.getHitCount()).thenReturn(hitCount);
+        when(regionStatistics.getMissCount()).thenReturn(missCount);
+        when(regionStatistics.getPutCount()).thenReturn(putCount);
+        return regionStatistics;
+    }
+}
@@ -0,0 +1,110 @@
+package com.company.service;
+
+import com.company.builder.UserDTOBuilder;
+import com.company.dto.NotificationDTO;
+import com.company.dto.UserDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.company.constant.WebSocketConstant.NOTIFICATIONS_QUEUE;
+import static com.company.constant.WebSocketConstant.UNSEEN_COUNT_QUEUE;
+import static org.mockito.Mockito.*;
+
+@ContextConfiguration(classes = {NotificationPublisher.class})
+@ExtendWith(SpringExtension.class)
+public class NotificationPublisherTest
+{
+    @MockBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    @MockBean
+    private UnseenNotificationCounter unseenNotificationCounter;
+
+    @Autowired
+    private NotificationPublisher underTest;
+
+    private UserDTO sender;
+    private UserDTO receiver;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.sender = new UserDTOBuilder()
+                .withId(1L)
+                .withEmail("sender@mail.com")
+                .build();
+
+        this.receiver = new UserDTOBuilder()
+                .withId(2L)
+                .withEmail("receiver@mail.com")
+                .build();
+    }
+
+
+    @Test
+    public void testPublish_Should_SendNotifications_And_UnseenCountOncePerReceiver()
+    {
+        NotificationDTO first = this.getNotification(1L);
+        NotificationDTO second = this.getNotification(2L);
+
+        when(this.unseenNotificationCounter.get(this.receiver.id())).thenReturn(2);
+
+        this.underTest.publish(List.of(first, second));
+
+        verify(this.messagingTemplate).convertAndSendToUser(this.receiver.email(), NOTIFICATIONS_QUEUE, first);
+        verify(this.messagingTemplate).convertAndSendToUser(this.receiver.email(), NOTIFICATIONS_QUEUE, second);
+        verify(this.unseenNotificationCounter).get(this.receiver.id());
+        verify(this.messagingTemplate).convertAndSendToUser(this.receiver.email(), UNSEEN_COUNT_QUEUE, 2);
+    }
+
+
+    @Test
+    public void testPublish_Should_WaitForCommit_When_TransactionIsActive()
+    {
+        NotificationDTO notification = this.getNotification(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try
+        {
+            this.underTest.publish(List.of(notification));
+            verifyNoInteractions(this.messagingTemplate, this.unseenNotificationCounter);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(this.messagingTemplate).convertAndSendToUser(this.receiver.email(), NOTIFICATIONS_QUEUE, notification);
+        verify(this.messagingTemplate).convertAndSendToUser(this.receiver.email(), UNSEEN_COUNT_QUEUE, 0);
+    }
+
+
+    @Test
+    public void testPublishUnseenCount_Should_SendCurrentUnseenCount()
+    {
+        when(this.unseenNotificationCounter.get(this.receiver.id())).thenReturn(5);
+
+        this.underTest.publishUnseenCount(this.receiver.id(), this.receiver.email());
+
+        verify(this.messagingTemplate).convertAndSendToUser(this.receiver.email(), UNSEEN_COUNT_QUEUE, 5);
+        verifyNoMoreInteractions(this.messagingTemplate);
+    }
+
+
+    private NotificationDTO getNotification(Long id)
+    {
+        return new NotificationDTO(id, "TITLE_" + id, "DESCRIPTION_" + id, LocalDateTime.now(), false, this.sender, this.receiver);
+    }
+}
@@ -1,12 +1,14 @@
 package com.company.service;
 
 import com.company.builder.*;
+import com.company.domain.NotificationOutboxEntry;
+import com.company.domain.NotificationRequest;
 import com.company.dto.NotificationDTO;
 import com.company.dto.UserDTO;
 import com.company.entity.Notification;
 import com.company.entity.User;
+import com.company.enumeration.PaginationMode;
 import com.company.exception.NotificationNotFoundException;
-import com.company.exception.UserNotFoundException;
 import com.company.repository.NotificationRepository;
 import com.company.service.mapper.NotificationDTOMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,11 +22,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static com.company.constant.NotificationConstant.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,12 +47,21 @@ public class NotificationServiceTest
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private NotificationPublisher notificationPublisher;
+
+    @MockBean
+    private UnseenNotificationCounter unseenNotificationCounter;
+
     @MockBean
     private NotificationDTOMapper notificationDTOMapper;
 
     @Captor
     private ArgumentCaptor<Notification> notificationCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<Notification>> notificationsCaptor;
+
     @Autowired
     private NotificationService underTest;
 
@@ -109,59 +124,132 @@ public class NotificationServiceTest
 
 
     @Test
-    public void testSendNotificationFromTo_Should_ThrowException_When_SenderNotFound()
+    public void testSendNotificationFromTo_Should_OnlyWriteOutboxEntry()
     {
-        Long senderId = 5L;
+        Long senderId = 1L;
         Long receiverId = 2L;
         String title = "TITLE_1";
         String description = "DESCRIPTION_1";
 
-        when(this.userService.getUserEntityById(senderId)).thenReturn(null);
-        when(this.userService.getUserEntityById(receiverId)).thenReturn(this.receiver);
+        this.underTest.sendNotificationFromTo(senderId, receiverId, title, description);
 
-        Exception exception = assertThrows
-                (UserNotFoundException.class, () -> this.underTest.sendNotificationFromTo(senderId, receiverId, title, description));
-        assertEquals(NOTIFICATION_CANNOT_BE_SENT + SENDER_NOT_FOUND, exception.getMessage());
+        verify(this.notificationRepository).insertOutboxEntries(List.of(new NotificationRequest(senderId, receiverId, title, description)));
+        verify(this.notificationRepository, never()).save(any());
+        verifyNoInteractions(this.userService, this.notificationPublisher);
     }
 
 
+
     @Test
-    public void testSendNotificationFromTo_Should_ThrowException_When_ReceiverNotFound()
+    public void testSendNotifications_Should_OnlyWriteOutboxEntries()
     {
-        Long senderId = 1L;
-        Long receiverId = 5L;
-        String title = "TITLE_1";
-        String description = "DESCRIPTION_1";
+        List<NotificationRequest> requests = List.of(
+                new NotificationRequest(1L, 2L, "TITLE_1", "DESCRIPTION_1"),
+                new NotificationRequest(1L, 3L, "TITLE_2", "DESCRIPTION_2"));
 
-        when(this.userService.getUserEntityById(senderId)).thenReturn(this.sender);
-        when(this.userService.getUserEntityById(receiverId)).thenReturn(null);
+        this.underTest.sendNotifications(requests);
 
-        Exception exception = assertThrows
-                (UserNotFoundException.class, () -> this.underTest.sendNotificationFromTo(senderId, receiverId, title, description));
-        assertEquals(NOTIFICATION_CANNOT_BE_SENT + RECEIVER_NOT_FOUND, exception.getMessage());
+        verify(this.notificationRepository).insertOutboxEntries(requests);
+        verify(this.notificationRepository, never()).saveAll(any());
+        verifyNoInteractions(this.userService, this.notificationPublisher);
     }
 
 
+    @Test
+    public void testSendNotificationToAll_Should_WriteOneOutboxEntryPerReceiver_InOneCall()
+    {
+        this.underTest.sendNotificationToAll(1L, List.of(2L, 3L, 4L), "TITLE_1", "DESCRIPTION_1");
+
+        verify(this.notificationRepository).insertOutboxEntries(List.of(
+                new NotificationRequest(1L, 2L, "TITLE_1", "DESCRIPTION_1"),
+                new NotificationRequest(1L, 3L, "TITLE_1", "DESCRIPTION_1"),
+                new NotificationRequest(1L, 4L, "TITLE_1", "DESCRIPTION_1")));
+        verifyNoInteractions(this.userService, this.notificationPublisher);
+    }
+
 
     @Test
-    public void testSendNotificationFromTo_Should_SendNotification() throws UserNotFoundException
+    public void testSendNotifications_Should_DoNothing_When_NoRequests()
     {
-        Long senderId = 1L;
-        Long receiverId = 2L;
-        String title = "TITLE_1";
-        String description = "DESCRIPTION_1";
+        this.underTest.sendNotifications(List.of());
+
+        verifyNoInteractions(this.notificationRepository);
+    }
 
-        when(this.userService.getUserEntityById(senderId)).thenReturn(this.sender);
-        when(this.userService.getUserEntityById(receiverId)).thenReturn(this.receiver);
 
-        this.underTest.sendNotificationFromTo(senderId, receiverId, title, description);
 
-        verify(this.notificationRepository).save(this.notificationCaptor.capture());
-        Notification savedNotification = this.notificationCaptor.getValue();
-        assertEquals(senderId, savedNotification.getSender().getId());
-        assertEquals(receiverId, savedNotification.getReceiver().getId());
-        assertEquals(title, savedNotification.getTitle());
-        assertEquals(description, savedNotification.getDescription());
+    @Test
+    public void testDispatchOutbox_Should_LoadUsersOnce_SaveNotifications_And_DeleteEntries()
+    {
+        User secondReceiver = new UserBuilder()
+                .withId(3L)
+                .build();
+
+        LocalDateTime createdDate = LocalDateTime.now().minusMinutes(5);
+        List<NotificationOutboxEntry> entries = List.of(
+                new NotificationOutboxEntry(10L, new NotificationRequest(1L, 2L, "TITLE_1", "DESCRIPTION_1"), createdDate),
+                new NotificationOutboxEntry(11L, new NotificationRequest(1L, 3L, "TITLE_2", "DESCRIPTION_2"), createdDate));
+
+        when(this.notificationRepository.lockOutboxEntries(OUTBOX_DISPATCH_BATCH_SIZE)).thenReturn(entries);
+        when(this.userService.getUserEntitiesByIds(anyCollection())).thenReturn(List.of(this.sender, this.receiver, secondReceiver));
+
+        int dispatched = this.underTest.dispatchOutbox();
+
+        assertEquals(2, dispatched);
+        verify(this.userService).getUserEntitiesByIds(Set.of(1L, 2L, 3L));
+        verify(this.userService, never()).getUserEntityById(any());
+        verify(this.notificationRepository).saveAll(this.notificationsCaptor.capture());
+
+        List<Notification> savedNotifications = this.notificationsCaptor.getValue();
+        assertEquals(2, savedNotifications.size());
+        assertEquals(this.receiver, savedNotifications.get(0).getReceiver());
+        assertEquals("DESCRIPTION_1", savedNotifications.get(0).getDescription());
+        assertEquals(createdDate, savedNotifications.get(0).getSendDate());
+        assertFalse(savedNotifications.get(0).isSeen());
+        assertEquals(secondReceiver, savedNotifications.get(1).getReceiver());
+        assertEquals("TITLE_2", savedNotifications.get(1).getTitle());
+
+        verify(this.notificationRepository).deleteOutboxEntries(List.of(10L, 11L));
+        verify(this.unseenNotificationCounter).add(2L, 1);
+        verify(this.unseenNotificationCounter).add(3L, 1);
+        verify(this.notificationDTOMapper, times(2)).apply(any(Notification.class));
+        verify(this.notificationPublisher).publish(anyList());
+    }
+
+
+
+    @Test
+    public void testDispatchOutbox_Should_DropEntry_When_ReceiverNotFound()
+    {
+        List<NotificationOutboxEntry> entries = List.of(
+                new NotificationOutboxEntry(10L, new NotificationRequest(1L, 5L, "TITLE_1", "DESCRIPTION_1"), LocalDateTime.now()),
+                new NotificationOutboxEntry(11L, new NotificationRequest(1L, 2L, "TITLE_2", "DESCRIPTION_2"), LocalDateTime.now()));
+
+        when(this.notificationRepository.lockOutboxEntries(OUTBOX_DISPATCH_BATCH_SIZE)).thenReturn(entries);
+        when(this.userService.getUserEntitiesByIds(anyCollection())).thenReturn(List.of(this.sender, this.receiver));
+
+        int dispatched = this.underTest.dispatchOutbox();
+
+        assertEquals(2, dispatched);
+        verify(this.notificationRepository).saveAll(this.notificationsCaptor.capture());
+        assertEquals(1, this.notificationsCaptor.getValue().size());
+        assertEquals("TITLE_2", this.notificationsCaptor.getValue().get(0).getTitle());
+        verify(this.notificationRepository).deleteOutboxEntries(List.of(10L, 11L));
+    }
+
+
+
+    @Test
+    public void testDispatchOutbox_Should_DoNothing_When_OutboxEmpty()
+    {
+        when(this.notificationRepository.lockOutboxEntries(OUTBOX_DISPATCH_BATCH_SIZE)).thenReturn(List.of());
+
+        int dispatched = this.underTest.dispatchOutbox();
+
+        assertEquals(0, dispatched);
+        verify(this.notificationRepository, never()).saveAll(any());
+        verify(this.notificationRepository, never()).deleteOutboxEntries(any());
+        verifyNoInteractions(this.userService, this.notificationPublisher);
     }
 
 
@@ -185,14 +273,79 @@ public class NotificationServiceTest
         Long notificationId = 1L;
 
         when(this.notificationRepository.getNotificationById(notificationId)).thenReturn(this.notification);
+        when(this.notificationRepository.markSeenById(notificationId)).thenReturn(1);
 
-        assertFalse(this.notification.isSeen());
+        this.underTest.setSeen(notificationId);
+
+        verify(this.notificationRepository).markSeenById(notificationId);
+        verify(this.notificationRepository, never()).save(any());
+        verify(this.unseenNotificationCounter).add(this.receiver.getId(), -1);
+        verify(this.notificationPublisher).publishUnseenCount(this.receiver.getId(), this.receiver.getEmail());
+    }
+
+
+    @Test
+    public void testSetSeen_Should_NotDecrementCounter_When_UpdateMatchesNothing() throws NotificationNotFoundException
+    {
+        Long notificationId = 1L;
+
+        when(this.notificationRepository.getNotificationById(notificationId)).thenReturn(this.notification);
+        when(this.notificationRepository.markSeenById(notificationId)).thenReturn(0);
 
         this.underTest.setSeen(notificationId);
 
-        verify(this.notificationRepository).save(this.notificationCaptor.capture());
-        Notification savedNotification = this.notificationCaptor.getValue();
-        assertTrue(savedNotification.isSeen());
+        verify(this.notificationRepository, never()).save(any());
+        verifyNoInteractions(this.unseenNotificationCounter);
+        verify(this.notificationPublisher).publishUnseenCount(this.receiver.getId(), this.receiver.getEmail());
+    }
+
+
+    @Test
+    public void testMarkAllSeen_Should_UpdateInOneStatement_And_DecrementCounter_By_AffectedCount()
+    {
+        Long receiverId = this.receiver.getId();
+
+        when(this.notificationRepository.markAllSeenByReceiverId(receiverId)).thenReturn(300);
+        when(this.userService.getUserEntityById(receiverId)).thenReturn(this.receiver);
+
+        int result = this.underTest.markAllSeen(receiverId);
+
+        assertEquals(300, result);
+        verify(this.notificationRepository, never()).save(any());
+        verify(this.unseenNotificationCounter).add(receiverId, -300);
+        verify(this.notificationPublisher).publishUnseenCount(receiverId, this.receiver.getEmail());
+    }
+
+
+    @Test
+    public void testMarkAllSeen_Should_NotTouchCounter_When_NothingWasUnseen()
+    {
+        Long receiverId = this.receiver.getId();
+
+        when(this.notificationRepository.markAllSeenByReceiverId(receiverId)).thenReturn(0);
+
+        int result = this.underTest.markAllSeen(receiverId);
+
+        assertEquals(0, result);
+        verifyNoInteractions(this.unseenNotificationCounter, this.notificationPublisher, this.userService);
+    }
+
+
+    @Test
+    public void testMarkSeenUpTo_Should_UpdateInOneStatement_And_DecrementCounter_By_AffectedCount()
+    {
+        Long receiverId = this.receiver.getId();
+        Long notificationId = 40L;
+
+        when(this.notificationRepository.markSeenByReceiverIdUpToId(receiverId, notificationId)).thenReturn(12);
+        when(this.userService.getUserEntityById(receiverId)).thenReturn(this.receiver);
+
+        int result = this.underTest.markSeenUpTo(receiverId, notificationId);
+
+        assertEquals(12, result);
+        verify(this.notificationRepository, never()).markAllSeenByReceiverId(any());
+        verify(this.unseenNotificationCounter).add(receiverId, -12);
+        verify(this.notificationPublisher).publishUnseenCount(receiverId, this.receiver.getEmail());
     }
 
 
@@ -212,7 +365,7 @@ public class NotificationServiceTest
         when(this.notificationDTOMapper.apply(any(Notification.class)))
                 .thenReturn(this.notificationDTOList.get(0), this.notificationDTOList.subList(1, size).toArray(new NotificationDTO[size]));
 
-        Page<NotificationDTO> result = this.underTest.getNotificationsByReceiverId(receiverId, page, size);
+        Slice<NotificationDTO> result = this.underTest.getNotificationsByReceiverId(receiverId, page, size, PaginationMode.PAGE);
 
         verify(this.notificationRepository).getNotificationsByReceiverIdOrderBySendDateDesc(receiverId, pageable);
 
@@ -228,6 +381,29 @@ public class NotificationServiceTest
     }
 
 
+    @Test
+    public void testGetNotificationsByReceiverId_InSliceMode_Should_ReturnNotificationDTOSlice_WithoutCounting()
+    {
+        Long receiverId = 2L;
+        int page = 1;
+        int size = 5;
+
+        Pageable pageable = PageRequest.of(page, size);
+        Slice<Notification> entitiesSlice = new SliceImpl<>(this.entitiesList.subList(0, size), pageable, false);
+
+        when(this.notificationRepository
+                .getNotificationSliceByReceiverIdOrderBySendDateDesc(receiverId, pageable)).thenReturn(entitiesSlice);
+
+        Slice<NotificationDTO> result = this.underTest.getNotificationsByReceiverId(receiverId, page, size, PaginationMode.SLICE);
+
+        verify(this.notificationRepository).getNotificationSliceByReceiverIdOrderBySendDateDesc(receiverId, pageable);
+        verify(this.notificationRepository, never()).getNotificationsByReceiverIdOrderBySendDateDesc(any(), any());
+
+        assertEquals(size, result.getContent().size());
+        assertFalse(result.hasNext());
+    }
+
+
     @Test
     public void testGetNotificationById_Should_ReturnNotification()
     {
@@ -247,10 +423,11 @@ public class NotificationServiceTest
         Long receiverId = 2L;
 
         int expectedCount = 7;
-        when(this.notificationRepository.countAllByReceiverIdAndSeen(receiverId, false)).thenReturn(expectedCount);
+        when(this.unseenNotificationCounter.get(receiverId)).thenReturn(expectedCount);
 
         int result = this.underTest.getCountNotificationsUnseen(receiverId);
         assertEquals(expectedCount, result);
+        verify(this.notificationRepository, never()).countAllByReceiverIdAndSeen(any(), anyBoolean());
     }
 
 
@@ -3,6 +3,7 @@ package com.company.service;
 import com.company.builder.ProjectBuilder;
 import com.company.builder.UserBuilder;
 import com.company.builder.UserDTOBuilder;
+import com.company.domain.NotificationRequest;
 import com.company.dto.ProjectDTO;
 import com.company.dto.UserDTO;
 import com.company.entity.Project;
@@ -11,6 +12,7 @@ import com.company.enumeration.RoleEnum;
 import com.company.exception.*;
 import com.company.repository.ProjectRepository;
 import com.company.builder.ProjectDTOBuilder;
+import com.company.enumeration.PaginationMode;
 import com.company.service.mapper.ProjectDTOMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,10 +26,16 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import static com.company.constant.ExceptionConstant.VERSION_CONFLICT;
 import static com.company.constant.ProjectConstant.*;
 import static com.company.constant.ProjectConstant.PROJECT_DOES_NOT_EXIST;
+import static com.company.constant.PurgeConstant.PURGE_PROJECT_CHUNK_SIZE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -45,12 +53,18 @@ public class ProjectServiceTest
     @MockBean
     private NotificationService notificationService;
 
+    @MockBean
+    private BugCounterService bugCounterService;
+
     @MockBean
     private ProjectDTOMapper projectDTOMapper;
 
     @Captor
     private ArgumentCaptor<Project> projectCaptor;
 
+    @Captor
+    private ArgumentCaptor<Collection<NotificationRequest>> notificationRequestsCaptor;
+
     @Autowired
     private ProjectService underTest;
 
@@ -129,7 +143,7 @@ public class ProjectServiceTest
         when(this.userService.getUserEntityById(projectLeaderId)).thenReturn(null);
 
         Exception exception = assertThrows
-                (UserNotFoundException.class, () -> this.underTest.addOrUpdate(projectLeaderId, null, newName, newDescription));
+                (UserNotFoundException.class, () -> this.underTest.addOrUpdate(projectLeaderId, null, newName, newDescription, null));
         assertEquals(PROJECT_LEADER_NOT_FOUND, exception.getMessage());
     }
 
@@ -145,7 +159,7 @@ public class ProjectServiceTest
         when(this.projectRepository.findProjectByName(newName)).thenReturn(this.project);
 
         Exception exception = assertThrows
-                (ProjectAlreadyExistsException.class, () -> this.underTest.addOrUpdate(projectLeaderId, null, newName, newDescription));
+                (ProjectAlreadyExistsException.class, () -> this.underTest.addOrUpdate(projectLeaderId, null, newName, newDescription, null));
         assertEquals(PROJECT_ALREADY_EXISTS, exception.getMessage());
     }
 
@@ -163,7 +177,7 @@ public class ProjectServiceTest
         when(this.projectRepository.findProjectByName(currentName)).thenReturn(null);
 
         Exception exception = assertThrows
-                (ProjectDoesNotExistException.class, () -> this.underTest.addOrUpdate(projectLeaderId, currentName, newName, newDescription));
+                (ProjectDoesNotExistException.class, () -> this.underTest.addOrUpdate(projectLeaderId, currentName, newName, newDescription, null));
         assertEquals(PROJECT_DOES_NOT_EXIST, exception.getMessage());
     }
 
@@ -190,12 +204,34 @@ public class ProjectServiceTest
         when(this.projectRepository.findProjectByName(newName)).thenReturn(projectByNewName);
 
         Exception exception = assertThrows
-                (ProjectAlreadyExistsException.class, () -> this.underTest.addOrUpdate(projectLeaderId, currentName, newName, newDescription));
+                (ProjectAlreadyExistsException.class, () -> this.underTest.addOrUpdate(projectLeaderId, currentName, newName, newDescription, null));
         assertEquals(PROJECT_ALREADY_EXISTS, exception.getMessage());
     }
 
 
 
+    @Test
+    public void testAddOrUpdate_ForUpdate_Should_ThrowException_When_VersionDoesNotMatch()
+    {
+        Long projectLeaderId = 1L;
+        String currentName = this.project.getName();
+        String newName = "PROJECT_2";
+        String newDescription = "DESCRIPTION_2";
+        Long staleVersion = this.project.getVersion() + 1;
+
+        when(this.projectRepository.findProjectByName(currentName)).thenReturn(this.project);
+        when(this.projectRepository.findProjectByName(newName)).thenReturn(null);
+
+        Exception exception = assertThrows
+                (VersionConflictException.class, () -> this.underTest.addOrUpdate(projectLeaderId, currentName, newName, newDescription, staleVersion));
+        assertEquals(VERSION_CONFLICT, exception.getMessage());
+
+        assertEquals(currentName, this.project.getName());
+        verify(this.projectRepository, never()).saveAndFlush(any(Project.class));
+    }
+
+
+
     @Test
     public void testAddOrUpdate_ForAdd_Should_AddProject() throws UserNotFoundException, ProjectDoesNotExistException, ProjectAlreadyExistsException
     {
@@ -207,12 +243,12 @@ public class ProjectServiceTest
         when(this.projectRepository.findProjectByName(newName)).thenReturn(null);
         when(this.projectDTOMapper.apply(any(Project.class))).thenReturn(this.projectDTO);
 
-        ProjectDTO result = this.underTest.addOrUpdate(projectLeaderId, null, newName, newDescription);
+        ProjectDTO result = this.underTest.addOrUpdate(projectLeaderId, null, newName, newDescription, null);
         assertNotNull(result);
 
         assertEquals(this.projectDTO, result);
 
-        verify(this.projectRepository).save(this.projectCaptor.capture());
+        verify(this.projectRepository).saveAndFlush(this.projectCaptor.capture());
         Project savedProject = this.projectCaptor.getValue();
         assertEquals(newName, savedProject.getName());
         assertEquals(newDescription, savedProject.getDescription());
@@ -243,12 +279,12 @@ public class ProjectServiceTest
 
         when(this.projectDTOMapper.apply(any(Project.class))).thenReturn(editedProjectDTO);
 
-        ProjectDTO result = this.underTest.addOrUpdate(projectLeaderId, null, newName, newDescription);
+        ProjectDTO result = this.underTest.addOrUpdate(projectLeaderId, null, newName, newDescription, null);
 
         assertNotNull(result);
         assertEquals(editedProjectDTO, result);
 
-        verify(this.projectRepository).save(this.projectCaptor.capture());
+        verify(this.projectRepository).saveAndFlush(this.projectCaptor.capture());
         Project savedProject = this.projectCaptor.getValue();
         assertEquals(newName, savedProject.getName());
         assertEquals(newDescription, savedProject.getDescription());
@@ -271,27 +307,60 @@ public class ProjectServiceTest
 
 
     @Test
-    public void testDeleteProject_Should_DeleteProject_And_NotifyParticipants() throws UserNotFoundException, ProjectDoesNotExistException
+    public void testDeleteProject_Should_MarkProjectAsDeleted_Without_NotifyingParticipants() throws ProjectDoesNotExistException
     {
         Long projectId = 1L;
 
         this.project.setParticipants(this.participants);
         when(this.projectRepository.findProjectById(projectId)).thenReturn(this.project);
 
-        doNothing().when(this.projectRepository).delete(this.project);
-
         when(this.projectDTOMapper.apply(any(Project.class))).thenReturn(this.projectDTO);
         ProjectDTO result = this.underTest.deleteProject(projectId);
 
-        for(User participant : this.participants)
+        assertTrue(this.project.isDeleted());
+        verify(this.bugCounterService).removeProject(projectId);
+        verify(this.projectRepository, never()).delete(any(Project.class));
+        verifyNoInteractions(this.notificationService);
+        assertEquals(this.projectDTO, result);
+    }
+
+
+    @Test
+    public void testPurgeDeletedProjects_Should_Return0_When_NothingWasDeleted() throws UserNotFoundException
+    {
+        when(this.projectRepository.findPurgeableProjects(PURGE_PROJECT_CHUNK_SIZE)).thenReturn(List.of());
+
+        int result = this.underTest.purgeDeletedProjects();
+
+        assertEquals(0, result);
+        verify(this.projectRepository, never()).purgeProjectsByIdIn(anyCollection());
+        verifyNoInteractions(this.notificationService);
+    }
+
+
+    @Test
+    public void testPurgeDeletedProjects_Should_PurgeProjects_And_NotifyParticipants() throws UserNotFoundException
+    {
+        this.project.setParticipants(this.participants);
+        List<Long> projectIds = List.of(this.project.getId());
+
+        when(this.projectRepository.findPurgeableProjects(PURGE_PROJECT_CHUNK_SIZE)).thenReturn(List.of(this.project));
+        when(this.projectRepository.purgeProjectsByIdIn(projectIds)).thenReturn(1);
+
+        int result = this.underTest.purgeDeletedProjects();
+
+        assertEquals(1, result);
+        verify(this.projectRepository).deleteParticipantsByProjectIdIn(projectIds);
+        verify(this.notificationService).sendNotifications(this.notificationRequestsCaptor.capture());
+        List<NotificationRequest> notificationRequests = new ArrayList<>(this.notificationRequestsCaptor.getValue());
+        assertEquals(this.participants.size(), notificationRequests.size());
+        for(int i = 0; i < this.participants.size(); i++)
         {
-            verify(this.notificationService).sendNotificationFromTo
-                    (this.projectLeader.getId(), participant.getId(),
+            assertEquals(new NotificationRequest(this.projectLeader.getId(), this.participants.get(i).getId(),
                             PROJECT_HAS_BEEN_DELETED,
-                            PROJECT + project.getName() + UNASSIGNED_AUTOMATICALLY);
+                            PROJECT + project.getName() + UNASSIGNED_AUTOMATICALLY),
+                    notificationRequests.get(i));
         }
-
-        assertEquals(this.projectDTO, result);
     }
 
 
@@ -309,33 +378,78 @@ public class ProjectServiceTest
 
 
     @Test
-    public void testAddParticipants_Should_AddParticipants_And_NotifyParticipants() throws UserNotFoundException, ProjectDoesNotExistException, UserAlreadyAssignedException
+    public void testAddParticipants_Should_ThrowException_When_ParticipantsListIsEmpty()
+    {
+        Exception exception = assertThrows
+                (EmptyListException.class, () -> this.underTest.addParticipants(1L, List.of()));
+        assertEquals(NO_PARTICIPANTS_SELECTED, exception.getMessage());
+        verifyNoInteractions(this.projectRepository);
+    }
+
+
+    @Test
+    public void testAddParticipants_Should_ThrowException_When_ParticipantDoesNotExist()
     {
         Long projectId = 1L;
-        List<User> participants = this.participants;
+        Set<Long> participantIds = this.participants.stream()
+                .map(User::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
         when(this.projectRepository.findProjectById(projectId)).thenReturn(this.project);
+        when(this.userService.getUserEntitiesByIds(participantIds)).thenReturn(this.participants.subList(1, this.participants.size()));
 
-        assertNull(this.project.getParticipants());
+        Exception exception = assertThrows
+                (UserNotFoundException.class, () -> this.underTest.addParticipants(projectId, this.participants));
+        assertEquals(PARTICIPANT_NOT_FOUND, exception.getMessage());
 
-        this.underTest.addParticipants(projectId, participants);
+        verify(this.projectRepository, never()).insertParticipants(any(), any());
+        verifyNoInteractions(this.notificationService);
+    }
 
-        assertNotNull(this.project.getParticipants());
 
-        verify(this.projectRepository).save(this.projectCaptor.capture());
-        Project savedProject = this.projectCaptor.getValue();
+    @Test
+    public void testAddParticipants_Should_ThrowException_When_ParticipantAlreadyAssigned()
+    {
+        Long projectId = 1L;
+        List<Long> participantIds = this.participants.stream().map(User::getId).toList();
 
-        for(int i = 0; i < this.participants.size(); i++)
-        {
-            User expected = this.participants.get(i);
-            User actual = savedProject.getParticipants().get(i);
+        when(this.projectRepository.findProjectById(projectId)).thenReturn(this.project);
+        when(this.userService.getUserEntitiesByIds(new LinkedHashSet<>(participantIds))).thenReturn(this.participants);
+        when(this.projectRepository.findParticipantIdsIn(projectId, new LinkedHashSet<>(participantIds)))
+                .thenReturn(List.of(participantIds.get(1)));
 
-            assertEquals(expected, actual);
+        Exception exception = assertThrows
+                (UserAlreadyAssignedException.class, () -> this.underTest.addParticipants(projectId, this.participants));
+        assertEquals(PARTICIPANT_ALREADY_ASSIGNED, exception.getMessage());
 
-            verify(this.notificationService).sendNotificationFromTo(this.projectLeader.getId(), actual.getId(),
-                    NEW_ASSIGNMENT_TO_PROJECT,
-                    YOU_VE_BEEN_ASSIGNED_TO + this.project.getName());
-        }
+        verify(this.projectRepository, never()).insertParticipants(any(), any());
+        verifyNoInteractions(this.notificationService);
+    }
+
+
+    @Test
+    public void testAddParticipants_Should_AddParticipants_And_NotifyParticipants() throws UserNotFoundException, ProjectDoesNotExistException, UserAlreadyAssignedException
+    {
+        Long projectId = 1L;
+        List<User> participants = this.participants;
+        Set<Long> participantIds = participants.stream()
+                .map(User::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        when(this.projectRepository.findProjectById(projectId)).thenReturn(this.project);
+        when(this.userService.getUserEntitiesByIds(participantIds)).thenReturn(participants);
+        when(this.projectRepository.findParticipantIdsIn(projectId, participantIds)).thenReturn(List.of());
+
+        this.underTest.addParticipants(projectId, participants);
+
+        verify(this.projectRepository).insertParticipants(projectId, participantIds);
+        verify(this.projectRepository, never()).save(any());
+        assertNull(this.project.getParticipants());
+
+        verify(this.notificationService).sendNotificationToAll(this.projectLeader.getId(), participantIds,
+                NEW_ASSIGNMENT_TO_PROJECT,
+                YOU_VE_BEEN_ASSIGNED_TO + this.project.getName());
+        verify(this.notificationService, never()).sendNotifications(any());
     }
 
 
@@ -372,39 +486,25 @@ public class ProjectServiceTest
     }
 
 
-    @Test
-    public void testUnassignParticipant_Should_ThrowException_When_NoCurrentParticipants()
-    {
-        Long projectId = 1L;
-        Long participantId = 2L;
-
-        when(this.projectRepository.findProjectById(projectId)).thenReturn(this.project);
-        when(this.userService.getUserEntityById(participantId)).thenReturn(this.participants.get(0));
-
-        Exception exception = assertThrows
-                (EmptyListException.class, () -> this.underTest.unassignParticipant(projectId, participantId));
-        assertEquals(CONTAINS_NO_PARTICIPANTS, exception.getMessage());
-    }
-
-
     @Test
     public void testUnassignParticipant_Should_ThrowException_When_UserNotParticipant()
     {
         Long projectId = 1L;
-        Long participantId = 2L;
+        Long participantId = 20L;
 
         User notParticipant = new UserBuilder()
-                .withId(20L)
+                .withId(participantId)
                 .withRole(RoleEnum.ROLE_USER)
                 .build();
 
-        this.project.setParticipants(this.participants);
         when(this.projectRepository.findProjectById(projectId)).thenReturn(this.project);
         when(this.userService.getUserEntityById(participantId)).thenReturn(notParticipant);
+        when(this.projectRepository.deleteParticipants(projectId, List.of(participantId))).thenReturn(0);
 
         Exception exception = assertThrows
                 (UserNotAssignedException.class, () -> this.underTest.unassignParticipant(projectId, participantId));
         assertEquals(USER_IS_NOT_ASSIGNED_TO_PROJECT, exception.getMessage());
+        verifyNoInteractions(this.notificationService);
     }
 
 
@@ -417,16 +517,14 @@ public class ProjectServiceTest
 
         User participantToUnassign = this.participants.get(0);
 
-        this.project.setParticipants(this.participants);
         when(this.projectRepository.findProjectById(projectId)).thenReturn(this.project);
         when(this.userService.getUserEntityById(participantId)).thenReturn(participantToUnassign);
+        when(this.projectRepository.deleteParticipants(projectId, List.of(participantId))).thenReturn(1);
 
-        assertTrue(this.project.getParticipants().contains(participantToUnassign));
         this.underTest.unassignParticipant(projectId, participantId);
 
-        verify(this.projectRepository).save(this.projectCaptor.capture());
-        Project savedProject = this.projectCaptor.getValue();
-        assertFalse(savedProject.getParticipants().contains(participantToUnassign));
+        verify(this.projectRepository).deleteParticipants(projectId, List.of(participantId));
+        verify(this.projectRepository, never()).save(any());
 
         verify(this.notificationService).sendNotificationFromTo(this.projectLeader.getId(), participantId,
                 YOU_VE_BEEN_UNASSIGNED_FROM_PROJECT,
@@ -446,18 +544,16 @@ public class ProjectServiceTest
         String sortOrder = "name";
         boolean ascending = true;
 
-        Page<Project> entitiesPage = new PageImpl<>(this.entitiesList.subList(0, size));
+        Page<ProjectDTO> dtoPage = new PageImpl<>(this.projectDTOList.subList(0, size));
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder).ascending());
 
-        when(this.projectRepository.findProjectsByParticipantsId(participantId, pageable)).thenReturn(entitiesPage);
-        when(this.projectDTOMapper.apply(any(Project.class)))
-                .thenReturn(this.projectDTOList.get(0), this.projectDTOList.subList(1, size).toArray(new ProjectDTO[size]));
+        when(this.projectRepository.findProjectDTOsByParticipantId(participantId, pageable)).thenReturn(dtoPage);
 
-        Page<ProjectDTO> result = this.underTest.getProjectsByParticipantId(participantId, page, size, sortOrder, ascending);
+        Slice<ProjectDTO> result = this.underTest.getProjectsByParticipantId(participantId, page, size, sortOrder, ascending, PaginationMode.PAGE);
         assertNotNull(result);
 
-        verify(this.projectRepository).findProjectsByParticipantsId(participantId, pageable);
-        verify(this.projectDTOMapper, times(size)).apply(any(Project.class));
+        verify(this.projectRepository).findProjectDTOsByParticipantId(participantId, pageable);
+        verifyNoInteractions(this.projectDTOMapper);
 
         assertEquals(size, result.getContent().size());
         for (int i = 0; i < size; i++)
@@ -479,18 +575,16 @@ public class ProjectServiceTest
         String sortOrder = "name";
         boolean ascending = true;
 
-        Page<Project> entitiesPage = new PageImpl<>(this.entitiesList.subList(0, size));
+        Page<ProjectDTO> dtoPage = new PageImpl<>(this.projectDTOList.subList(0, size));
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder).ascending());
 
-        when(this.projectRepository.findProjectsByProjectLeaderId(projectLeaderId, pageable)).thenReturn(entitiesPage);
-        when(this.projectDTOMapper.apply(any(Project.class)))
-                .thenReturn(this.projectDTOList.get(0), this.projectDTOList.subList(1, size).toArray(new ProjectDTO[size]));
+        when(this.projectRepository.findProjectDTOsByProjectLeaderId(projectLeaderId, pageable)).thenReturn(dtoPage);
 
-        Page<ProjectDTO> result = this.underTest.getProjectsByProjectLeaderId(projectLeaderId, page, size, sortOrder, ascending);
+        Slice<ProjectDTO> result = this.underTest.getProjectsByProjectLeaderId(projectLeaderId, page, size, sortOrder, ascending, PaginationMode.PAGE);
         assertNotNull(result);
 
-        verify(this.projectRepository).findProjectsByProjectLeaderId(projectLeaderId, pageable);
-        verify(this.projectDTOMapper, times(size)).apply(any(Project.class));
+        verify(this.projectRepository).findProjectDTOsByProjectLeaderId(projectLeaderId, pageable);
+        verifyNoInteractions(this.projectDTOMapper);
 
         assertEquals(size, result.getContent().size());
         for (int i = 0; i < size; i++)
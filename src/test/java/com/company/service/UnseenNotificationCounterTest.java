@@ -0,0 +1,225 @@
+package com.company.service;
+
+import com.company.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.Tuple;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+@ContextConfiguration(classes = {UnseenNotificationCounter.class})
+@ExtendWith(SpringExtension.class)
+public class UnseenNotificationCounterTest
+{
+    @MockBean
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UnseenNotificationCounter underTest;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.underTest.clear();
+    }
+
+
+    @Test
+    public void testGet_Should_LoadCountOnce_And_ServeLaterReadsFromMemory()
+    {
+        when(this.notificationRepository.countAllByReceiverIdAndSeen(2L, false)).thenReturn(4);
+
+        assertEquals(4, this.underTest.get(2L));
+        assertEquals(4, this.underTest.get(2L));
+
+        verify(this.notificationRepository, times(1)).countAllByReceiverIdAndSeen(2L, false);
+    }
+
+
+    @Test
+    public void testAdd_Should_UpdateCachedCounter_And_NeverGoBelowZero()
+    {
+        when(this.notificationRepository.countAllByReceiverIdAndSeen(2L, false)).thenReturn(1);
+        this.underTest.get(2L);
+
+        this.underTest.add(2L, 3);
+        assertEquals(4, this.underTest.get(2L));
+
+        this.underTest.add(2L, -10);
+        assertEquals(0, this.underTest.get(2L));
+    }
+
+
+    @Test
+    public void testAdd_Should_SkipReceiver_When_NotCached()
+    {
+        this.underTest.add(2L, 1);
+
+        verify(this.notificationRepository, never()).countAllByReceiverIdAndSeen(any(), anyBoolean());
+
+        when(this.notificationRepository.countAllByReceiverIdAndSeen(2L, false)).thenReturn(6);
+        assertEquals(6, this.underTest.get(2L));
+    }
+
+
+    @Test
+    public void testAdd_Should_WaitForCommit_When_TransactionIsActive()
+    {
+        when(this.notificationRepository.countAllByReceiverIdAndSeen(2L, false)).thenReturn(1);
+        this.underTest.get(2L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try
+        {
+            this.underTest.add(2L, 1);
+            assertEquals(1, this.underTest.get(2L));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(2, this.underTest.get(2L));
+    }
+
+
+    @Test
+    public void testAdd_Should_NotApplyDeltaTwice_When_CounterIsLoadedWhileCommitting()
+    {
+        TransactionSynchronizationManager.initSynchronization();
+        try
+        {
+            this.underTest.add(2L, 1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+
+            // -the miss counts the row that is being committed
+            when(this.notificationRepository.countAllByReceiverIdAndSeen(2L, false)).thenReturn(6);
+            assertEquals(6, this.underTest.get(2L));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+            {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            });
+        } finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(6, this.underTest.get(2L));
+        assertEquals(6, this.underTest.get(2L));
+        verify(this.notificationRepository, times(2)).countAllByReceiverIdAndSeen(2L, false);
+    }
+
+
+    @Test
+    public void testAdd_Should_ApplyDelta_When_CounterWasLoadedBeforeCommit()
+    {
+        when(this.notificationRepository.countAllByReceiverIdAndSeen(2L, false)).thenReturn(5);
+        this.underTest.get(2L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try
+        {
+            this.underTest.add(2L, 1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+            {
+                synchronization.beforeCommit(false);
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            });
+        } finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(6, this.underTest.get(2L));
+        verify(this.notificationRepository, times(1)).countAllByReceiverIdAndSeen(2L, false);
+    }
+
+
+    @Test
+    public void testAdd_Should_CacheCounterAgain_When_CommitRolledBack()
+    {
+        TransactionSynchronizationManager.initSynchronization();
+        try
+        {
+            this.underTest.add(2L, 1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+            {
+                synchronization.beforeCommit(false);
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            });
+        } finally
+        {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        when(this.notificationRepository.countAllByReceiverIdAndSeen(2L, false)).thenReturn(5);
+        assertEquals(5, this.underTest.get(2L));
+        assertEquals(5, this.underTest.get(2L));
+        verify(this.notificationRepository, times(1)).countAllByReceiverIdAndSeen(2L, false);
+    }
+
+
+    @Test
+    public void testReconcile_Should_RepairDriftedCounters_With_OneGroupedQuery()
+    {
+        when(this.notificationRepository.countAllByReceiverIdAndSeen(any(), eq(false))).thenReturn(3);
+        this.underTest.get(2L);
+        this.underTest.get(3L);
+        this.underTest.get(4L);
+
+        Tuple receiverTwo = mock(Tuple.class);
+        when(receiverTwo.get("receiverId", Long.class)).thenReturn(2L);
+        when(receiverTwo.get("unseen", Long.class)).thenReturn(3L);
+        Tuple receiverThree = mock(Tuple.class);
+        when(receiverThree.get("receiverId", Long.class)).thenReturn(3L);
+        when(receiverThree.get("unseen", Long.class)).thenReturn(5L);
+        when(this.notificationRepository.countUnseenByReceiverIdIn(any())).thenReturn(List.of(receiverTwo, receiverThree));
+
+        int repairedCounters = this.underTest.reconcile();
+
+        assertEquals(2, repairedCounters);
+        assertEquals(3, this.underTest.get(2L));
+        assertEquals(5, this.underTest.get(3L));
+        assertEquals(0, this.underTest.get(4L));
+        verify(this.notificationRepository, times(1)).countUnseenByReceiverIdIn(any());
+    }
+
+
+    @Test
+    public void testReconcile_Should_KeepCounter_When_ModifiedWhileCounting()
+    {
+        when(this.notificationRepository.countAllByReceiverIdAndSeen(2L, false)).thenReturn(3);
+        this.underTest.get(2L);
+
+        Tuple receiverTwo = mock(Tuple.class);
+        when(receiverTwo.get("receiverId", Long.class)).thenReturn(2L);
+        when(receiverTwo.get("unseen", Long.class)).thenReturn(3L);
+        when(this.notificationRepository.countUnseenByReceiverIdIn(any())).thenAnswer(invocation ->
+        {
+            // -a dispatch commits after the rows were counted
+            this.underTest.add(2L, 1);
+            return List.of(receiverTwo);
+        });
+
+        int repairedCounters = this.underTest.reconcile();
+
+        assertEquals(0, repairedCounters);
+        assertEquals(4, this.underTest.get(2L));
+    }
+}